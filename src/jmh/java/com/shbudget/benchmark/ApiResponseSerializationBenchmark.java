@@ -0,0 +1,75 @@
+package com.shbudget.benchmark;
+
+import com.shbudget.domain.transaction.dto.response.TransactionResponse;
+import com.shbudget.domain.transaction.entity.Transaction;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import com.shbudget.global.common.ApiResult;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 목록 응답 생성 비용 측정
+ *
+ * toResponses: 엔티티 → TransactionResponse 변환 (이름 정보 포함)
+ * serializePrebuilt: 이미 만든 ApiResult<List<TransactionResponse>> JSON 직렬화
+ * toResponsesAndSerialize: 변환 + 직렬화 (컨트롤러가 응답 한 건을 만드는 전체 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    // 페이지 크기(20)와 월간 전체 조회 규모
+    @Param({"20", "500"})
+    private int rows;
+
+    private final List<Transaction> transactions = new ArrayList<>();
+    private JsonMapper jsonMapper;
+    private ApiResult<List<TransactionResponse>> prebuilt;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        for (int i = 0; i < rows; i++) {
+            transactions.add(Transaction.builder()
+                    .id((long) i + 1)
+                    .bookId(1L)
+                    .type(i % 5 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE)
+                    .amount(1_000L + i * 37L)
+                    .assetId((long) i % 4 + 1)
+                    .categoryId((long) i % 12 + 1)
+                    .date(start.plusDays(i % 31))
+                    .memo(i % 3 == 0 ? null : "점심 식사 " + i)
+                    .createdBy((long) i % 2 + 1)
+                    .createdAt(LocalDateTime.of(2026, 3, 1, 12, 0).plusMinutes(i))
+                    .build());
+        }
+        prebuilt = ApiResult.success(toResponses());
+    }
+
+    @Benchmark
+    public List<TransactionResponse> toResponses() {
+        List<TransactionResponse> responses = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            responses.add(TransactionResponse.from(transaction, "생활비 통장", "식비", "민지"));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public byte[] serializePrebuilt() {
+        return jsonMapper.writeValueAsBytes(prebuilt);
+    }
+
+    @Benchmark
+    public byte[] toResponsesAndSerialize() {
+        return jsonMapper.writeValueAsBytes(ApiResult.success(toResponses()));
+    }
+}
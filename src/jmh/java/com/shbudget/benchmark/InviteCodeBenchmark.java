@@ -0,0 +1,44 @@
+package com.shbudget.benchmark;
+
+import com.shbudget.domain.book.entity.Book;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가계부 초대 코드 생성 비용 측정 (공유 SecureRandom 사용)
+ *
+ * createBook: 가계부 생성 (초대 코드 1회 생성 포함)
+ * regenerate: 초대 코드 재발급 단일 스레드
+ * regenerateContended: 여러 스레드가 동시에 재발급 (SecureRandom 경합 확인용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InviteCodeBenchmark {
+
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        book = Book.create("우리집 가계부", 1L);
+    }
+
+    @Benchmark
+    public Book createBook() {
+        return Book.create("우리집 가계부", 1L);
+    }
+
+    @Benchmark
+    public String regenerate() {
+        book.regenerateInviteCode();
+        return book.getInviteCode();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String regenerateContended() {
+        book.regenerateInviteCode();
+        return book.getInviteCode();
+    }
+}
@@ -0,0 +1,74 @@
+package com.shbudget.benchmark;
+
+import com.shbudget.domain.auth.service.TokenRevocationService;
+import com.shbudget.global.config.jwt.JwtAuthenticationFilter;
+import com.shbudget.global.config.jwt.JwtProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 측정
+ *
+ * legacyDoubleParse: 기존 방식 (요청마다 parser 생성 + 서명 검증 2회)
+ * verifyOnce: parser 재사용 + 서명 검증 1회 (캐시 미사용)
+ * filterCached: 실제 필터 경로 (같은 토큰 반복 시 캐시 적중)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long!!";
+
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationFilter filter;
+    private SecretKey secretKey;
+    private String token;
+    private FilterChain noopChain;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET, 3600000L, 604800000L, 10000);
+        // 폐기 목록은 비어 있는 상태 (요청 경로에서는 저장소를 사용하지 않음)
+        filter = new JwtAuthenticationFilter(jwtProvider, new TokenRevocationService(null, null, 60));
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtProvider.createAccessToken(1L, jwtProvider.newFamilyId());
+        noopChain = (request, response) -> { };
+    }
+
+    @Benchmark
+    public void legacyDoubleParse(Blackhole blackhole) {
+        // validateToken
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        // getMemberId
+        String subject = Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+        blackhole.consume(Long.valueOf(subject));
+    }
+
+    @Benchmark
+    public void verifyOnce(Blackhole blackhole) {
+        blackhole.consume(jwtProvider.verify(token));
+    }
+
+    @Benchmark
+    public void filterCached(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/transactions");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), noopChain);
+        blackhole.consume(request.getAttribute("jwtMemberId"));
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,53 @@
+package com.shbudget.benchmark;
+
+import com.shbudget.global.config.jwt.JwtProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider 발급/검증 비용 측정
+ *
+ * createAccessToken / createRefreshToken: 로그인, 토큰 재발급 경로의 서명 비용
+ * verify: 서명 검증 + 클레임 파싱 (캐시 미사용)
+ * verifyCached: 같은 토큰 반복 검증 (캐시 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long!!";
+
+    private JwtProvider jwtProvider;
+    private String familyId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET, 3600000L, 604800000L, 10000);
+        familyId = jwtProvider.newFamilyId();
+        token = jwtProvider.createAccessToken(1L, familyId);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(1L, familyId);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtProvider.createRefreshToken(1L, familyId);
+    }
+
+    @Benchmark
+    public Optional<?> verify() {
+        return jwtProvider.verify(token);
+    }
+
+    @Benchmark
+    public Optional<?> verifyCached() {
+        return jwtProvider.verifyCached(token);
+    }
+}
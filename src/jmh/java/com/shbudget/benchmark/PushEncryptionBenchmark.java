@@ -0,0 +1,107 @@
+package com.shbudget.benchmark;
+
+import com.shbudget.domain.pushsubscription.service.PushPayloadEncryptor;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 푸시 페이로드 암호화 비용 측정
+ *
+ * encryptSingle: 구독 1건 암호화 (ECDH + HKDF + AES-128-GCM)
+ * fanOutSerial / fanOutParallel: 가계부 멤버 전체 기기 대상 fan-out을 직렬/CPU 풀 병렬로 처리
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PushEncryptionBenchmark {
+
+    @Param({"8", "32"})
+    private int devices;
+
+    private final List<String[]> subscriptions = new ArrayList<>();
+    private byte[] payload;
+    private ExecutorService pool;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        SecureRandom random = new SecureRandom();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        for (int i = 0; i < devices; i++) {
+            KeyPair keyPair = generator.generateKeyPair();
+            byte[] auth = new byte[16];
+            random.nextBytes(auth);
+            subscriptions.add(new String[]{
+                    encoder.encodeToString(encodePoint((ECPublicKey) keyPair.getPublic())),
+                    encoder.encodeToString(auth)
+            });
+        }
+        payload = "{\"title\":\"가계부 알림\",\"body\":\"민지님이 지출 12,000원을 등록했습니다.\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public byte[] encryptSingle() throws Exception {
+        String[] subscription = subscriptions.get(0);
+        return PushPayloadEncryptor.encrypt(payload, subscription[0], subscription[1]);
+    }
+
+    @Benchmark
+    public int fanOutSerial() throws Exception {
+        int total = 0;
+        for (String[] subscription : subscriptions) {
+            total += PushPayloadEncryptor.encrypt(payload, subscription[0], subscription[1]).length;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int fanOutParallel() throws Exception {
+        List<Future<byte[]>> futures = new ArrayList<>(subscriptions.size());
+        for (String[] subscription : subscriptions) {
+            futures.add(pool.submit(() -> PushPayloadEncryptor.encrypt(payload, subscription[0], subscription[1])));
+        }
+        int total = 0;
+        for (Future<byte[]> future : futures) {
+            total += future.get().length;
+        }
+        return total;
+    }
+
+    private static byte[] encodePoint(ECPublicKey key) {
+        byte[] point = new byte[65];
+        point[0] = 0x04;
+        copy(key.getW().getAffineX(), point, 1);
+        copy(key.getW().getAffineY(), point, 33);
+        return point;
+    }
+
+    private static void copy(BigInteger value, byte[] target, int offset) {
+        byte[] bytes = value.toByteArray();
+        byte[] trimmed = bytes.length > 32 ? Arrays.copyOfRange(bytes, bytes.length - 32, bytes.length) : bytes;
+        System.arraycopy(trimmed, 0, target, offset + 32 - trimmed.length, trimmed.length);
+    }
+}
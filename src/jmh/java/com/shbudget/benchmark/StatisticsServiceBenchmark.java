@@ -0,0 +1,161 @@
+package com.shbudget.benchmark;
+
+import com.shbudget.domain.asset.repository.AssetRepository;
+import com.shbudget.domain.book.entity.Book;
+import com.shbudget.domain.book.entity.BookMember;
+import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.repository.BookRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
+import com.shbudget.domain.category.entity.Category;
+import com.shbudget.domain.category.repository.CategoryRepository;
+import com.shbudget.domain.member.entity.Member;
+import com.shbudget.domain.member.repository.MemberRepository;
+import com.shbudget.domain.statistics.dto.response.CategoryStatisticsResponse;
+import com.shbudget.domain.statistics.dto.response.ConsolidatedStatisticsResponse;
+import com.shbudget.domain.statistics.dto.response.MemberContributionResponse;
+import com.shbudget.domain.statistics.service.StatisticsService;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import com.shbudget.domain.transaction.repository.TransactionRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 서비스의 메모리 내 가공 비용 측정 (DB 조회 결과는 미리 만들어 둔 행으로 대체)
+ *
+ * categoryStatistics: 카테고리 매핑 + 비율 계산 + 금액 정렬
+ * memberContribution: 멤버별 수입/지출 병합 + 정렬
+ * consolidatedStatistics: 가계부별 합계 조립 + 카테고리 이름 기준 병합 + 정렬
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatisticsServiceBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+
+    // 가계부당 카테고리 수
+    @Param({"12", "100"})
+    private int categories;
+
+    // 통합 통계 대상 가계부 수
+    @Param({"1", "10"})
+    private int books;
+
+    private StatisticsService statisticsService;
+
+    @Setup
+    public void setUp() {
+        List<Long> bookIds = new ArrayList<>();
+        List<Book> bookEntities = new ArrayList<>();
+        List<BookMember> bookMembers = new ArrayList<>();
+        List<Category> categoryEntities = new ArrayList<>();
+        List<Object[]> categoryRows = new ArrayList<>();
+        List<Object[]> bookTypeRows = new ArrayList<>();
+        List<Object[]> assetRows = new ArrayList<>();
+
+        long categoryId = 1;
+        for (long bookId = 1; bookId <= books; bookId++) {
+            bookIds.add(bookId);
+            Book book = Book.create("가계부 " + bookId, MEMBER_ID);
+            ReflectionTestUtils.setField(book, "id", bookId);
+            bookEntities.add(book);
+            bookMembers.add(BookMember.createMember(bookId, MEMBER_ID));
+
+            for (int i = 0; i < categories; i++, categoryId++) {
+                // 가계부마다 같은 이름을 써서 통합 통계에서 병합이 일어나도록 한다
+                categoryEntities.add(Category.builder()
+                        .id(categoryId)
+                        .bookId(bookId)
+                        .name("카테고리 " + i)
+                        .build());
+                categoryRows.add(new Object[]{categoryId, 10_000L + categoryId * 131 % 97_000, 1L + i % 20});
+            }
+            bookTypeRows.add(new Object[]{bookId, TransactionType.INCOME, 3_000_000L});
+            bookTypeRows.add(new Object[]{bookId, TransactionType.EXPENSE, 1_800_000L});
+            assetRows.add(new Object[]{bookId, 12_000_000L});
+        }
+
+        List<Object[]> memberRows = new ArrayList<>();
+        List<Member> members = new ArrayList<>();
+        for (long memberId = 1; memberId <= 4; memberId++) {
+            memberRows.add(new Object[]{memberId, 500_000L * memberId});
+            members.add(Member.builder().id(memberId).email("member" + memberId + "@test.com")
+                    .nickname("멤버" + memberId).build());
+        }
+
+        List<Category> firstBookCategories = categoryEntities.subList(0, categories);
+        List<Object[]> firstBookCategoryRows = categoryRows.subList(0, categories);
+
+        TransactionRepository transactionRepository = stub(TransactionRepository.class, Map.of(
+                "sumAmountByBookIdAndTypeAndDateBetween", 1_800_000L,
+                "sumAmountByCategoryAndDateBetween", firstBookCategoryRows,
+                "sumAmountByMemberAndTypeAndDateBetween", memberRows,
+                "sumAmountByBookIdsAndTypeGroupByBook", bookTypeRows,
+                "sumAmountByCategoryAndBookIdsAndDateBetween", categoryRows
+        ));
+        AssetRepository assetRepository = stub(AssetRepository.class, Map.of(
+                "sumBalanceGroupByBookIdIn", assetRows
+        ));
+        CategoryRepository categoryRepository = stub(CategoryRepository.class, Map.of(
+                "findAllByBookIdOrderByCreatedAtAsc", firstBookCategories,
+                "findAllByBookIdIn", categoryEntities
+        ));
+        MemberRepository memberRepository = stub(MemberRepository.class, Map.of(
+                "findAllById", members
+        ));
+        BookRepository bookRepository = stub(BookRepository.class, Map.of(
+                "findAllById", bookEntities
+        ));
+        BookMemberRepository bookMemberRepository = stub(BookMemberRepository.class, Map.of(
+                "findAllByMemberId", bookMembers
+        ));
+
+        statisticsService = new StatisticsService(transactionRepository, assetRepository, categoryRepository,
+                memberRepository, new BookAccessChecker(bookMemberRepository, 300, 100000), bookRepository);
+    }
+
+    @Benchmark
+    public CategoryStatisticsResponse categoryStatistics() {
+        return statisticsService.getCategoryStatistics(MEMBER_ID, 1L, 2026, 3);
+    }
+
+    @Benchmark
+    public List<MemberContributionResponse> memberContribution() {
+        return statisticsService.getMemberContribution(MEMBER_ID, 1L, 2026, 3);
+    }
+
+    @Benchmark
+    public ConsolidatedStatisticsResponse consolidatedStatistics() {
+        return statisticsService.getConsolidatedStatistics(MEMBER_ID, 2026, 3);
+    }
+
+    // === Private Helper Methods ===
+
+    /**
+     * 메서드 이름별로 준비된 값을 돌려주는 저장소 (그 외 메서드는 호출되면 실패)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> results) {
+        Map<String, Object> answers = new HashMap<>(results);
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            if (!answers.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answers.get(method.getName());
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package com.shbudget.benchmark;
+
+import com.shbudget.domain.pushsubscription.service.PushMessage;
+import com.shbudget.domain.pushsubscription.service.VapidSigner;
+import com.shbudget.domain.pushsubscription.service.WebPushService;
+import com.shbudget.global.config.VapidConfig;
+import com.sun.net.httpserver.HttpServer;
+import nl.martijndwars.webpush.Notification;
+import nl.martijndwars.webpush.PushService;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.security.*;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Web Push 발송 비용 측정 (로컬 mock 엔드포인트, 201 응답)
+ *
+ * legacyLibrarySend: 기존 nl.martijndwars PushService (메시지마다 VAPID 서명 + Apache 클라이언트)
+ * httpClientSend: 공유 HttpClient + origin별 캐시된 VAPID 헤더
+ * vapidHeaderCached: 캐시 적중 시 VAPID 헤더 비용
+ *
+ * 코어당 처리량 비교: ./gradlew jmh -Pjmh.includes=WebPushSendBenchmark 후 ops/s를 스레드 수(-t)로 나누어 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WebPushSendBenchmark {
+
+    private HttpServer server;
+    private String endpoint;
+    private String origin;
+    private PushService legacyPushService;
+    private VapidSigner vapidSigner;
+    private WebPushService webPushService;
+    private PushMessage message;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/push", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        origin = "http://127.0.0.1:" + server.getAddress().getPort();
+        endpoint = origin + "/push/subscription";
+
+        KeyPair vapid = generateP256();
+        String vapidPublic = encodePublic((ECPublicKey) vapid.getPublic());
+        String vapidPrivate = encodePrivate((ECPrivateKey) vapid.getPrivate());
+
+        KeyPair subscriber = generateP256();
+        byte[] authSecret = new byte[16];
+        new SecureRandom().nextBytes(authSecret);
+        String p256dh = encodePublic((ECPublicKey) subscriber.getPublic());
+        String auth = Base64.getUrlEncoder().withoutPadding().encodeToString(authSecret);
+
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        legacyPushService = new PushService(vapidPublic, vapidPrivate, "mailto:bench@budget.app");
+
+        VapidConfig vapidConfig = new VapidConfig();
+        ReflectionTestUtils.setField(vapidConfig, "publicKey", vapidPublic);
+        ReflectionTestUtils.setField(vapidConfig, "privateKey", vapidPrivate);
+        ReflectionTestUtils.setField(vapidConfig, "subject", "mailto:bench@budget.app");
+        vapidSigner = new VapidSigner(vapidConfig);
+        webPushService = new WebPushService(vapidSigner, null, null, 3000, 10000, 86400);
+
+        message = new PushMessage(1L, 1L, endpoint, p256dh, auth, "가계부 알림", "민지님이 지출 12,000원을 등록했습니다.");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public int legacyLibrarySend() throws Exception {
+        Notification notification = new Notification(endpoint, message.p256dh(), message.auth(),
+                "{\"title\":\"" + message.title() + "\",\"body\":\"" + message.body() + "\"}");
+        return legacyPushService.send(notification).getStatusLine().getStatusCode();
+    }
+
+    @Benchmark
+    public void httpClientSend() {
+        webPushService.deliver(webPushService.encrypt(message));
+    }
+
+    @Benchmark
+    public String vapidHeaderCached() {
+        return vapidSigner.authorizationHeader(origin);
+    }
+
+    // === Key Helpers ===
+
+    private static KeyPair generateP256() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String encodePublic(ECPublicKey key) {
+        byte[] point = new byte[65];
+        point[0] = 0x04;
+        copy(key.getW().getAffineX(), point, 1);
+        copy(key.getW().getAffineY(), point, 33);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(point);
+    }
+
+    private static String encodePrivate(ECPrivateKey key) {
+        byte[] scalar = new byte[32];
+        copy(key.getS(), scalar, 0);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(scalar);
+    }
+
+    private static void copy(BigInteger value, byte[] target, int offset) {
+        byte[] bytes = value.toByteArray();
+        byte[] trimmed = bytes.length > 32 ? Arrays.copyOfRange(bytes, bytes.length - 32, bytes.length) : bytes;
+        System.arraycopy(trimmed, 0, target, offset + 32 - trimmed.length, trimmed.length);
+    }
+}
@@ -20,4 +20,7 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
     Long sumBalanceByBookId(@Param("bookId") Long bookId);
 
     boolean existsByIdAndBookId(Long id, Long bookId);
+
+    @Query("SELECT a.bookId, SUM(a.balance) FROM Asset a WHERE a.bookId IN :bookIds GROUP BY a.bookId")
+    List<Object[]> sumBalanceGroupByBookIdIn(@Param("bookIds") List<Long> bookIds);
 }
@@ -6,18 +6,23 @@ import com.shbudget.domain.asset.dto.AssetSummaryResponse;
 import com.shbudget.domain.asset.dto.AssetUpdateRequest;
 import com.shbudget.domain.asset.entity.Asset;
 import com.shbudget.domain.asset.repository.AssetRepository;
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
+import com.shbudget.domain.book.service.BookChangeEvent;
+import com.shbudget.domain.book.service.BookChangeType;
 import com.shbudget.domain.member.entity.Member;
 import com.shbudget.domain.member.repository.MemberRepository;
+import com.shbudget.domain.pushsubscription.service.BookNotification;
 import com.shbudget.domain.pushsubscription.service.NotificationService;
 import com.shbudget.global.exception.CustomException;
 import com.shbudget.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -26,29 +31,34 @@ import java.util.List;
 public class AssetService {
 
     private final AssetRepository assetRepository;
-    private final BookMemberRepository bookMemberRepository;
+    private final BookAccessChecker bookAccessChecker;
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AssetResponse createAsset(Long memberId, Long bookId, AssetCreateRequest request) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         // ownerMemberId 검증 (있는 경우)
         if (request.ownerMemberId() != null) {
-            validateBookMember(bookId, request.ownerMemberId());
+            bookAccessChecker.validateBookMember(bookId, request.ownerMemberId());
         }
 
         Asset asset = Asset.create(bookId, request.name(), request.balance(), request.ownerMemberId());
         Asset savedAsset = assetRepository.save(asset);
 
+        // 실시간 변경 이벤트 (커밋 후 전송)
+        eventPublisher.publishEvent(BookChangeEvent.of(
+                bookId, BookChangeType.ASSET_BALANCE_CHANGED, savedAsset.getId(), memberId, savedAsset.getId()));
+
         // 푸시 알림
         try {
             String nickname = memberRepository.findById(memberId)
                     .map(Member::getNickname).orElse("누군가");
             String body = nickname + "님이 자산 '" + request.name() + "'을(를) 추가했습니다.";
-            notificationService.notifyBookMembers(bookId, memberId, "가계부 알림", body);
+            notificationService.notifyBookMembers(BookNotification.of(bookId, memberId, nickname, "가계부 알림", body));
         } catch (Exception e) {
             log.warn("Push notification failed", e);
         }
@@ -58,7 +68,7 @@ public class AssetService {
 
     public List<AssetResponse> getAssets(Long memberId, Long bookId) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         List<Asset> assets = assetRepository.findAllByBookId(bookId);
         return assets.stream()
@@ -68,7 +78,7 @@ public class AssetService {
 
     public AssetResponse getAsset(Long memberId, Long bookId, Long assetId) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Asset asset = assetRepository.findByIdAndBookId(assetId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ASSET_NOT_FOUND));
@@ -79,25 +89,31 @@ public class AssetService {
     @Transactional
     public AssetResponse updateAsset(Long memberId, Long bookId, Long assetId, AssetUpdateRequest request) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Asset asset = assetRepository.findByIdAndBookId(assetId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ASSET_NOT_FOUND));
 
         // ownerMemberId 검증 (있는 경우)
         if (request.ownerMemberId() != null) {
-            validateBookMember(bookId, request.ownerMemberId());
+            bookAccessChecker.validateBookMember(bookId, request.ownerMemberId());
         }
 
+        Long previousBalance = asset.getBalance();
         asset.updateAsset(request.name(), request.balance(), request.ownerMemberId());
 
+        if (!Objects.equals(previousBalance, asset.getBalance())) {
+            eventPublisher.publishEvent(BookChangeEvent.of(
+                    bookId, BookChangeType.ASSET_BALANCE_CHANGED, assetId, memberId, assetId));
+        }
+
         return buildAssetResponse(asset);
     }
 
     @Transactional
     public void deleteAsset(Long memberId, Long bookId, Long assetId) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Asset asset = assetRepository.findByIdAndBookId(assetId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ASSET_NOT_FOUND));
@@ -108,11 +124,14 @@ public class AssetService {
         // }
 
         assetRepository.delete(asset);
+
+        eventPublisher.publishEvent(BookChangeEvent.of(
+                bookId, BookChangeType.ASSET_BALANCE_CHANGED, assetId, memberId, assetId));
     }
 
     public AssetSummaryResponse getTotalAssets(Long memberId, Long bookId) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Long totalBalance = assetRepository.sumBalanceByBookId(bookId);
         Integer assetCount = assetRepository.findAllByBookId(bookId).size();
@@ -120,12 +139,6 @@ public class AssetService {
         return AssetSummaryResponse.of(totalBalance, assetCount);
     }
 
-    private void validateBookMember(Long bookId, Long memberId) {
-        if (!bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)) {
-            throw new CustomException(ErrorCode.NOT_BOOK_MEMBER);
-        }
-    }
-
     private AssetResponse buildAssetResponse(Asset asset) {
         if (asset.getOwnerMemberId() == null) {
             return AssetResponse.from(asset);
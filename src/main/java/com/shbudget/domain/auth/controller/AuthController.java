@@ -6,8 +6,10 @@ import com.shbudget.domain.auth.dto.request.RegisterRequest;
 import com.shbudget.domain.auth.dto.response.AuthResponse;
 import com.shbudget.domain.auth.service.AuthService;
 import com.shbudget.global.common.ApiResult;
+import com.shbudget.global.common.ResponseStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -34,8 +36,9 @@ public class AuthController {
 
     @Operation(summary = "로그인", description = "이메일, 비밀번호로 로그인하고 JWT 토큰을 발급합니다.")
     @PostMapping("/login")
-    public ResponseEntity<ApiResult<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authService.login(request);
+    public ResponseEntity<ApiResult<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                         HttpServletRequest httpRequest) {
+        AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResult.success(response));
     }
 
@@ -45,4 +48,11 @@ public class AuthController {
         AuthResponse response = authService.refresh(request);
         return ResponseEntity.ok(ApiResult.success(response));
     }
+
+    @Operation(summary = "로그아웃", description = "리프레시 토큰과 같은 로그인에서 발급된 모든 토큰을 폐기합니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResult<Void>> logout(@Valid @RequestBody RefreshRequest request) {
+        authService.logout(request);
+        return ResponseEntity.ok(ApiResult.of(ResponseStatus.SUCCESS, null));
+    }
 }
@@ -0,0 +1,6 @@
+package com.shbudget.domain.auth.entity;
+
+public enum RevocationType {
+    TOKEN,   // 토큰 하나 (jti)
+    FAMILY   // 같은 로그인에서 발급된 토큰 전체 (fam)
+}
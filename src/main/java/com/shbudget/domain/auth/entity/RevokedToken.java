@@ -0,0 +1,46 @@
+package com.shbudget.domain.auth.entity;
+
+import com.shbudget.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_created_at", columnList = "created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_revoked_token_id", columnNames = "token_id")
+})
+public class RevokedToken extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "token_id", length = 64)
+    private String tokenId;  // jti 또는 family id
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RevocationType type;
+
+    @Column(nullable = false, name = "expires_at")
+    private LocalDateTime expiresAt;  // 이 시각 이후에는 토큰 자체가 만료되므로 정리 대상
+
+    // 정적 팩토리 메서드
+    public static RevokedToken create(String tokenId, RevocationType type, LocalDateTime expiresAt) {
+        return RevokedToken.builder()
+                .tokenId(tokenId)
+                .type(type)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
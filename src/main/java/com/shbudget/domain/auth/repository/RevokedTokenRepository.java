@@ -0,0 +1,25 @@
+package com.shbudget.domain.auth.repository;
+
+import com.shbudget.domain.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // 기준 시각 이후 추가된 폐기 목록 (증분 동기화용)
+    List<RevokedToken> findAllByCreatedAtAfterAndExpiresAtAfter(LocalDateTime createdAt, LocalDateTime now);
+
+    boolean existsByTokenId(String tokenId);
+
+    // 만료된 폐기 기록 정리
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -8,12 +8,14 @@ import com.shbudget.domain.book.service.BookService;
 import com.shbudget.domain.member.entity.Member;
 import com.shbudget.domain.member.repository.MemberRepository;
 import com.shbudget.global.config.jwt.JwtProvider;
+import com.shbudget.global.config.jwt.VerifiedToken;
 import com.shbudget.global.exception.CustomException;
 import com.shbudget.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -22,55 +24,131 @@ public class AuthService {
 
     private final MemberRepository memberRepository;
     private final BookService bookService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginAttemptLimiter loginAttemptLimiter;
     private final JwtProvider jwtProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 회원가입
+     * BCrypt 해싱은 최대 수 초까지 대기할 수 있으므로 트랜잭션을 열기 전에 수행해 DB 커넥션을 잡고 있지 않는다.
+     * 중복 확인, 회원 저장, 기본 가계부 생성은 해싱이 끝난 뒤 한 트랜잭션으로 처리한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse register(RegisterRequest request) {
+        // 이미 가입된 이메일은 해싱 전에 거절 (최종 확인은 저장 트랜잭션에서)
         if (memberRepository.existsByEmail(request.email())) {
             throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
         }
 
-        String encodedPassword = passwordEncoder.encode(request.password());
-        Member member = Member.createWithPassword(request.email(), encodedPassword, request.nickname());
-        Member savedMember = memberRepository.save(member);
+        String encodedPassword = passwordHasher.encode(request.password());
 
-        // 새 회원에게 기본 가계부 생성
-        String bookName = savedMember.getNickname() + "의 가계부";
-        bookService.createBookForMember(savedMember.getId(), bookName);
+        Member savedMember = transactionTemplate.execute(status -> {
+            if (memberRepository.existsByEmail(request.email())) {
+                throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
+            }
+            Member member = memberRepository.save(
+                    Member.createWithPassword(request.email(), encodedPassword, request.nickname()));
+
+            // 새 회원에게 기본 가계부 생성
+            String bookName = member.getNickname() + "의 가계부";
+            bookService.createBookForMember(member.getId(), bookName);
+            return member;
+        });
 
         return createAuthResponse(savedMember);
     }
 
-    public AuthResponse login(LoginRequest request) {
+    /**
+     * 로그인
+     * BCrypt 검증은 최대 수 초까지 대기할 수 있으므로 트랜잭션 밖에서 수행해 DB 커넥션을 잡고 있지 않는다.
+     * 회원 조회와 재해싱 저장은 각각 짧은 트랜잭션으로 처리한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        // BCrypt 검증 전에 시도 횟수부터 확인
+        loginAttemptLimiter.checkAndRecordAttempt(request.email(), clientIp);
+
         Member member = memberRepository.findByEmail(request.email())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+                .orElseThrow(() -> {
+                    loginAttemptLimiter.recordFailure(request.email());
+                    return new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+                });
 
         // 기존 회원 중 비밀번호 미설정 회원은 비밀번호 없이 로그인 허용 (마이그레이션 기간)
         if (member.getPassword() != null) {
-            if (!passwordEncoder.matches(request.password(), member.getPassword())) {
+            if (!passwordHasher.matches(request.password(), member.getPassword())) {
+                loginAttemptLimiter.recordFailure(request.email());
                 throw new CustomException(ErrorCode.INVALID_PASSWORD);
             }
+
+            // 설정된 cost가 바뀌었으면 로그인 시점에 재해싱
+            if (passwordHasher.needsRehash(member.getPassword())) {
+                String rehashed = passwordHasher.encode(request.password());
+                memberRepository.updatePassword(member.getId(), member.getPassword(), rehashed);
+            }
         }
 
+        loginAttemptLimiter.recordSuccess(request.email());
         return createAuthResponse(member);
     }
 
+    /**
+     * 리프레시 토큰 회전
+     * 사용된 리프레시 토큰은 폐기하고 같은 패밀리로 새 토큰을 발급한다.
+     * 이미 폐기된 리프레시 토큰이 다시 들어오면 탈취로 보고 패밀리 전체를 폐기한다.
+     * 폐기는 TokenRevocationService가 별도 트랜잭션으로 커밋하므로 REVOKED_TOKEN 예외로 롤백되지 않고,
+     * 동시에 들어온 같은 토큰은 유니크 제약으로 한 요청만 회전에 성공한다.
+     * 바깥 트랜잭션 없이 실행해 폐기 트랜잭션과 커넥션을 동시에 두 개 잡지 않는다. (회원 조회는 짧은 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse refresh(RefreshRequest request) {
-        if (!jwtProvider.validateToken(request.refreshToken())) {
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        VerifiedToken token = verifyRefreshToken(request.refreshToken());
+
+        if (tokenRevocationService.isRevoked(token) || !tokenRevocationService.revokeToken(token)) {
+            tokenRevocationService.revokeFamily(token.familyId(), familyExpiresAt());
+            throw new CustomException(ErrorCode.REVOKED_TOKEN);
         }
 
-        Long memberId = jwtProvider.getMemberId(request.refreshToken());
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findById(token.memberId())
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
-        return createAuthResponse(member);
+        return createAuthResponse(member, token.familyId());
+    }
+
+    /**
+     * 로그아웃 - 해당 로그인에서 발급된 액세스/리프레시 토큰 모두 폐기
+     * 폐기는 별도 트랜잭션에서 커밋하므로 바깥 트랜잭션(커넥션)을 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(RefreshRequest request) {
+        VerifiedToken token = verifyRefreshToken(request.refreshToken());
+        tokenRevocationService.revokeFamily(token.familyId(), familyExpiresAt());
+    }
+
+    // === Private Helper Methods ===
+
+    private VerifiedToken verifyRefreshToken(String refreshToken) {
+        // jti/패밀리가 없는 이전 토큰은 회전할 수 없으므로 재로그인 필요
+        return jwtProvider.verify(refreshToken)
+                .filter(VerifiedToken::isRefreshToken)
+                .filter(token -> token.tokenId() != null && token.familyId() != null)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+    }
+
+    // 패밀리에서 마지막으로 발급될 수 있는 리프레시 토큰의 만료 시각까지 유지
+    private long familyExpiresAt() {
+        return System.currentTimeMillis() + jwtProvider.getRefreshTokenExpiration();
     }
 
     private AuthResponse createAuthResponse(Member member) {
-        String accessToken = jwtProvider.createAccessToken(member.getId());
-        String refreshToken = jwtProvider.createRefreshToken(member.getId());
+        return createAuthResponse(member, jwtProvider.newFamilyId());
+    }
+
+    private AuthResponse createAuthResponse(Member member, String familyId) {
+        String accessToken = jwtProvider.createAccessToken(member.getId(), familyId);
+        String refreshToken = jwtProvider.createRefreshToken(member.getId(), familyId);
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
@@ -0,0 +1,94 @@
+package com.shbudget.domain.auth.service;
+
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 시도 제한
+ *
+ * - 이메일: 실패 횟수만 센다. 성공하면 초기화된다. (계정 대상 비밀번호 대입 방지)
+ * - IP: 성공/실패와 무관하게 모든 시도를 센다. (여러 계정 대상 대입 방지)
+ * BCrypt 검증 전에 확인하므로 제한된 요청은 CPU를 사용하지 않는다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final int maxFailuresPerEmail;
+    private final int maxAttemptsPerIp;
+    private final long windowMillis;
+
+    private final ConcurrentHashMap<String, Window> emailFailures = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Window> ipAttempts = new ConcurrentHashMap<>();
+
+    public LoginAttemptLimiter(
+            @Value("${auth.login.max-failures-per-email:5}") int maxFailuresPerEmail,
+            @Value("${auth.login.max-attempts-per-ip:30}") int maxAttemptsPerIp,
+            @Value("${auth.login.window-seconds:300}") long windowSeconds
+    ) {
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.windowMillis = windowSeconds * 1000;
+    }
+
+    /**
+     * 시도 전 확인 - 제한을 넘으면 예외
+     */
+    public void checkAndRecordAttempt(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (current(emailFailures, normalize(email), now) >= maxFailuresPerEmail) {
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (clientIp != null && increment(ipAttempts, clientIp, now) > maxAttemptsPerIp) {
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    public void recordFailure(String email) {
+        increment(emailFailures, normalize(email), System.currentTimeMillis());
+    }
+
+    public void recordSuccess(String email) {
+        emailFailures.remove(normalize(email));
+    }
+
+    /**
+     * 만료된 윈도우 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        emailFailures.values().removeIf(window -> window.isExpired(now, windowMillis));
+        ipAttempts.values().removeIf(window -> window.isExpired(now, windowMillis));
+    }
+
+    // === Private Helper Methods ===
+
+    private int current(ConcurrentHashMap<String, Window> counters, String key, long now) {
+        Window window = counters.get(key);
+        return window == null || window.isExpired(now, windowMillis) ? 0 : window.count();
+    }
+
+    private int increment(ConcurrentHashMap<String, Window> counters, String key, long now) {
+        return counters.compute(key, (k, window) ->
+                window == null || window.isExpired(now, windowMillis)
+                        ? new Window(now, 1)
+                        : new Window(window.startedAt(), window.count() + 1)
+        ).count();
+    }
+
+    private String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Window(long startedAt, int count) {
+        boolean isExpired(long now, long windowMillis) {
+            return now - startedAt >= windowMillis;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.shbudget.domain.auth.service;
+
+import com.shbudget.domain.auth.entity.RevocationType;
+import com.shbudget.domain.auth.entity.RevokedToken;
+import com.shbudget.domain.auth.repository.RevokedTokenRepository;
+import com.shbudget.global.config.jwt.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 토큰 폐기 관리
+ *
+ * 폐기 목록은 revoked_tokens 테이블에 저장하고, 프로세스 내 맵(id → 만료 시각)에 복제한다.
+ * 요청 인증 시에는 DB를 조회하지 않고 맵만 확인하며,
+ * 다른 인스턴스에서 추가된 폐기는 주기적인 증분 동기화로 반영된다.
+ *
+ * - 폐기 기록은 호출자와 분리된 별도 트랜잭션에서 커밋한다. (호출자가 예외로 롤백해도 폐기는 남음)
+ *   맵에는 커밋이 끝난 뒤에만 넣으므로 롤백된 폐기가 이 인스턴스에만 남는 일이 없다.
+ * - token_id 유니크 제약으로 같은 토큰의 폐기는 인스턴스와 관계없이 한 요청만 성공한다. (리프레시 회전 판정)
+ * - IDENTITY id는 커밋 순서대로 보이지 않으므로 동기화는 created_at 기준으로, 직전 동기화 시각보다
+ *   overlap만큼 앞에서부터 다시 읽는다. (늦게 커밋된 행과 인스턴스 간 시계 오차 흡수, 다시 읽어도 결과는 같음)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final LocalDateTime NEVER_SYNCED = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration syncOverlap;
+
+    // jti/family id → 만료 시각(epoch millis)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final AtomicReference<LocalDateTime> lastSyncedAt = new AtomicReference<>(NEVER_SYNCED);
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${jwt.revocation-sync-overlap-seconds:60}") long syncOverlapSeconds
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.syncOverlap = Duration.ofSeconds(syncOverlapSeconds);
+    }
+
+    /**
+     * 토큰 또는 토큰 패밀리가 폐기되었는지 확인 (요청 경로, DB 조회 없음)
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        return isRevokedId(token.tokenId()) || isRevokedId(token.familyId());
+    }
+
+    /**
+     * 토큰 폐기 - 이 호출이 처음 폐기했으면 true, 이미 폐기되어 있었으면(다른 요청이 먼저 사용) false
+     */
+    public boolean revokeToken(VerifiedToken token) {
+        return revoke(token.tokenId(), RevocationType.TOKEN, token.expiresAt());
+    }
+
+    /**
+     * 패밀리 폐기 - 같은 로그인에서 발급된 액세스/리프레시 토큰 전체가 무효화된다.
+     * 패밀리 기록은 리프레시 토큰 만료 시각까지 유지한다.
+     */
+    public void revokeFamily(String familyId, long expiresAt) {
+        revoke(familyId, RevocationType.FAMILY, expiresAt);
+    }
+
+    /**
+     * 다른 인스턴스에서 추가된 폐기 목록 반영
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation-sync-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<RevokedToken> added = revokedTokenRepository.findAllByCreatedAtAfterAndExpiresAtAfter(
+                lastSyncedAt.get().minus(syncOverlap), startedAt
+        );
+        for (RevokedToken token : added) {
+            revoked.put(token.getTokenId(), toEpochMillis(token.getExpiresAt()));
+        }
+        lastSyncedAt.set(startedAt);
+    }
+
+    /**
+     * 만료된 폐기 기록 정리 (토큰이 이미 만료되어 더 이상 확인할 필요 없음)
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        int deleted = revokedTokenRepository.deleteAllExpired(LocalDateTime.now());
+        log.info("[토큰 폐기] 만료 기록 정리 - {}건", deleted);
+    }
+
+    // === Private Helper Methods ===
+
+    private boolean isRevokedId(String id) {
+        return id != null && revoked.containsKey(id);
+    }
+
+    private boolean revoke(String id, RevocationType type, long expiresAt) {
+        if (id == null || revoked.containsKey(id)) {
+            return false;
+        }
+
+        boolean inserted;
+        try {
+            inserted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (revokedTokenRepository.existsByTokenId(id)) {
+                    return false;
+                }
+                revokedTokenRepository.saveAndFlush(RevokedToken.create(id, type, toLocalDateTime(expiresAt)));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청(인스턴스)이 동시에 먼저 폐기
+            inserted = false;
+        }
+
+        // 커밋된 폐기만 이 인스턴스에 즉시 반영
+        revoked.put(id, expiresAt);
+        return inserted;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -5,6 +5,7 @@ import com.shbudget.domain.book.dto.BookMemberResponse;
 import com.shbudget.domain.book.dto.BookResponse;
 import com.shbudget.domain.book.dto.BookUpdateRequest;
 import com.shbudget.domain.book.dto.BookWithRoleResponse;
+import com.shbudget.domain.book.service.BookEventHub;
 import com.shbudget.domain.book.service.BookMemberService;
 import com.shbudget.domain.book.service.BookService;
 import com.shbudget.global.auth.CurrentMemberId;
@@ -16,8 +17,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -29,6 +32,7 @@ public class BookController {
 
     private final BookService bookService;
     private final BookMemberService bookMemberService;
+    private final BookEventHub bookEventHub;
 
     @GetMapping("/my")
     @Operation(summary = "내 가계부 조회", description = "현재 사용자의 가계부를 조회합니다. bookId를 지정하면 해당 가계부를 조회합니다.")
@@ -60,6 +64,23 @@ public class BookController {
                 .body(ApiResult.of(ResponseStatus.SUCCESS, response));
     }
 
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "가계부 변경 이벤트 구독", description = "거래 등록/수정/삭제, 자산 잔액 변경을 SSE로 전달합니다. 연결 중에는 같은 가계부의 푸시 알림이 생략됩니다. 연결된 서버 인스턴스에서 일어난 변경만 전달되므로 재연결 시 목록을 다시 조회해야 합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "403", description = "가계부 멤버가 아님"),
+            @ApiResponse(responseCode = "429", description = "연결 수 초과")
+    })
+    public ResponseEntity<SseEmitter> streamEvents(
+            @PathVariable Long id,
+            @CurrentMemberId Long memberId
+    ) {
+        SseEmitter emitter = bookEventHub.connect(id, memberId);
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "가계부 이름 수정", description = "가계부 이름을 수정합니다. (소유자만 가능)")
     @ApiResponses({
@@ -0,0 +1,102 @@
+package com.shbudget.domain.book.service;
+
+import com.shbudget.domain.book.entity.BookMember;
+import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가계부 멤버십 검증
+ *
+ * memberId → 참여 중인 bookId 집합을 프로세스 내에 캐싱하여
+ * 요청마다 발생하던 existsByBookIdAndMemberId 쿼리를 제거한다.
+ * 멤버십이 바뀌는 경로(가계부 생성/참여/탈퇴/삭제)에서 evict 해야 하며,
+ * 다른 인스턴스의 변경은 TTL 이내에 반영된다.
+ */
+@Component
+public class BookAccessChecker {
+
+    private final BookMemberRepository bookMemberRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, CachedMembership> cache = new ConcurrentHashMap<>();
+
+    public BookAccessChecker(
+            BookMemberRepository bookMemberRepository,
+            @Value("${book-access.cache-ttl-seconds:300}") long ttlSeconds,
+            @Value("${book-access.cache-max-entries:100000}") int maxEntries
+    ) {
+        this.bookMemberRepository = bookMemberRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    public void validateBookMember(Long bookId, Long memberId) {
+        if (!isBookMember(bookId, memberId)) {
+            throw new CustomException(ErrorCode.NOT_BOOK_MEMBER);
+        }
+    }
+
+    public boolean isBookMember(Long bookId, Long memberId) {
+        if (bookId == null || memberId == null) {
+            return false;
+        }
+        return getBookIds(memberId).contains(bookId);
+    }
+
+    public Set<Long> getBookIds(Long memberId) {
+        long now = System.currentTimeMillis();
+        CachedMembership cached = cache.get(memberId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.bookIds();
+        }
+
+        Set<Long> bookIds = loadBookIds(memberId);
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(memberId, new CachedMembership(bookIds, now + ttlMillis));
+        return bookIds;
+    }
+
+    /**
+     * 멤버십 변경 시 호출
+     * 트랜잭션 안이라면 커밋 이후에 한 번 더 비워서, 커밋 전에 다시 적재된 값이 남지 않도록 한다.
+     */
+    public void evict(Long memberId) {
+        evictAll(List.of(memberId));
+    }
+
+    public void evictAll(Collection<Long> memberIds) {
+        List<Long> targets = List.copyOf(memberIds);
+        targets.forEach(cache::remove);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    targets.forEach(cache::remove);
+                }
+            });
+        }
+    }
+
+    private Set<Long> loadBookIds(Long memberId) {
+        return bookMemberRepository.findAllByMemberId(memberId).stream()
+                .map(BookMember::getBookId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private record CachedMembership(Set<Long> bookIds, long expiresAt) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.shbudget.domain.book.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 가계부 변경 이벤트 (SSE로 그대로 직렬화되는 최소 정보)
+ *
+ * 클라이언트는 이벤트를 받으면 targetId/assetIds에 해당하는 데이터만 다시 조회한다.
+ *
+ * @param targetId 거래 이벤트면 거래 ID, 자산 이벤트면 자산 ID
+ * @param assetIds 잔액이 바뀐 자산 ID
+ */
+public record BookChangeEvent(
+        Long bookId,
+        BookChangeType type,
+        Long targetId,
+        List<Long> assetIds,
+        Long actorMemberId,
+        long occurredAt
+) {
+    public static BookChangeEvent of(Long bookId, BookChangeType type, Long targetId,
+                                     Long actorMemberId, Long... assetIds) {
+        List<Long> affected = Arrays.stream(assetIds)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return new BookChangeEvent(bookId, type, targetId, affected, actorMemberId, System.currentTimeMillis());
+    }
+}
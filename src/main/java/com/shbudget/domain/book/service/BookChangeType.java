@@ -0,0 +1,8 @@
+package com.shbudget.domain.book.service;
+
+public enum BookChangeType {
+    TRANSACTION_CREATED,
+    TRANSACTION_UPDATED,
+    TRANSACTION_DELETED,
+    ASSET_BALANCE_CHANGED
+}
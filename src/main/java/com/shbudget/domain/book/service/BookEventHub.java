@@ -0,0 +1,180 @@
+package com.shbudget.domain.book.service;
+
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가계부별 SSE 연결 허브
+ *
+ * 연결은 서블릿 비동기 요청(SseEmitter)으로 유지되어 대기 중에는 스레드를 점유하지 않는다.
+ * 변경 이벤트는 커밋 이후에만 전송하고, 실제 쓰기는 가상 스레드에서 수행해
+ * 느린 클라이언트가 요청 스레드를 붙잡지 않도록 한다.
+ * 연결이 열려 있는 동안 DB 커넥션을 잡지 않도록 spring.jpa.open-in-view는 꺼 둔다.
+ *
+ * 제약: 이벤트는 같은 인스턴스에서 커밋된 변경만 전달된다. (인스턴스 간 중계 없음)
+ * 여러 인스턴스로 운영하면 다른 인스턴스에서 일어난 변경은 SSE로 오지 않으므로,
+ * 클라이언트는 재연결이나 화면 진입 시 목록을 다시 조회해야 한다.
+ */
+@Slf4j
+@Component
+public class BookEventHub {
+
+    private final BookAccessChecker bookAccessChecker;
+    private final long emitterTimeoutMillis;
+    private final int maxConnections;
+    private final int maxConnectionsPerMember;
+
+    private final ConcurrentHashMap<Long, Set<Connection>> connectionsByBook = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> connectionsByMember = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BookEventHub(
+            BookAccessChecker bookAccessChecker,
+            @Value("${sse.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${sse.max-connections:20000}") int maxConnections,
+            @Value("${sse.max-connections-per-member:5}") int maxConnectionsPerMember
+    ) {
+        this.bookAccessChecker = bookAccessChecker;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerMember = maxConnectionsPerMember;
+    }
+
+    /**
+     * 가계부 이벤트 스트림 연결
+     */
+    public SseEmitter connect(Long bookId, Long memberId) {
+        bookAccessChecker.validateBookMember(bookId, memberId);
+
+        int memberCount = connectionsByMember.merge(memberId, 1, Integer::sum);
+        int totalCount = connectionCount.incrementAndGet();
+        if (memberCount > maxConnectionsPerMember || totalCount > maxConnections) {
+            release(memberId);
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        SseEmitter emitter = newEmitter();
+        Connection connection = new Connection(bookId, memberId, emitter);
+        connectionsByBook.compute(bookId, (id, current) -> {
+            Set<Connection> connections = current != null ? current : ConcurrentHashMap.newKeySet();
+            connections.add(connection);
+            return connections;
+        });
+
+        emitter.onCompletion(() -> disconnect(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> disconnect(connection));
+
+        // 첫 이벤트로 응답 헤더를 바로 내보낸다 (프록시 버퍼링 방지)
+        send(connection, SseEmitter.event().name("connected").data(bookId).reconnectTime(3000));
+        return emitter;
+    }
+
+    /**
+     * 커밋된 변경을 해당 가계부의 열린 연결에 전송
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChange(BookChangeEvent event) {
+        Set<Connection> connections = connectionsByBook.get(event.bookId());
+        if (connections == null || connections.isEmpty()) {
+            return;
+        }
+
+        for (Connection connection : connections) {
+            senders.execute(() -> send(connection, SseEmitter.event()
+                    .name(event.type().name())
+                    .data(event, MediaType.APPLICATION_JSON)));
+        }
+    }
+
+    /**
+     * 유휴 연결 유지 및 끊어진 연결 정리 (SSE 주석 라인)
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        connectionsByBook.values().forEach(connections -> connections.forEach(connection ->
+                senders.execute(() -> send(connection, SseEmitter.event().comment("ping")))));
+    }
+
+    /**
+     * 해당 가계부 스트림에 연결되어 있는지 (연결된 멤버는 푸시 알림 생략)
+     */
+    public boolean isOnline(Long bookId, Long memberId) {
+        Set<Connection> connections = connectionsByBook.get(bookId);
+        if (connections == null) {
+            return false;
+        }
+        for (Connection connection : connections) {
+            if (connection.memberId().equals(memberId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionsByBook.values().forEach(connections ->
+                connections.forEach(connection -> connection.emitter().complete()));
+        senders.shutdown();
+    }
+
+    // === Private Helper Methods ===
+
+    // 테스트에서 전송 내용을 확인할 수 있도록 분리
+    SseEmitter newEmitter() {
+        return new SseEmitter(emitterTimeoutMillis);
+    }
+
+    private void send(Connection connection, SseEmitter.SseEventBuilder event) {
+        try {
+            connection.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 끊은 경우
+            log.debug("SSE send failed: bookId={}, memberId={}", connection.bookId(), connection.memberId());
+            connection.emitter().completeWithError(e);
+            disconnect(connection);
+        }
+    }
+
+    private void disconnect(Connection connection) {
+        boolean[] removed = new boolean[1];
+        connectionsByBook.computeIfPresent(connection.bookId(), (id, current) -> {
+            removed[0] = current.remove(connection);
+            return current.isEmpty() ? null : current;
+        });
+
+        // onCompletion/onError가 모두 호출되어도 한 번만 반영
+        if (removed[0]) {
+            release(connection.memberId());
+        }
+    }
+
+    private void release(Long memberId) {
+        connectionCount.decrementAndGet();
+        connectionsByMember.computeIfPresent(memberId, (id, count) -> count <= 1 ? null : count - 1);
+    }
+
+    private record Connection(Long bookId, Long memberId, SseEmitter emitter) {
+    }
+}
@@ -23,6 +23,7 @@ public class BookMemberService {
     private final BookRepository bookRepository;
     private final BookMemberRepository bookMemberRepository;
     private final MemberRepository memberRepository;
+    private final BookAccessChecker bookAccessChecker;
 
     @Transactional
     public BookMemberResponse joinBook(Long memberId, BookJoinRequest request) {
@@ -40,13 +41,14 @@ public class BookMemberService {
         // Create member
         BookMember bookMember = BookMember.createMember(book.getId(), memberId);
         BookMember savedBookMember = bookMemberRepository.save(bookMember);
+        bookAccessChecker.evict(memberId);
 
         return BookMemberResponse.from(savedBookMember);
     }
 
     public List<BookMemberResponse> getBookMembers(Long bookId, Long memberId) {
         // Validate requester is a member of the book
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         List<BookMember> bookMembers = bookMemberRepository.findAllByBookId(bookId);
         return bookMembers.stream()
@@ -72,6 +74,7 @@ public class BookMemberService {
                 throw new CustomException(ErrorCode.OWNER_CANNOT_LEAVE);
             }
             bookMemberRepository.delete(target);
+            bookAccessChecker.evict(targetMemberId);
             return;
         }
 
@@ -85,11 +88,6 @@ public class BookMemberService {
         }
 
         bookMemberRepository.delete(target);
-    }
-
-    private void validateBookMember(Long bookId, Long memberId) {
-        if (!bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)) {
-            throw new CustomException(ErrorCode.NOT_BOOK_MEMBER);
-        }
+        bookAccessChecker.evict(targetMemberId);
     }
 }
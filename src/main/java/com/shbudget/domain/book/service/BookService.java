@@ -21,6 +21,7 @@ public class BookService {
 
     private final BookRepository bookRepository;
     private final BookMemberRepository bookMemberRepository;
+    private final BookAccessChecker bookAccessChecker;
 
     @Transactional
     public BookResponse createBookForMember(Long memberId, String bookName) {
@@ -31,6 +32,7 @@ public class BookService {
         // Create owner membership
         BookMember bookMember = BookMember.createOwner(savedBook.getId(), memberId);
         bookMemberRepository.save(bookMember);
+        bookAccessChecker.evict(memberId);
 
         return BookResponse.from(savedBook);
     }
@@ -38,8 +40,7 @@ public class BookService {
     public BookResponse getMyBook(Long memberId, Long bookId) {
         if (bookId != null) {
             // bookId 지정 시: 멤버십 검증 후 해당 가계부 반환
-            bookMemberRepository.findByBookIdAndMemberId(bookId, memberId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOT_BOOK_MEMBER));
+            bookAccessChecker.validateBookMember(bookId, memberId);
 
             Book book = bookRepository.findById(bookId)
                     .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
@@ -109,8 +110,13 @@ public class BookService {
 
         validateBookOwner(bookId, memberId);
 
+        List<Long> memberIds = bookMemberRepository.findAllByBookId(bookId).stream()
+                .map(BookMember::getMemberId)
+                .toList();
+
         bookMemberRepository.deleteAllByBookId(bookId);
         bookRepository.delete(book);
+        bookAccessChecker.evictAll(memberIds);
     }
 
     private void validateBookOwner(Long bookId, Long memberId) {
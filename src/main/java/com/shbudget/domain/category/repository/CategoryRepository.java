@@ -21,4 +21,7 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     // 가계부 + 카테고리 존재 여부
     boolean existsByIdAndBookId(Long id, Long bookId);
+
+    // 여러 가계부의 카테고리 목록 조회 (통합 통계용)
+    List<Category> findAllByBookIdIn(List<Long> bookIds);
 }
@@ -1,6 +1,6 @@
 package com.shbudget.domain.category.service;
 
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
 import com.shbudget.domain.category.dto.request.CategoryCreateRequest;
 import com.shbudget.domain.category.dto.request.CategoryUpdateRequest;
 import com.shbudget.domain.category.dto.response.CategoryResponse;
@@ -22,13 +22,13 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
-    private final BookMemberRepository bookMemberRepository;
+    private final BookAccessChecker bookAccessChecker;
     private final TransactionRepository transactionRepository;
 
     @Transactional
     public CategoryResponse createCategory(Long memberId, CategoryCreateRequest request) {
         // 가계부 멤버 검증
-        validateBookMember(request.bookId(), memberId);
+        bookAccessChecker.validateBookMember(request.bookId(), memberId);
 
         // 카테고리 이름 중복 체크
         if (categoryRepository.existsByBookIdAndName(request.bookId(), request.name())) {
@@ -49,7 +49,7 @@ public class CategoryService {
 
     public List<CategoryResponse> getCategoryList(Long memberId, Long bookId) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         List<Category> categories = categoryRepository.findAllByBookIdOrderByCreatedAtAsc(bookId);
         return categories.stream()
@@ -59,7 +59,7 @@ public class CategoryService {
 
     public CategoryResponse getCategoryById(Long memberId, Long bookId, Long categoryId) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Category category = categoryRepository.findByIdAndBookId(categoryId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
@@ -71,7 +71,7 @@ public class CategoryService {
     public CategoryResponse updateCategory(Long memberId, Long bookId, Long categoryId,
                                             CategoryUpdateRequest request) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Category category = categoryRepository.findByIdAndBookId(categoryId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
@@ -92,7 +92,7 @@ public class CategoryService {
     @Transactional
     public void deleteCategory(Long memberId, Long bookId, Long categoryId) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Category category = categoryRepository.findByIdAndBookId(categoryId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
@@ -104,12 +104,4 @@ public class CategoryService {
 
         categoryRepository.delete(category);
     }
-
-    // === Private Helper Methods ===
-
-    private void validateBookMember(Long bookId, Long memberId) {
-        if (!bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)) {
-            throw new CustomException(ErrorCode.NOT_BOOK_MEMBER);
-        }
-    }
 }
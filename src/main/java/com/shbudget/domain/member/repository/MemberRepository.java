@@ -2,6 +2,10 @@ package com.shbudget.domain.member.repository;
 
 import com.shbudget.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +14,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 로그인 시 재해싱 저장 (그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.id = :id AND m.password = :currentPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("password") String password);
 }
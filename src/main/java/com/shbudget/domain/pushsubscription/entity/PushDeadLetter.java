@@ -0,0 +1,60 @@
+package com.shbudget.domain.pushsubscription.entity;
+
+import com.shbudget.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 재시도 후에도 발송하지 못한 푸시 기록
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@Entity
+@Table(name = "push_dead_letters", indexes = {
+        @Index(name = "idx_dead_letter_created_at", columnList = "created_at")
+})
+public class PushDeadLetter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id")
+    private Long subscriptionId;
+
+    @Column(nullable = false, length = 500)
+    private String endpoint;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String body;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_status")
+    private Integer lastStatus;  // 마지막 응답 코드 (네트워크 오류면 0)
+
+    @Column(nullable = false, length = 50)
+    private String reason;
+
+    // 정적 팩토리 메서드
+    public static PushDeadLetter create(Long subscriptionId, String endpoint, String title, String body,
+                                        int attempts, int lastStatus, String reason) {
+        return PushDeadLetter.builder()
+                .subscriptionId(subscriptionId)
+                .endpoint(endpoint)
+                .title(title)
+                .body(body)
+                .attempts(attempts)
+                .lastStatus(lastStatus)
+                .reason(reason)
+                .build();
+    }
+}
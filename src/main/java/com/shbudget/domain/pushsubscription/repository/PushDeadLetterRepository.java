@@ -0,0 +1,7 @@
+package com.shbudget.domain.pushsubscription.repository;
+
+import com.shbudget.domain.pushsubscription.entity.PushDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PushDeadLetterRepository extends JpaRepository<PushDeadLetter, Long> {
+}
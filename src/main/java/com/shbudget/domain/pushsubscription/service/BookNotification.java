@@ -0,0 +1,31 @@
+package com.shbudget.domain.pushsubscription.service;
+
+/**
+ * 가계부 멤버에게 보낼 알림
+ *
+ * @param amountLabel 거래 알림이면 거래 유형 표시명(수입/지출/이체), 그 외 알림이면 null
+ * @param amount      거래 알림이면 금액, 그 외 알림이면 null (다이제스트에서 유형별 합계 계산용)
+ */
+public record BookNotification(
+        Long bookId,
+        Long actorMemberId,
+        String actorNickname,
+        String title,
+        String body,
+        String amountLabel,
+        Long amount
+) {
+    public static BookNotification of(Long bookId, Long actorMemberId, String actorNickname,
+                                      String title, String body) {
+        return new BookNotification(bookId, actorMemberId, actorNickname, title, body, null, null);
+    }
+
+    public static BookNotification transaction(Long bookId, Long actorMemberId, String actorNickname,
+                                               String title, String body, String amountLabel, Long amount) {
+        return new BookNotification(bookId, actorMemberId, actorNickname, title, body, amountLabel, amount);
+    }
+
+    public boolean isTransaction() {
+        return amount != null;
+    }
+}
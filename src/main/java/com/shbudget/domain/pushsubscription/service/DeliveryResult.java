@@ -0,0 +1,45 @@
+package com.shbudget.domain.pushsubscription.service;
+
+/**
+ * 푸시 서비스 응답 해석 결과
+ *
+ * @param httpStatus       응답 상태 코드 (네트워크 오류면 0)
+ * @param retryAfterMillis Retry-After 헤더 값 (없으면 0)
+ */
+public record DeliveryResult(
+        Status status,
+        int httpStatus,
+        long retryAfterMillis
+) {
+    public enum Status {
+        DELIVERED,   // 2xx
+        EXPIRED,     // 404/410 - 구독 삭제됨
+        RETRYABLE,   // 429, 5xx, 네트워크 오류
+        REJECTED     // 그 외 4xx - 재시도해도 실패
+    }
+
+    public static DeliveryResult delivered(int httpStatus) {
+        return new DeliveryResult(Status.DELIVERED, httpStatus, 0);
+    }
+
+    public static DeliveryResult of(int httpStatus, long retryAfterMillis) {
+        if (httpStatus >= 200 && httpStatus < 300) {
+            return delivered(httpStatus);
+        }
+        if (httpStatus == 404 || httpStatus == 410) {
+            return new DeliveryResult(Status.EXPIRED, httpStatus, 0);
+        }
+        if (httpStatus == 429 || httpStatus >= 500) {
+            return new DeliveryResult(Status.RETRYABLE, httpStatus, retryAfterMillis);
+        }
+        return new DeliveryResult(Status.REJECTED, httpStatus, 0);
+    }
+
+    public static DeliveryResult networkError() {
+        return new DeliveryResult(Status.RETRYABLE, 0, 0);
+    }
+
+    public boolean isRetryable() {
+        return status == Status.RETRYABLE;
+    }
+}
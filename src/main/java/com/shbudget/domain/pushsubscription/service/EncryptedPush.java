@@ -0,0 +1,10 @@
+package com.shbudget.domain.pushsubscription.service;
+
+/**
+ * 암호화가 끝나 네트워크 전송만 남은 푸시
+ */
+public record EncryptedPush(
+        PushMessage message,
+        byte[] body
+) {
+}
@@ -0,0 +1,183 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 묶음 처리
+ *
+ * (수신자, 가계부) 단위로 window 동안 들어온 알림을 모아 한 건으로 발송한다.
+ * 예) 지출 5건 연속 입력 → "민지님이 지출 5건, 총 132,000원을 등록했습니다."
+ *     수입/지출이 섞이면 유형별로 합산 → "민지님이 거래 3건(지출 2건 32,000원, 수입 1건 100,000원)을 등록했습니다."
+ * 첫 알림 이후 window + tick 이내에는 반드시 발송된다.
+ * tick마다 도는 발송은 기본 스케줄러가 아닌 전용 스레드에서 실행한다. (다른 @Scheduled 작업과 서로 지연시키지 않음)
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final PushSubscriptionRegistry pushSubscriptionRegistry;
+    private final PushDispatcher pushDispatcher;
+    private final long windowMillis;
+    private final long tickMillis;
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    private final ConcurrentHashMap<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    public NotificationCoalescer(
+            PushSubscriptionRegistry pushSubscriptionRegistry,
+            PushDispatcher pushDispatcher,
+            @Value("${push.coalesce.window-ms:5000}") long windowMillis,
+            @Value("${push.coalesce.tick-ms:500}") long tickMillis
+    ) {
+        this.pushSubscriptionRegistry = pushSubscriptionRegistry;
+        this.pushDispatcher = pushDispatcher;
+        this.windowMillis = windowMillis;
+        this.tickMillis = tickMillis;
+
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("push-coalesce-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(false);
+        taskScheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::flush, Duration.ofMillis(tickMillis));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+
+    public void add(Long recipientMemberId, BookNotification notification) {
+        long now = System.currentTimeMillis();
+        pending.compute(new Key(recipientMemberId, notification.bookId()), (key, current) -> {
+            Pending target = current != null ? current : new Pending(now);
+            target.add(notification);
+            return target;
+        });
+    }
+
+    public void flush() {
+        try {
+            flushDue(System.currentTimeMillis());
+        } catch (Exception e) {
+            // 예외가 나도 다음 tick이 계속 실행되도록 여기서 처리
+            log.warn("[알림 묶음] 발송 실패", e);
+        }
+    }
+
+    /**
+     * window가 지난 묶음을 발송 (구독은 PushSubscriptionRegistry에서 조회)
+     */
+    void flushDue(long now) {
+        Map<Key, Pending> due = new ConcurrentHashMap<>();
+        for (Key key : pending.keySet()) {
+            Pending candidate = pending.get(key);
+            if (candidate != null && now - candidate.firstAt >= windowMillis) {
+                Pending removed = pending.remove(key);
+                if (removed != null) {
+                    due.put(key, removed);
+                }
+            }
+        }
+
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<Long> recipientIds = due.keySet().stream()
+                .map(Key::recipientMemberId)
+                .distinct()
+                .toList();
+        Map<Long, List<PushTarget>> subscriptionsByMember = pushSubscriptionRegistry.getSubscriptions(recipientIds);
+
+        due.forEach((key, digest) -> {
+            List<PushTarget> targets = subscriptionsByMember.getOrDefault(key.recipientMemberId(), List.of());
+            String body = digest.body();
+            for (PushTarget target : targets) {
+                pushDispatcher.dispatch(target, digest.title(), body);
+            }
+        });
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private record Key(Long recipientMemberId, Long bookId) {
+    }
+
+    /**
+     * 묶음 상태 - ConcurrentHashMap.compute 안에서만 수정된다.
+     */
+    private static final class Pending {
+
+        private final long firstAt;
+        private final List<BookNotification> notifications = new ArrayList<>();
+
+        private Pending(long firstAt) {
+            this.firstAt = firstAt;
+        }
+
+        private void add(BookNotification notification) {
+            notifications.add(notification);
+        }
+
+        private String title() {
+            return notifications.get(0).title();
+        }
+
+        private String body() {
+            if (notifications.size() == 1) {
+                return notifications.get(0).body();
+            }
+
+            Set<String> actors = notifications.stream()
+                    .map(BookNotification::actorNickname)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            String actorText = actors.size() == 1
+                    ? actors.iterator().next() + "님이"
+                    : actors.iterator().next() + "님 외 " + (actors.size() - 1) + "명이";
+
+            boolean allTransactions = notifications.stream().allMatch(BookNotification::isTransaction);
+            if (!allTransactions) {
+                return String.format("%s 가계부에 새 소식 %d건을 남겼습니다.", actorText, notifications.size());
+            }
+
+            // 수입/지출/이체는 서로 더하지 않고 유형별로 합산
+            Map<String, long[]> totalsByType = new LinkedHashMap<>();
+            for (BookNotification notification : notifications) {
+                long[] countAndTotal = totalsByType.computeIfAbsent(notification.amountLabel(), label -> new long[2]);
+                countAndTotal[0]++;
+                countAndTotal[1] += notification.amount();
+            }
+            if (totalsByType.size() == 1) {
+                Map.Entry<String, long[]> only = totalsByType.entrySet().iterator().next();
+                return String.format("%s %s %d건, 총 %,d원을 등록했습니다.",
+                        actorText, only.getKey(), only.getValue()[0], only.getValue()[1]);
+            }
+            String breakdown = totalsByType.entrySet().stream()
+                    .map(entry -> String.format("%s %d건 %,d원", entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                    .collect(Collectors.joining(", "));
+            return String.format("%s 거래 %d건(%s)을 등록했습니다.", actorText, notifications.size(), breakdown);
+        }
+    }
+}
@@ -2,8 +2,7 @@ package com.shbudget.domain.pushsubscription.service;
 
 import com.shbudget.domain.book.entity.BookMember;
 import com.shbudget.domain.book.repository.BookMemberRepository;
-import com.shbudget.domain.pushsubscription.entity.PushSubscription;
-import com.shbudget.domain.pushsubscription.repository.PushSubscriptionRepository;
+import com.shbudget.domain.book.service.BookEventHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,22 +15,22 @@ import java.util.List;
 public class NotificationService {
 
     private final BookMemberRepository bookMemberRepository;
-    private final PushSubscriptionRepository pushSubscriptionRepository;
-    private final WebPushService webPushService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final BookEventHub bookEventHub;
 
-    public void notifyBookMembers(Long bookId, Long actorMemberId, String title, String body) {
-        List<Long> memberIds = bookMemberRepository.findAllByBookId(bookId).stream()
+    /**
+     * 작성자를 제외한 가계부 멤버에게 알림 (수신자/가계부별로 묶어서 발송)
+     * 해당 가계부 이벤트 스트림에 연결된 멤버는 SSE로 이미 받으므로 제외한다.
+     */
+    public void notifyBookMembers(BookNotification notification) {
+        List<Long> memberIds = bookMemberRepository.findAllByBookId(notification.bookId()).stream()
                 .map(BookMember::getMemberId)
-                .filter(id -> !id.equals(actorMemberId))
+                .filter(id -> !id.equals(notification.actorMemberId()))
+                .filter(id -> !bookEventHub.isOnline(notification.bookId(), id))
                 .toList();
 
-        if (memberIds.isEmpty()) {
-            return;
-        }
-
-        List<PushSubscription> subscriptions = pushSubscriptionRepository.findAllByMemberIdIn(memberIds);
-        for (PushSubscription subscription : subscriptions) {
-            webPushService.sendPush(subscription, title, body);
+        for (Long memberId : memberIds) {
+            notificationCoalescer.add(memberId, notification);
         }
     }
 }
@@ -0,0 +1,353 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import com.shbudget.domain.pushsubscription.entity.PushDeadLetter;
+import com.shbudget.domain.pushsubscription.repository.PushDeadLetterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 푸시 발송 전용 디스패처
+ *
+ * - 호출 스레드는 큐에 넣기만 하고 즉시 반환한다. 큐가 가득 차면 버린다. (알림은 유실 허용)
+ * - 암호화(ECDH + AES-GCM)는 CPU 코어 수만큼의 풀에서 병렬로 처리한다. (여러 기기 대상 fan-out)
+ * - 전송은 가상 스레드에서 실행하며, 동시 발송 수는 전체/푸시 서비스 origin별 세마포어로 제한한다.
+ *   (FCM, Mozilla, Apple 중 한 곳이 느려져도 다른 곳의 발송을 막지 않도록)
+ * - 429/5xx/네트워크 오류는 DelayQueue 하나에 넣어 재시도한다. (대기 건수와 무관하게 재시도 스레드는 1개)
+ *   최대 횟수를 넘기거나 재시도할 수 없는 실패는 push_dead_letters에 기록한다.
+ * - 시도마다 대기열에서 꺼낸 시점부터 결과까지의 시간을 push.delivery 히스토그램에 기록한다.
+ *   (태그는 푸시 서비스 종류와 결과만 사용 - endpoint 단위로 늘어나지 않음)
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    private final WebPushService webPushService;
+    private final PushDeadLetterRepository pushDeadLetterRepository;
+    private final PushRetryPolicy retryPolicy;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Timer> deliveryTimers = new ConcurrentHashMap<>();
+    private final BlockingQueue<PushMessage> queue;
+    private final DelayQueue<RetryTask> retryQueue = new DelayQueue<>();
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final int maxPerOrigin;
+    private final ConcurrentHashMap<String, Semaphore> originPermits = new ConcurrentHashMap<>();
+    private final ExecutorService encryptors;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread dispatcherThread;
+    private final Thread retryThread;
+    private volatile boolean running = true;
+
+    // 지표
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public PushDispatcher(
+            WebPushService webPushService,
+            PushDeadLetterRepository pushDeadLetterRepository,
+            PushRetryPolicy retryPolicy,
+            MeterRegistry meterRegistry,
+            @Value("${push.dispatcher.queue-capacity:10000}") int queueCapacity,
+            @Value("${push.dispatcher.max-in-flight:200}") int maxInFlight,
+            @Value("${push.dispatcher.max-per-origin:50}") int maxPerOrigin,
+            @Value("${push.dispatcher.encrypt-threads:0}") int encryptThreads
+    ) {
+        this.webPushService = webPushService;
+        this.pushDeadLetterRepository = pushDeadLetterRepository;
+        this.retryPolicy = retryPolicy;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxPerOrigin = maxPerOrigin;
+
+        // 기본값: CPU 코어 수 (대기 작업 수는 max-in-flight로 제한됨)
+        int encryptPoolSize = encryptThreads > 0 ? encryptThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.encryptors = Executors.newFixedThreadPool(encryptPoolSize, runnable -> {
+            Thread thread = new Thread(runnable, "push-encrypt-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.dispatcherThread = Thread.ofPlatform()
+                .name("push-dispatcher")
+                .daemon(true)
+                .start(this::dispatchLoop);
+        this.retryThread = Thread.ofPlatform()
+                .name("push-retry")
+                .daemon(true)
+                .start(this::retryLoop);
+    }
+
+    public void dispatch(PushTarget target, String title, String body) {
+        dispatch(PushMessage.of(target, title, body));
+    }
+
+    /**
+     * 큐에 추가 (큐가 가득 차면 버리고 false)
+     */
+    public boolean dispatch(PushMessage message) {
+        if (!queue.offer(message)) {
+            dropped.increment();
+            log.warn("[푸시] 대기열 초과로 발송 생략 - queue: {}, endpoint: {}", queue.size(), message.endpoint());
+            return false;
+        }
+        enqueued.increment();
+        return true;
+    }
+
+    public Stats getStats() {
+        long count = completed.sum();
+        return new Stats(
+                queue.size(),
+                retryQueue.size(),
+                maxInFlight - inFlight.availablePermits(),
+                enqueued.sum(),
+                dropped.sum(),
+                count,
+                retried.sum(),
+                deadLettered.sum(),
+                count > 0 ? totalLatencyNanos.sum() / count / 1_000_000 : 0,
+                maxLatencyNanos.get() / 1_000_000
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        dispatcherThread.interrupt();
+        retryThread.interrupt();
+        encryptors.shutdown();
+        senders.shutdown();
+        try {
+            senders.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                // 전체 동시 발송 수를 먼저 확보해야 큐에서 꺼낸다 (초과분은 큐에 머무름)
+                inFlight.acquire();
+                PushMessage message;
+                try {
+                    message = queue.take();
+                } catch (InterruptedException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                long dequeuedAt = System.nanoTime();
+                encryptors.execute(() -> encryptAndSend(message, dequeuedAt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                return;
+            }
+        }
+    }
+
+    private void encryptAndSend(PushMessage message, long dequeuedAt) {
+        EncryptedPush push;
+        try {
+            push = webPushService.encrypt(message);
+        } catch (RuntimeException e) {
+            push = null;
+        }
+
+        if (push == null) {
+            inFlight.release();
+            long elapsed = System.nanoTime() - dequeuedAt;
+            recordLatency(elapsed);
+            recordDelivery(message, "encrypt_failed", elapsed);
+            return;
+        }
+
+        EncryptedPush encrypted = push;
+        try {
+            senders.execute(() -> send(encrypted, 1, dequeuedAt));
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * 재시도 대기열에서 시각이 된 작업을 꺼내 다시 전송 (암호화 결과는 재사용)
+     */
+    private void retryLoop() {
+        while (running) {
+            try {
+                RetryTask task = retryQueue.take();
+                inFlight.acquire();
+                try {
+                    senders.execute(() -> send(task.push(), task.attempt(), System.nanoTime()));
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param attempt 이번 시도 횟수 (1부터)
+     */
+    private void send(EncryptedPush push, int attempt, long dequeuedAt) {
+        PushMessage message = push.message();
+        Semaphore originPermit = originPermits.computeIfAbsent(message.origin(), origin -> new Semaphore(maxPerOrigin));
+        DeliveryResult result = DeliveryResult.networkError();
+        try {
+            originPermit.acquire();
+            try {
+                result = webPushService.deliver(push);
+            } finally {
+                originPermit.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.warn("[푸시] 발송 실패 - endpoint: {}", message.endpoint(), e);
+        } finally {
+            inFlight.release();
+            recordLatency(System.nanoTime() - dequeuedAt);
+        }
+
+        recordDelivery(message, result != null ? result.status().name() : "unknown", System.nanoTime() - dequeuedAt);
+        handleFailure(push, attempt, result);
+    }
+
+    private void handleFailure(EncryptedPush push, int attempt, DeliveryResult result) {
+        if (result == null || result.status() == DeliveryResult.Status.DELIVERED
+                || result.status() == DeliveryResult.Status.EXPIRED) {
+            return;
+        }
+
+        if (!result.isRetryable()) {
+            deadLetter(push, attempt, result.httpStatus(), "REJECTED");
+            return;
+        }
+        if (!retryPolicy.canRetry(attempt)) {
+            deadLetter(push, attempt, result.httpStatus(), "MAX_ATTEMPTS");
+            return;
+        }
+        if (retryQueue.size() >= retryPolicy.getMaxPending()) {
+            deadLetter(push, attempt, result.httpStatus(), "RETRY_QUEUE_FULL");
+            return;
+        }
+
+        long delayMillis = retryPolicy.nextDelayMillis(attempt, result.retryAfterMillis());
+        retryQueue.offer(new RetryTask(push, attempt + 1, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis)));
+        retried.increment();
+    }
+
+    private void deadLetter(EncryptedPush push, int attempts, int lastStatus, String reason) {
+        deadLettered.increment();
+        PushMessage message = push.message();
+        log.warn("[푸시] 발송 포기 - endpoint: {}, attempts: {}, status: {}, reason: {}",
+                message.endpoint(), attempts, lastStatus, reason);
+        try {
+            pushDeadLetterRepository.save(PushDeadLetter.create(
+                    message.subscriptionId(),
+                    message.endpoint(),
+                    message.title(),
+                    message.body(),
+                    attempts,
+                    lastStatus,
+                    reason
+            ));
+        } catch (Exception e) {
+            log.error("[푸시] dead letter 저장 실패 - endpoint: {}", message.endpoint(), e);
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        completed.increment();
+        totalLatencyNanos.add(nanos);
+        maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private void recordDelivery(PushMessage message, String outcome, long nanos) {
+        String provider = provider(message.origin());
+        String result = outcome.toLowerCase(Locale.ROOT);
+        deliveryTimers.computeIfAbsent(provider + ":" + result, key -> Timer.builder("push.delivery")
+                        .tag("provider", provider)
+                        .tag("outcome", result)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 푸시 서비스 종류 (지표 태그용 - 알려진 서비스 외에는 other)
+     */
+    private static String provider(String origin) {
+        if (origin.endsWith(".googleapis.com")) {
+            return "fcm";
+        }
+        if (origin.endsWith(".mozilla.com")) {
+            return "mozilla";
+        }
+        if (origin.endsWith(".push.apple.com")) {
+            return "apple";
+        }
+        if (origin.endsWith(".notify.windows.com")) {
+            return "windows";
+        }
+        return "other";
+    }
+
+    private record RetryTask(EncryptedPush push, int attempt, long dueAtNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * 디스패처 상태 (지연 시간은 ms)
+     */
+    public record Stats(
+            int queueDepth,
+            int retryPending,
+            int inFlight,
+            long enqueued,
+            long dropped,
+            long completed,
+            long retried,
+            long deadLettered,
+            long avgLatencyMs,
+            long maxLatencyMs
+    ) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import java.net.URI;
+
+/**
+ * 발송 대기 중인 푸시 메시지
+ */
+public record PushMessage(
+        Long subscriptionId,
+        Long memberId,
+        String endpoint,
+        String p256dh,
+        String auth,
+        String title,
+        String body
+) {
+    public static PushMessage of(PushTarget target, String title, String body) {
+        return new PushMessage(
+                target.subscriptionId(),
+                target.memberId(),
+                target.endpoint(),
+                target.p256dh(),
+                target.auth(),
+                title,
+                body
+        );
+    }
+
+    /**
+     * 푸시 서비스 origin (예: https://fcm.googleapis.com)
+     */
+    public String origin() {
+        try {
+            URI uri = URI.create(endpoint);
+            return uri.getScheme() + "://" + uri.getHost();
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyAgreement;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.*;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Web Push 페이로드 암호화 (RFC 8291, Content-Encoding: aes128gcm)
+ *
+ * 메시지마다 새 임시 키쌍으로 ECDH 후 HKDF로 키/논스를 유도하여 AES-128-GCM으로 암호화한다.
+ * JDK 기본 provider만 사용한다.
+ */
+public final class PushPayloadEncryptor {
+
+    private static final int RECORD_SIZE = 4096;
+    private static final byte[] KEY_INFO_PREFIX = "WebPush: info\0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CEK_INFO = "Content-Encoding: aes128gcm\0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NONCE_INFO = "Content-Encoding: nonce\0".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ECParameterSpec P256 = loadP256();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private PushPayloadEncryptor() {
+    }
+
+    /**
+     * @param p256dh 구독자 공개키 (base64url, uncompressed point)
+     * @param auth   구독자 인증 시크릿 (base64url, 16 bytes)
+     * @return aes128gcm 본문 (헤더 + 암호문)
+     */
+    public static byte[] encrypt(byte[] plaintext, String p256dh, String auth) throws GeneralSecurityException {
+        byte[] uaPublic = decodeBase64Url(p256dh);
+        byte[] authSecret = decodeBase64Url(auth);
+
+        // 임시 키쌍 + ECDH
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(P256, RANDOM);
+        KeyPair ephemeral = generator.generateKeyPair();
+        byte[] asPublic = encodePoint((ECPublicKey) ephemeral.getPublic());
+
+        KeyAgreement agreement = KeyAgreement.getInstance("ECDH");
+        agreement.init(ephemeral.getPrivate());
+        agreement.doPhase(decodePoint(uaPublic), true);
+        byte[] ecdhSecret = agreement.generateSecret();
+
+        // IKM = HKDF(auth_secret, ecdh_secret, "WebPush: info" || 0x00 || ua_public || as_public, 32)
+        byte[] keyInfo = concat(KEY_INFO_PREFIX, uaPublic, asPublic);
+        byte[] ikm = hkdf(authSecret, ecdhSecret, keyInfo, 32);
+
+        byte[] salt = new byte[16];
+        RANDOM.nextBytes(salt);
+        byte[] cek = hkdf(salt, ikm, CEK_INFO, 16);
+        byte[] nonce = hkdf(salt, ikm, NONCE_INFO, 12);
+
+        // 단일 레코드: plaintext || 0x02 (마지막 레코드 구분자)
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(cek, "AES"), new GCMParameterSpec(128, nonce));
+        byte[] padded = Arrays.copyOf(plaintext, plaintext.length + 1);
+        padded[plaintext.length] = 0x02;
+        byte[] ciphertext = cipher.doFinal(padded);
+
+        // 헤더: salt(16) || rs(4) || idlen(1) || keyid(as_public)
+        return ByteBuffer.allocate(16 + 4 + 1 + asPublic.length + ciphertext.length)
+                .put(salt)
+                .putInt(RECORD_SIZE)
+                .put((byte) asPublic.length)
+                .put(asPublic)
+                .put(ciphertext)
+                .array();
+    }
+
+    // === Private Helper Methods ===
+
+    // HKDF-SHA256 (출력 32바이트 이하이므로 expand는 1블록)
+    private static byte[] hkdf(byte[] salt, byte[] ikm, byte[] info, int length) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(salt, "HmacSHA256"));
+        byte[] prk = mac.doFinal(ikm);
+
+        mac.init(new SecretKeySpec(prk, "HmacSHA256"));
+        mac.update(info);
+        mac.update((byte) 0x01);
+        return Arrays.copyOf(mac.doFinal(), length);
+    }
+
+    static ECPublicKey decodePoint(byte[] uncompressed) throws GeneralSecurityException {
+        if (uncompressed.length != 65 || uncompressed[0] != 0x04) {
+            throw new InvalidKeyException("Invalid P-256 public key");
+        }
+        BigInteger x = new BigInteger(1, Arrays.copyOfRange(uncompressed, 1, 33));
+        BigInteger y = new BigInteger(1, Arrays.copyOfRange(uncompressed, 33, 65));
+        return (ECPublicKey) KeyFactory.getInstance("EC")
+                .generatePublic(new ECPublicKeySpec(new ECPoint(x, y), P256));
+    }
+
+    static byte[] encodePoint(ECPublicKey publicKey) {
+        byte[] result = new byte[65];
+        result[0] = 0x04;
+        copyUnsigned(publicKey.getW().getAffineX(), result, 1);
+        copyUnsigned(publicKey.getW().getAffineY(), result, 33);
+        return result;
+    }
+
+    static ECParameterSpec p256() {
+        return P256;
+    }
+
+    static byte[] decodeBase64Url(String value) {
+        return Base64.getUrlDecoder().decode(value.trim().replace('+', '-').replace('/', '_').replace("=", ""));
+    }
+
+    private static void copyUnsigned(BigInteger value, byte[] target, int offset) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes.length > 32 ? bytes.length - 32 : 0;
+        int length = bytes.length - start;
+        System.arraycopy(bytes, start, target, offset + 32 - length, length);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (byte[] part : parts) {
+            buffer.put(part);
+        }
+        return buffer.array();
+    }
+
+    private static ECParameterSpec loadP256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("P-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 푸시 재시도 정책 - 지수 백오프 + 지터, Retry-After 우선
+ */
+@Component
+public class PushRetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final int maxPending;
+
+    public PushRetryPolicy(
+            @Value("${push.retry.max-attempts:5}") int maxAttempts,
+            @Value("${push.retry.base-delay-ms:1000}") long baseDelayMillis,
+            @Value("${push.retry.max-delay-ms:300000}") long maxDelayMillis,
+            @Value("${push.retry.max-pending:10000}") int maxPending
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * @param attempt 방금 실패한 시도 횟수 (1부터)
+     */
+    public boolean canRetry(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    /**
+     * 다음 시도까지 대기 시간
+     * 백오프 상한의 절반 + 무작위 절반 (동시에 실패한 요청들이 같은 시각에 몰리지 않도록)
+     * Retry-After가 더 길면 그 값을 따른다.
+     */
+    public long nextDelayMillis(int attempt, long retryAfterMillis) {
+        long backoff = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        long half = backoff / 2;
+        long jittered = half + ThreadLocalRandom.current().nextLong(half + 1);
+        return Math.max(jittered, retryAfterMillis);
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+}
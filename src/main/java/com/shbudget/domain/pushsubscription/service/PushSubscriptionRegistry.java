@@ -0,0 +1,147 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import com.shbudget.domain.pushsubscription.entity.PushSubscription;
+import com.shbudget.domain.pushsubscription.repository.PushSubscriptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 푸시 구독 캐시 (memberId → 구독 목록)
+ *
+ * 처음 조회할 때 DB에서 읽고, 이후 이 인스턴스의 변경은 write-through로 반영한다.
+ * 변경 경로: 구독 등록/해제(PushSubscriptionService), 만료 응답 시 삭제(WebPushService)
+ * 조회 중 변경이 끼어들면 읽은 값을 캐시하지 않아 오래된 목록이 남지 않는다.
+ * 다른 인스턴스의 변경은 TTL 이내에 반영된다. 구독 없음은 곧 구독할 수 있으므로 짧은 TTL로만 캐시하고,
+ * 항목 수가 상한에 닿으면 전체를 비운다.
+ */
+@Component
+public class PushSubscriptionRegistry {
+
+    private final PushSubscriptionRepository pushSubscriptionRepository;
+    private final long ttlMillis;
+    private final long emptyTtlMillis;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, CachedTargets> cache = new ConcurrentHashMap<>();
+    private final AtomicLong modifications = new AtomicLong();
+
+    public PushSubscriptionRegistry(
+            PushSubscriptionRepository pushSubscriptionRepository,
+            @Value("${push.subscription-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${push.subscription-cache.empty-ttl-seconds:30}") long emptyTtlSeconds,
+            @Value("${push.subscription-cache.max-entries:100000}") int maxEntries
+    ) {
+        this.pushSubscriptionRepository = pushSubscriptionRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.emptyTtlMillis = emptyTtlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 여러 회원의 구독 조회 - 캐시에 없는 회원만 IN 쿼리 한 번으로 적재
+     */
+    public Map<Long, List<PushTarget>> getSubscriptions(Collection<Long> memberIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, List<PushTarget>> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            CachedTargets cached = cache.get(memberId);
+            if (cached != null && cached.expiresAt() > now) {
+                result.put(memberId, cached.targets());
+            } else {
+                misses.add(memberId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long version = modifications.get();
+            Map<Long, List<PushTarget>> loaded = pushSubscriptionRepository.findAllByMemberIdIn(misses).stream()
+                    .map(PushTarget::from)
+                    .collect(Collectors.groupingBy(PushTarget::memberId));
+
+            if (cache.size() + misses.size() > maxEntries) {
+                cache.clear();
+            }
+            for (Long memberId : misses) {
+                List<PushTarget> targets = List.copyOf(loaded.getOrDefault(memberId, List.of()));
+                result.put(memberId, targets);
+                // 조회 도중 변경이 없었을 때만 캐시
+                if (modifications.get() == version) {
+                    long expiresAt = now + (targets.isEmpty() ? emptyTtlMillis : ttlMillis);
+                    cache.put(memberId, new CachedTargets(targets, expiresAt));
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<PushTarget> getSubscriptions(Long memberId) {
+        return getSubscriptions(List.of(memberId)).get(memberId);
+    }
+
+    /**
+     * 구독 등록/키 갱신 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void put(PushSubscription subscription) {
+        PushTarget target = PushTarget.from(subscription);
+        afterCommit(() -> cache.computeIfPresent(target.memberId(), (memberId, current) -> {
+            List<PushTarget> updated = new ArrayList<>(current.targets().size() + 1);
+            current.targets().stream()
+                    .filter(existing -> !existing.endpoint().equals(target.endpoint()))
+                    .forEach(updated::add);
+            updated.add(target);
+            return current.with(List.copyOf(updated));
+        }));
+    }
+
+    /**
+     * 구독 해제 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void remove(Long memberId, String endpoint) {
+        afterCommit(() -> cache.computeIfPresent(memberId, (id, current) -> current.with(current.targets().stream()
+                .filter(existing -> !existing.endpoint().equals(endpoint))
+                .toList())));
+    }
+
+    /**
+     * 만료(404/410)된 구독 삭제 반영
+     */
+    public void removeById(Long memberId, Long subscriptionId) {
+        afterCommit(() -> cache.computeIfPresent(memberId, (id, current) -> current.with(current.targets().stream()
+                .filter(existing -> !existing.subscriptionId().equals(subscriptionId))
+                .toList())));
+    }
+
+    // === Private Helper Methods ===
+
+    private void afterCommit(Runnable change) {
+        modifications.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    modifications.incrementAndGet();
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private record CachedTargets(List<PushTarget> targets, long expiresAt) {
+        private CachedTargets with(List<PushTarget> updated) {
+            return new CachedTargets(updated, expiresAt);
+        }
+    }
+}
@@ -13,25 +13,30 @@ import org.springframework.transaction.annotation.Transactional;
 public class PushSubscriptionService {
 
     private final PushSubscriptionRepository pushSubscriptionRepository;
+    private final PushSubscriptionRegistry pushSubscriptionRegistry;
 
     @Transactional
     public void subscribe(Long memberId, PushSubscribeRequest request) {
-        pushSubscriptionRepository.findByMemberIdAndEndpoint(memberId, request.endpoint())
-                .ifPresentOrElse(
-                        existing -> existing.updateKeys(request.p256dh(), request.auth()),
-                        () -> pushSubscriptionRepository.save(
-                                PushSubscription.builder()
-                                        .memberId(memberId)
-                                        .endpoint(request.endpoint())
-                                        .p256dh(request.p256dh())
-                                        .auth(request.auth())
-                                        .build()
-                        )
-                );
+        PushSubscription subscription = pushSubscriptionRepository.findByMemberIdAndEndpoint(memberId, request.endpoint())
+                .map(existing -> {
+                    existing.updateKeys(request.p256dh(), request.auth());
+                    return existing;
+                })
+                .orElseGet(() -> pushSubscriptionRepository.save(
+                        PushSubscription.builder()
+                                .memberId(memberId)
+                                .endpoint(request.endpoint())
+                                .p256dh(request.p256dh())
+                                .auth(request.auth())
+                                .build()
+                ));
+
+        pushSubscriptionRegistry.put(subscription);
     }
 
     @Transactional
     public void unsubscribe(Long memberId, PushUnsubscribeRequest request) {
         pushSubscriptionRepository.deleteByMemberIdAndEndpoint(memberId, request.endpoint());
+        pushSubscriptionRegistry.remove(memberId, request.endpoint());
     }
 }
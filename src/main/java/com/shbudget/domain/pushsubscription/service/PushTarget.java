@@ -0,0 +1,24 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import com.shbudget.domain.pushsubscription.entity.PushSubscription;
+
+/**
+ * 푸시 구독 스냅샷 (PushSubscriptionRegistry 캐시 값, 불변)
+ */
+public record PushTarget(
+        Long subscriptionId,
+        Long memberId,
+        String endpoint,
+        String p256dh,
+        String auth
+) {
+    public static PushTarget from(PushSubscription subscription) {
+        return new PushTarget(
+                subscription.getId(),
+                subscription.getMemberId(),
+                subscription.getEndpoint(),
+                subscription.getP256dh(),
+                subscription.getAuth()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import com.shbudget.global.config.VapidConfig;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.ECPrivateKeySpec;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VAPID Authorization 헤더 생성 (RFC 8292)
+ *
+ * 서명(ES256)은 푸시 서비스 origin(aud)별로 한 번만 하고,
+ * 유효기간(12시간) 대부분 동안 캐시된 헤더를 재사용한다.
+ */
+@Slf4j
+@Component
+public class VapidSigner {
+
+    private static final long TOKEN_VALIDITY_MILLIS = 12 * 60 * 60 * 1000L;
+    private static final long REFRESH_BEFORE_MILLIS = 60 * 60 * 1000L;  // 만료 1시간 전 재발급
+
+    private final String publicKey;
+    private final String subject;
+    private final PrivateKey privateKey;
+    private final ConcurrentHashMap<String, CachedHeader> headers = new ConcurrentHashMap<>();
+
+    public VapidSigner(VapidConfig vapidConfig) {
+        this.publicKey = vapidConfig.getPublicKey();
+        this.subject = vapidConfig.getSubject();
+        this.privateKey = loadPrivateKey(vapidConfig.getPrivateKey());
+    }
+
+    public boolean isEnabled() {
+        return privateKey != null;
+    }
+
+    /**
+     * @param origin 푸시 서비스 origin (예: https://fcm.googleapis.com)
+     */
+    public String authorizationHeader(String origin) {
+        long now = System.currentTimeMillis();
+        CachedHeader cached = headers.get(origin);
+        if (cached != null && cached.refreshAt() > now) {
+            return cached.value();
+        }
+
+        long expiresAt = now + TOKEN_VALIDITY_MILLIS;
+        String jwt = Jwts.builder()
+                .header().add("typ", "JWT").and()
+                .audience().single(origin)  // 푸시 서비스는 aud를 배열이 아닌 문자열로 요구
+                .subject(subject)
+                .expiration(new Date(expiresAt))
+                .signWith(privateKey, Jwts.SIG.ES256)
+                .compact();
+
+        String value = "vapid t=" + jwt + ", k=" + publicKey;
+        headers.put(origin, new CachedHeader(value, expiresAt - REFRESH_BEFORE_MILLIS));
+        return value;
+    }
+
+    // === Private Helper Methods ===
+
+    private PrivateKey loadPrivateKey(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            log.warn("VAPID private key not configured, web push disabled");
+            return null;
+        }
+        try {
+            // base64url 인코딩된 P-256 private scalar (web-push 라이브러리와 같은 형식)
+            BigInteger d = new BigInteger(1, PushPayloadEncryptor.decodeBase64Url(encoded));
+            return KeyFactory.getInstance("EC")
+                    .generatePrivate(new ECPrivateKeySpec(d, PushPayloadEncryptor.p256()));
+        } catch (Exception e) {
+            log.error("Failed to load VAPID private key", e);
+            return null;
+        }
+    }
+
+    private record CachedHeader(String value, long refreshAt) {
+    }
+}
@@ -1,74 +1,137 @@
 package com.shbudget.domain.pushsubscription.service;
 
-import com.shbudget.domain.pushsubscription.entity.PushSubscription;
 import com.shbudget.domain.pushsubscription.repository.PushSubscriptionRepository;
-import com.shbudget.global.config.VapidConfig;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import nl.martijndwars.webpush.Notification;
-import nl.martijndwars.webpush.PushService;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import jakarta.annotation.PostConstruct;
-import java.security.Security;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
+/**
+ * Web Push 발송
+ *
+ * 모든 발송이 하나의 HttpClient(HTTP/2, 커넥션 풀)를 공유하며,
+ * VAPID 헤더는 VapidSigner에서 origin별로 캐시된 값을 사용한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class WebPushService {
 
-    private final VapidConfig vapidConfig;
+    private final VapidSigner vapidSigner;
     private final PushSubscriptionRepository pushSubscriptionRepository;
-    private PushService pushService;
+    private final PushSubscriptionRegistry pushSubscriptionRegistry;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int ttlSeconds;
 
-    @PostConstruct
-    public void init() {
-        try {
-            if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
-                Security.addProvider(new BouncyCastleProvider());
-            }
-            pushService = new PushService(
-                    vapidConfig.getPublicKey(),
-                    vapidConfig.getPrivateKey(),
-                    vapidConfig.getSubject()
-            );
-        } catch (Exception e) {
-            log.error("Failed to initialize PushService", e);
-        }
+    public WebPushService(
+            VapidSigner vapidSigner,
+            PushSubscriptionRepository pushSubscriptionRepository,
+            PushSubscriptionRegistry pushSubscriptionRegistry,
+            @Value("${push.http.connect-timeout-ms:3000}") long connectTimeoutMillis,
+            @Value("${push.http.request-timeout-ms:10000}") long requestTimeoutMillis,
+            @Value("${push.ttl-seconds:86400}") int ttlSeconds
+    ) {
+        this.vapidSigner = vapidSigner;
+        this.pushSubscriptionRepository = pushSubscriptionRepository;
+        this.pushSubscriptionRegistry = pushSubscriptionRegistry;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.ttlSeconds = ttlSeconds;
     }
 
-    @Async
-    public void sendPush(PushSubscription subscription, String title, String body) {
-        if (pushService == null) {
-            log.warn("PushService not initialized, skipping push");
-            return;
+    /**
+     * 암호화 단계 (CPU) - 실패하거나 VAPID 미설정이면 null
+     */
+    public EncryptedPush encrypt(PushMessage message) {
+        if (!vapidSigner.isEnabled()) {
+            log.warn("VAPID not configured, skipping push");
+            return null;
         }
 
         try {
             String payload = String.format("{\"title\":\"%s\",\"body\":\"%s\"}",
-                    title.replace("\"", "\\\""),
-                    body.replace("\"", "\\\""));
+                    message.title().replace("\"", "\\\""),
+                    message.body().replace("\"", "\\\""));
 
-            Notification notification = new Notification(
-                    subscription.getEndpoint(),
-                    subscription.getP256dh(),
-                    subscription.getAuth(),
-                    payload
+            byte[] encrypted = PushPayloadEncryptor.encrypt(
+                    payload.getBytes(StandardCharsets.UTF_8),
+                    message.p256dh(),
+                    message.auth()
             );
+            return new EncryptedPush(message, encrypted);
+        } catch (Exception e) {
+            log.warn("Push encryption failed for endpoint: {}", message.endpoint(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 전송 단계 (네트워크) - PushDispatcher의 발송 스레드에서만 호출한다.
+     * 재시도 여부는 호출 측(PushDispatcher)에서 결과를 보고 판단한다.
+     */
+    public DeliveryResult deliver(EncryptedPush push) {
+        PushMessage message = push.message();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(message.endpoint()))
+                    .timeout(requestTimeout)
+                    .header("Authorization", vapidSigner.authorizationHeader(message.origin()))
+                    .header("TTL", String.valueOf(ttlSeconds))
+                    .header("Content-Encoding", "aes128gcm")
+                    .header("Content-Type", "application/octet-stream")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(push.body()))
+                    .build();
 
-            var response = pushService.send(notification);
-            int statusCode = response.getStatusLine().getStatusCode();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            int statusCode = response.statusCode();
+            DeliveryResult result = DeliveryResult.of(statusCode, parseRetryAfter(response));
 
-            if (statusCode == 410 || statusCode == 404) {
-                log.info("Push subscription expired, removing: {}", subscription.getEndpoint());
-                pushSubscriptionRepository.deleteById(subscription.getId());
+            if (result.status() == DeliveryResult.Status.EXPIRED) {
+                log.info("Push subscription expired, removing: {}", message.endpoint());
+                pushSubscriptionRepository.deleteById(message.subscriptionId());
+                pushSubscriptionRegistry.removeById(message.memberId(), message.subscriptionId());
             } else if (statusCode >= 400) {
-                log.warn("Push failed with status {}: {}", statusCode, subscription.getEndpoint());
+                log.warn("Push failed with status {}: {}", statusCode, message.endpoint());
             }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return DeliveryResult.networkError();
         } catch (Exception e) {
-            log.warn("Push send failed for endpoint: {}", subscription.getEndpoint(), e);
+            log.warn("Push send failed for endpoint: {}", message.endpoint(), e);
+            return DeliveryResult.networkError();
         }
     }
+
+    // === Private Helper Methods ===
+
+    // Retry-After: 초 단위 숫자 또는 HTTP-date
+    private long parseRetryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Math.max(0, Long.parseLong(value.trim()) * 1000);
+                    } catch (NumberFormatException e) {
+                        try {
+                            long at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                                    .toInstant().toEpochMilli();
+                            return Math.max(0, at - System.currentTimeMillis());
+                        } catch (DateTimeParseException ignored) {
+                            return 0L;
+                        }
+                    }
+                })
+                .orElse(0L);
+    }
 }
@@ -1,6 +1,7 @@
 package com.shbudget.domain.recurring.controller;
 
 import com.shbudget.domain.recurring.dto.request.RecurringCreateRequest;
+import com.shbudget.domain.recurring.dto.response.RecurringOccurrenceResponse;
 import com.shbudget.domain.recurring.dto.response.RecurringResponse;
 import com.shbudget.domain.recurring.service.RecurringTransactionService;
 import com.shbudget.global.auth.CurrentMemberId;
@@ -11,9 +12,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Recurring", description = "반복 거래 API")
@@ -25,7 +28,7 @@ public class RecurringTransactionController {
     private final RecurringTransactionService recurringService;
 
     @PostMapping
-    @Operation(summary = "반복 거래 등록", description = "매월 반복 거래를 등록합니다.")
+    @Operation(summary = "반복 거래 등록", description = "반복 거래를 등록합니다. 매월 반복일 또는 반복 규칙(매주, 격주, N개월, 말일 영업일 등)을 지정합니다.")
     public ResponseEntity<ApiResult<RecurringResponse>> create(
             @CurrentMemberId Long memberId,
             @Valid @RequestBody RecurringCreateRequest request
@@ -47,6 +50,22 @@ public class RecurringTransactionController {
         return ResponseEntity.ok(ApiResult.of(ResponseStatus.SUCCESS, response));
     }
 
+    @GetMapping("/upcoming")
+    @Operation(summary = "반복 거래 발생 예정 조회",
+            description = "구간 내 반복 거래 발생일을 조회합니다. 이미 등록된 거래(POSTED)와 등록 예정(SCHEDULED)을 함께 반환합니다. (최대 1년)")
+    public ResponseEntity<ApiResult<List<RecurringOccurrenceResponse>>> getUpcoming(
+            @CurrentMemberId Long memberId,
+            @Parameter(description = "가계부 ID", required = true)
+            @RequestParam Long bookId,
+            @Parameter(description = "시작일 (기본값: 오늘)", example = "2026-03-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (기본값: 시작일 + 3개월)", example = "2026-05-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<RecurringOccurrenceResponse> response = recurringService.getUpcoming(memberId, bookId, from, to);
+        return ResponseEntity.ok(ApiResult.of(ResponseStatus.SUCCESS, response));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "반복 거래 삭제", description = "반복 거래를 비활성화합니다.")
     public ResponseEntity<ApiResult<Void>> delete(
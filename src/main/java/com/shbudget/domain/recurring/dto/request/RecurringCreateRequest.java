@@ -4,6 +4,8 @@ import com.shbudget.domain.transaction.entity.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
+import java.time.LocalDate;
+
 @Schema(description = "반복 거래 등록 요청")
 public record RecurringCreateRequest(
         @Schema(description = "가계부 ID")
@@ -19,12 +21,18 @@ public record RecurringCreateRequest(
         @Positive(message = "금액은 0보다 커야 합니다.")
         Long amount,
 
-        @Schema(description = "매월 반복일 (1~31)", example = "15")
-        @NotNull(message = "반복일은 필수입니다.")
+        @Schema(description = "매월 반복일 (1~31) - 반복 규칙이 없을 때 필수", example = "15")
         @Min(value = 1, message = "반복일은 1 이상이어야 합니다.")
         @Max(value = 31, message = "반복일은 31 이하여야 합니다.")
         Integer dayOfMonth,
 
+        @Schema(description = "반복 규칙 (RRULE 형식, 지정 시 반복일보다 우선)", example = "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO")
+        @Size(max = 200, message = "반복 규칙은 200자 이하여야 합니다.")
+        String rule,
+
+        @Schema(description = "반복 시작일 (격주/N개월 간격의 기준일, 기본값: 오늘)", example = "2026-03-02")
+        LocalDate startDate,
+
         @Schema(description = "메모")
         String memo,
 
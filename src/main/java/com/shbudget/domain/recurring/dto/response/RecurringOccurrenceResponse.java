@@ -0,0 +1,53 @@
+package com.shbudget.domain.recurring.dto.response;
+
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Schema(description = "반복 거래 발생 예정/내역")
+@Builder
+public record RecurringOccurrenceResponse(
+        Long recurringId,
+        LocalDate date,
+        OccurrenceStatus status,
+        @Schema(description = "생성된 거래 ID (POSTED인 경우)")
+        Long transactionId,
+        TransactionType type,
+        Long amount,
+        String memo,
+        Long assetId,
+        Long categoryId,
+        Long fromAssetId,
+        Long toAssetId
+) {
+    public enum OccurrenceStatus {
+        /** 이미 거래로 등록됨 */
+        POSTED,
+        /** 등록 예정 */
+        SCHEDULED,
+        /** 재시도 후에도 실패해 건너뜀 */
+        SKIPPED
+    }
+
+    public static RecurringOccurrenceResponse of(RecurringTransaction entity,
+                                                 LocalDate date,
+                                                 OccurrenceStatus status,
+                                                 Long transactionId) {
+        return RecurringOccurrenceResponse.builder()
+                .recurringId(entity.getId())
+                .date(date)
+                .status(status)
+                .transactionId(transactionId)
+                .type(entity.getType())
+                .amount(entity.getAmount())
+                .memo(entity.getMemo())
+                .assetId(entity.getAssetId())
+                .categoryId(entity.getCategoryId())
+                .fromAssetId(entity.getFromAssetId())
+                .toAssetId(entity.getToAssetId())
+                .build();
+    }
+}
@@ -5,6 +5,9 @@ import com.shbudget.domain.transaction.entity.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 @Schema(description = "반복 거래 응답")
 @Builder
 public record RecurringResponse(
@@ -13,6 +16,9 @@ public record RecurringResponse(
         TransactionType type,
         Long amount,
         Integer dayOfMonth,
+        String rule,
+        LocalDate startDate,
+        LocalDateTime nextRunAt,
         String memo,
         Long assetId,
         String assetName,
@@ -37,6 +43,9 @@ public record RecurringResponse(
                 .type(entity.getType())
                 .amount(entity.getAmount())
                 .dayOfMonth(entity.getDayOfMonth())
+                .rule(entity.resolveRule().toString())
+                .startDate(entity.getStartDate())
+                .nextRunAt(entity.getNextRunAt())
                 .memo(entity.getMemo())
                 .assetId(entity.getAssetId())
                 .assetName(assetName)
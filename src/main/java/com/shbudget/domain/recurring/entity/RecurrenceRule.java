@@ -0,0 +1,282 @@
+package com.shbudget.domain.recurring.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 규칙 (RFC 5545 RRULE 일부)
+ *
+ * 지원 항목: FREQ=WEEKLY|MONTHLY, INTERVAL, BYDAY(월간은 서수 포함 가능, 예: -1FR), BYMONTHDAY, BYSETPOS
+ * - 격주: FREQ=WEEKLY;INTERVAL=2;BYDAY=MO
+ * - N개월마다: FREQ=MONTHLY;INTERVAL=3;BYMONTHDAY=15
+ * - 매월 말일 영업일: FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1 (공휴일은 고려하지 않음)
+ * RRULE과 달리 BYMONTHDAY가 해당 월의 마지막 날보다 크면 마지막 날로 맞춘다 (기존 월말 처리와 동일).
+ * INTERVAL은 기준일(anchor)이 속한 주/월부터 센다.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        WEEKLY, MONTHLY
+    }
+
+    private static final int MAX_INTERVAL = 99;
+    private static final Map<String, DayOfWeek> DAY_CODES = Map.of(
+            "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY, "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY
+    );
+    private static final Set<DayOfWeek> BUSINESS_DAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final Integer byMonthDay;
+    private final Integer bySetPos;
+
+    private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay,
+                           Integer byMonthDay, Integer bySetPos) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(byDay);
+        this.byMonthDay = byMonthDay;
+        this.bySetPos = bySetPos;
+    }
+
+    // 정적 팩토리 메서드
+    public static RecurrenceRule monthly(int dayOfMonth) {
+        return everyMonths(1, dayOfMonth);
+    }
+
+    public static RecurrenceRule everyMonths(int interval, int dayOfMonth) {
+        return new RecurrenceRule(Frequency.MONTHLY, interval, Set.of(), dayOfMonth, null);
+    }
+
+    public static RecurrenceRule weekly(DayOfWeek dayOfWeek) {
+        return everyWeeks(1, dayOfWeek);
+    }
+
+    public static RecurrenceRule everyWeeks(int interval, DayOfWeek dayOfWeek) {
+        return new RecurrenceRule(Frequency.WEEKLY, interval, Set.of(dayOfWeek), null, null);
+    }
+
+    public static RecurrenceRule lastBusinessDay() {
+        return new RecurrenceRule(Frequency.MONTHLY, 1, BUSINESS_DAYS, null, -1);
+    }
+
+    /**
+     * RRULE 문자열 파싱 (지원하지 않는 규칙이면 IllegalArgumentException)
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("empty rule");
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer byMonthDay = null;
+        Integer bySetPos = null;
+        Integer dayOrdinal = null;
+
+        String body = rule.startsWith("RRULE:") ? rule.substring("RRULE:".length()) : rule;
+        for (String part : body.split(";")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("invalid part: " + part);
+            }
+            String value = pair[1].trim();
+            switch (pair[0].trim().toUpperCase()) {
+                case "FREQ" -> frequency = Frequency.valueOf(value.toUpperCase());
+                case "INTERVAL" -> interval = Integer.parseInt(value);
+                case "BYMONTHDAY" -> byMonthDay = Integer.parseInt(value);
+                case "BYSETPOS" -> bySetPos = Integer.parseInt(value);
+                case "BYDAY" -> {
+                    for (String code : value.split(",")) {
+                        if (code.length() < 2) {
+                            throw new IllegalArgumentException("invalid day: " + code);
+                        }
+                        String day = code.substring(code.length() - 2).toUpperCase();
+                        String ordinal = code.substring(0, code.length() - 2);
+                        DayOfWeek dayOfWeek = DAY_CODES.get(day);
+                        if (dayOfWeek == null) {
+                            throw new IllegalArgumentException("invalid day: " + code);
+                        }
+                        if (!ordinal.isEmpty()) {
+                            if (dayOrdinal != null) {
+                                throw new IllegalArgumentException("multiple ordinals: " + value);
+                            }
+                            dayOrdinal = Integer.parseInt(ordinal);
+                        }
+                        byDay.add(dayOfWeek);
+                    }
+                }
+                default -> throw new IllegalArgumentException("unsupported part: " + pair[0]);
+            }
+        }
+
+        if (dayOrdinal != null) {
+            if (byDay.size() != 1 || bySetPos != null) {
+                throw new IllegalArgumentException("ordinal BYDAY must be single: " + rule);
+            }
+            bySetPos = dayOrdinal;
+        }
+        validate(frequency, interval, byDay, byMonthDay, bySetPos);
+        return new RecurrenceRule(frequency, interval, byDay, byMonthDay, bySetPos);
+    }
+
+    /**
+     * anchor 기준으로 from 이후(당일 포함) 첫 발생일
+     */
+    public LocalDate firstOnOrAfter(LocalDate anchor, LocalDate from) {
+        LocalDate start = from.isBefore(anchor) ? anchor : from;
+        return frequency == Frequency.WEEKLY ? firstWeekly(anchor, start) : firstMonthly(anchor, start);
+    }
+
+    /**
+     * after 다음(당일 제외) 발생일
+     */
+    public LocalDate nextAfter(LocalDate anchor, LocalDate after) {
+        return firstOnOrAfter(anchor, after.plusDays(1));
+    }
+
+    /**
+     * [from, to] 구간의 발생일 전개
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate anchor, LocalDate from, LocalDate to) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        LocalDate occurrence = firstOnOrAfter(anchor, from);
+        while (!occurrence.isAfter(to)) {
+            occurrences.add(occurrence);
+            occurrence = nextAfter(anchor, occurrence);
+        }
+        return occurrences;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(frequency);
+        if (interval > 1) {
+            sb.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            sb.append(";BYDAY=").append(byDay.stream()
+                    .map(day -> day.name().substring(0, 2))
+                    .collect(Collectors.joining(",")));
+        }
+        if (byMonthDay != null) {
+            sb.append(";BYMONTHDAY=").append(byMonthDay);
+        }
+        if (bySetPos != null) {
+            sb.append(";BYSETPOS=").append(bySetPos);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RecurrenceRule other && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    // === Private Helper Methods ===
+
+    private static void validate(Frequency frequency, int interval, Set<DayOfWeek> byDay,
+                                 Integer byMonthDay, Integer bySetPos) {
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ is required");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("INTERVAL out of range: " + interval);
+        }
+        if (frequency == Frequency.WEEKLY && (byMonthDay != null || bySetPos != null)) {
+            throw new IllegalArgumentException("WEEKLY supports BYDAY only");
+        }
+        if (byMonthDay != null && (!byDay.isEmpty() || byMonthDay == 0 || Math.abs(byMonthDay) > 31)) {
+            throw new IllegalArgumentException("invalid BYMONTHDAY: " + byMonthDay);
+        }
+        if (bySetPos != null && (byDay.isEmpty() || bySetPos == 0 || Math.abs(bySetPos) > 31)) {
+            throw new IllegalArgumentException("invalid BYSETPOS: " + bySetPos);
+        }
+    }
+
+    private LocalDate firstWeekly(LocalDate anchor, LocalDate start) {
+        Set<DayOfWeek> days = byDay.isEmpty() ? EnumSet.of(anchor.getDayOfWeek()) : byDay;
+        LocalDate anchorWeek = anchor.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        // 대상 주로 건너뛴 뒤 최대 두 번의 대상 주 안에서 찾는다
+        LocalDate week = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long offset = ChronoUnit.WEEKS.between(anchorWeek, week) % interval;
+        if (offset != 0) {
+            week = week.plusWeeks(interval - offset);
+        }
+        while (true) {
+            for (int i = 0; i < 7; i++) {
+                LocalDate day = week.plusDays(i);
+                if (!day.isBefore(start) && days.contains(day.getDayOfWeek())) {
+                    return day;
+                }
+            }
+            week = week.plusWeeks(interval);
+        }
+    }
+
+    private LocalDate firstMonthly(LocalDate anchor, LocalDate start) {
+        YearMonth anchorMonth = YearMonth.from(anchor);
+        YearMonth month = YearMonth.from(start);
+        long offset = ChronoUnit.MONTHS.between(anchorMonth, month) % interval;
+        if (offset != 0) {
+            month = month.plusMonths(interval - offset);
+        }
+        while (true) {
+            for (LocalDate occurrence : occurrencesIn(month, anchor)) {
+                if (!occurrence.isBefore(start)) {
+                    return occurrence;
+                }
+            }
+            month = month.plusMonths(interval);
+        }
+    }
+
+    private List<LocalDate> occurrencesIn(YearMonth month, LocalDate anchor) {
+        if (byDay.isEmpty()) {
+            int day = byMonthDay != null ? byMonthDay : anchor.getDayOfMonth();
+            int actualDay = day > 0
+                    ? Math.min(day, month.lengthOfMonth())
+                    : Math.max(month.lengthOfMonth() + day + 1, 1);
+            return List.of(month.atDay(actualDay));
+        }
+
+        List<LocalDate> candidates = new ArrayList<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            if (byDay.contains(date.getDayOfWeek())) {
+                candidates.add(date);
+            }
+        }
+        if (bySetPos == null) {
+            return candidates;
+        }
+        int index = bySetPos > 0 ? bySetPos - 1 : candidates.size() + bySetPos;
+        return index >= 0 && index < candidates.size() ? List.of(candidates.get(index)) : List.of();
+    }
+}
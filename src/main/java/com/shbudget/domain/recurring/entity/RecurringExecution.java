@@ -0,0 +1,78 @@
+package com.shbudget.domain.recurring.entity;
+
+import com.shbudget.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 거래 실행 기록 - (반복 거래, 발생일)당 한 행만 존재한다.
+ *
+ * 거래 생성과 같은 트랜잭션에서 먼저 INSERT 하므로,
+ * 중복 실행은 유니크 키에서 막히고 실패한 실행은 기록도 함께 롤백된다.
+ * 재시도 후에도 실패해 건너뛴 발생일은 SKIPPED로 남겨 조회할 수 있게 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@Entity
+@Table(name = "recurring_executions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recurring_execution_occurrence", columnNames = {"recurring_id", "occurrence_date"})
+})
+public class RecurringExecution extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "recurring_id")
+    private Long recurringId;
+
+    /** 발생일 (생성된 거래의 날짜) */
+    @Column(nullable = false, name = "occurrence_date")
+    private LocalDate occurrenceDate;
+
+    /** 생성된 거래 ID */
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    /** 실행 결과 (도입 전 기록은 null - POSTED로 취급) */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private RecurringExecutionStatus status;
+
+    /** 건너뛴 사유 (SKIPPED인 경우) */
+    @Column(name = "skip_reason", length = 500)
+    private String skipReason;
+
+    // 정적 팩토리 메서드
+    public static RecurringExecution claim(Long recurringId, LocalDate occurrenceDate) {
+        return RecurringExecution.builder()
+                .recurringId(recurringId)
+                .occurrenceDate(occurrenceDate)
+                .status(RecurringExecutionStatus.POSTED)
+                .build();
+    }
+
+    public static RecurringExecution skipped(Long recurringId, LocalDate occurrenceDate, String reason) {
+        return RecurringExecution.builder()
+                .recurringId(recurringId)
+                .occurrenceDate(occurrenceDate)
+                .status(RecurringExecutionStatus.SKIPPED)
+                .skipReason(reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason)
+                .build();
+    }
+
+    public boolean isSkipped() {
+        return status == RecurringExecutionStatus.SKIPPED;
+    }
+
+    // 비즈니스 메서드
+    public void complete(Long transactionId) {
+        this.transactionId = transactionId;
+    }
+}
@@ -0,0 +1,6 @@
+package com.shbudget.domain.recurring.entity;
+
+public enum RecurringExecutionStatus {
+    POSTED,    // 거래 생성됨
+    SKIPPED    // 재시도 후에도 실패해 건너뜀
+}
@@ -8,16 +8,25 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
 @Entity
 @Table(name = "recurring_transactions", indexes = {
         @Index(name = "idx_recurring_book", columnList = "book_id"),
-        @Index(name = "idx_recurring_day", columnList = "day_of_month, active")
+        @Index(name = "idx_recurring_next_run", columnList = "active, next_run_at"),
+        @Index(name = "idx_recurring_day_of_month", columnList = "day_of_month, active")
 })
 public class RecurringTransaction extends BaseEntity {
 
+    /** 매월 N일 항목의 실행 시각 - 매월 1일 21:00에 그 달 거래를 미리 생성 (반복 규칙 도입 전과 동일) */
+    public static final LocalTime MONTHLY_RUN_TIME = LocalTime.of(21, 0);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,10 +41,30 @@ public class RecurringTransaction extends BaseEntity {
     @Column(nullable = false)
     private Long amount;
 
-    /** 매월 반복일 (1~31) */
-    @Column(nullable = false, name = "day_of_month")
+    /** 매월 반복일 (1~31) - 반복일로 등록한 경우에만 존재 */
+    @Column(name = "day_of_month")
     private Integer dayOfMonth;
 
+    /** 반복 규칙 (RRULE 형식, 예: FREQ=WEEKLY;INTERVAL=2;BYDAY=MO) - 없으면 매월 dayOfMonth */
+    @Column(name = "recurrence_rule", length = 200)
+    private String recurrenceRule;
+
+    /** 반복 시작일 (격주/N개월 간격의 기준일) */
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    /** 다음 실행 시각 (매월 N일 항목은 발생일이 속한 달 1일 21:00, 그 외는 발생일 0시) */
+    @Column(name = "next_run_at")
+    private LocalDateTime nextRunAt;
+
+    /** 현재 발생일의 연속 실패 횟수 (없으면 0) */
+    @Column(name = "failed_attempts")
+    private Integer failedAttempts;
+
+    /** 실패 후 재시도 가능 시각 (이 시각 전에는 실행 대상에서 제외) */
+    @Column(name = "retry_at")
+    private LocalDateTime retryAt;
+
     @Column(length = 500)
     private String memo;
 
@@ -62,4 +91,72 @@ public class RecurringTransaction extends BaseEntity {
     public void deactivate() {
         this.active = false;
     }
+
+    public RecurrenceRule resolveRule() {
+        return recurrenceRule != null ? RecurrenceRule.parse(recurrenceRule) : RecurrenceRule.monthly(dayOfMonth);
+    }
+
+    /**
+     * 매월 N일(반복일)로 등록한 항목인지 - 반복 규칙으로 등록한 항목은 dayOfMonth가 없다
+     */
+    public boolean isMonthlyByDay() {
+        return dayOfMonth != null;
+    }
+
+    /**
+     * 발생일의 실행 시각
+     * 매월 N일 항목은 그 달 1일 21:00에 미리 생성하고, 반복 규칙 항목은 발생일 0시에 생성한다.
+     */
+    public static LocalDateTime runAtOf(Integer dayOfMonth, LocalDate occurrence) {
+        return dayOfMonth != null
+                ? occurrence.withDayOfMonth(1).atTime(MONTHLY_RUN_TIME)
+                : occurrence.atStartOfDay();
+    }
+
+    /**
+     * from 이후(당일 포함) 첫 발생일로 다음 실행 시각 설정
+     * 시작일이 없는 기존 데이터는 등록일을 시작일로 삼는다.
+     */
+    public void scheduleFrom(LocalDate from) {
+        if (startDate == null) {
+            startDate = anchorDate(from);
+        }
+        this.nextRunAt = runAtOf(dayOfMonth, resolveRule().firstOnOrAfter(startDate, from));
+    }
+
+    /**
+     * 현재 실행 시각(nextRunAt)에 생성할 발생일
+     */
+    public LocalDate currentOccurrence() {
+        LocalDate runDate = nextRunAt.toLocalDate();
+        if (!isMonthlyByDay()) {
+            return runDate;
+        }
+        return resolveRule().firstOnOrAfter(anchorDate(runDate), runDate.withDayOfMonth(1));
+    }
+
+    /**
+     * 발생일 다음 실행 시각
+     */
+    public LocalDateTime nextRunAfter(LocalDate occurrence) {
+        return runAtOf(dayOfMonth, resolveRule().nextAfter(anchorDate(occurrence), occurrence));
+    }
+
+    public int getFailedAttemptCount() {
+        return failedAttempts != null ? failedAttempts : 0;
+    }
+
+    /**
+     * [from, to] 구간의 발생일 (DB 조회 없이 규칙으로 전개)
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate from, LocalDate to) {
+        return resolveRule().occurrencesBetween(anchorDate(from), from, to);
+    }
+
+    private LocalDate anchorDate(LocalDate fallback) {
+        if (startDate != null) {
+            return startDate;
+        }
+        return getCreatedAt() != null ? getCreatedAt().toLocalDate() : fallback;
+    }
 }
@@ -0,0 +1,15 @@
+package com.shbudget.domain.recurring.repository;
+
+import com.shbudget.domain.recurring.entity.RecurringExecution;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface RecurringExecutionRepository extends JpaRepository<RecurringExecution, Long> {
+
+    /** 반복 거래들의 구간 내 실행 기록 일괄 조회 ((recurring_id, occurrence_date) 유니크 인덱스 사용) */
+    List<RecurringExecution> findAllByRecurringIdInAndOccurrenceDateBetween(
+            Collection<Long> recurringIds, LocalDate from, LocalDate to);
+}
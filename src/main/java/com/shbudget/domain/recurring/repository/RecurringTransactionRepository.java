@@ -1,8 +1,13 @@
 package com.shbudget.domain.recurring.repository;
 
 import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
@@ -11,8 +16,60 @@ public interface RecurringTransactionRepository extends JpaRepository<RecurringT
 
     List<RecurringTransaction> findAllByBookIdAndActiveTrue(Long bookId);
 
-    List<RecurringTransaction> findAllByDayOfMonthAndActiveTrue(Integer dayOfMonth);
+    /** 반복일이 해당 일자 중 하나인 매월 N일 반복 거래 (예정 알림용) */
+    List<RecurringTransaction> findAllByDayOfMonthInAndActiveTrue(List<Integer> daysOfMonth);
 
-    /** 월말 처리: dayOfMonth가 targetDay 이상인 활성 반복 거래 조회 (31일 설정인데 해당 월이 28/30일인 경우) */
-    List<RecurringTransaction> findAllByDayOfMonthGreaterThanEqualAndActiveTrue(Integer dayOfMonth);
+    /** 다음 실행 시각이 아직 계산되지 않은 반복 거래 (반복 규칙 도입 이전 데이터) */
+    List<RecurringTransaction> findAllByActiveTrueAndNextRunAtIsNull(Limit limit);
+
+    /**
+     * 실행 시각이 지난 반복 거래 keyset 페이징 ((nextRunAt, id) 오름차순, 마지막 항목 이후 limit건)
+     * (active, next_run_at) 인덱스 범위만 읽으므로 비용은 활성 건수가 아니라 대상 건수에 비례한다.
+     * 실패 후 재시도 대기 중(retry_at이 미래)인 항목은 제외한다.
+     */
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.active = true AND r.nextRunAt <= :now " +
+            "AND (r.retryAt IS NULL OR r.retryAt <= :now) " +
+            "AND (r.nextRunAt > :lastRunAt OR (r.nextRunAt = :lastRunAt AND r.id > :lastId)) " +
+            "ORDER BY r.nextRunAt, r.id")
+    List<RecurringTransaction> findDue(
+            @Param("now") LocalDateTime now,
+            @Param("lastRunAt") LocalDateTime lastRunAt,
+            @Param("lastId") Long lastId,
+            Limit limit
+    );
+
+    /** [from, to) 구간에 실행 예정인 반복 거래 */
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.active = true " +
+            "AND r.nextRunAt >= :from AND r.nextRunAt < :to ORDER BY r.nextRunAt, r.id")
+    List<RecurringTransaction> findScheduledBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit
+    );
+
+    /**
+     * 다음 실행 시각을 조건부로 전진 (읽은 시점의 값과 같을 때만, 실패 횟수 초기화)
+     * 0이 반환되면 다른 실행이 이미 처리했거나 비활성화된 것이다.
+     */
+    @Modifying
+    @Query("UPDATE RecurringTransaction r SET r.nextRunAt = :next, r.failedAttempts = NULL, r.retryAt = NULL " +
+            "WHERE r.id = :id AND r.active = true AND r.nextRunAt = :current")
+    int advanceNextRunAt(
+            @Param("id") Long id,
+            @Param("current") LocalDateTime current,
+            @Param("next") LocalDateTime next
+    );
+
+    /**
+     * 실패한 발생일을 그대로 두고 재시도 시각만 기록 (다음 실행 시각이 읽은 시점의 값과 같을 때만)
+     */
+    @Modifying
+    @Query("UPDATE RecurringTransaction r SET r.failedAttempts = :attempts, r.retryAt = :retryAt " +
+            "WHERE r.id = :id AND r.active = true AND r.nextRunAt = :current")
+    int deferRetry(
+            @Param("id") Long id,
+            @Param("current") LocalDateTime current,
+            @Param("attempts") int attempts,
+            @Param("retryAt") LocalDateTime retryAt
+    );
 }
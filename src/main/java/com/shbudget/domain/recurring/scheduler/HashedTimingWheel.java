@@ -0,0 +1,78 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시 타이밍 휠
+ *
+ * 만료 시각을 tick 단위로 나눠 (tick mod 버킷 수) 버킷에 넣고, advance 시 지나간 tick의 버킷만 훑는다.
+ * 등록/만료 모두 항목 수와 무관하게 O(1)이며, 한 바퀴보다 먼 항목은 만료 tick을 비교해 다음 바퀴까지 남겨둔다.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final List<Entry<T>>[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        int normalizedSize = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.buckets = new List[Math.max(normalizedSize, 1)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.mask = buckets.length - 1;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 만료 시각에 항목 등록 (이미 지난 시각이면 다음 advance에서 만료)
+     */
+    public synchronized void add(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(deadlineMillis / tickMillis, currentTick);
+        buckets[(int) (deadlineTick & mask)].add(new Entry<>(item, deadlineTick));
+        size++;
+    }
+
+    /**
+     * nowMillis까지 만료된 항목을 꺼내 반환 (만료 시각 순서는 tick 단위로만 보장)
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        if (nowTick < currentTick) {
+            return List.of();
+        }
+
+        List<T> expired = new ArrayList<>();
+        // 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 훑으면 된다
+        long lastTick = Math.min(nowTick, currentTick + buckets.length - 1);
+        for (long tick = currentTick; tick <= lastTick; tick++) {
+            Iterator<Entry<T>> iterator = buckets[(int) (tick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                if (entry.deadlineTick() <= nowTick) {
+                    expired.add(entry.item());
+                    iterator.remove();
+                }
+            }
+        }
+        size -= expired.size();
+        currentTick = nowTick + 1;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
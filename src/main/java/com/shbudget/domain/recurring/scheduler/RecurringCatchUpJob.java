@@ -0,0 +1,32 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import com.shbudget.global.job.ScheduledJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 시각이 지난 반복 거래 실행 (자체 cron 없음)
+ *
+ * 평소에는 RecurringDispatcher가 실행하며, 알림 작업의 선행 작업으로 먼저 실행되어
+ * 밀린 발생일이 있어도 next_run_at 기준 알림 대상이 정확하도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecurringCatchUpJob implements ScheduledJob {
+
+    public static final String NAME = "recurring.execute-due";
+
+    private final RecurringExecutionEngine recurringExecutionEngine;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int run(LocalDateTime now) {
+        return recurringExecutionEngine.executeDue(now).total();
+    }
+}
@@ -0,0 +1,187 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
+import com.shbudget.domain.recurring.service.RecurringExecutionService;
+import com.shbudget.global.lock.LeaseLockManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복 거래 실행 디스패처
+ *
+ * window 주기마다 (lease 락을 얻은 인스턴스 한 곳에서)
+ * 1. 다음 실행 시각이 없는 기존 데이터를 초기화하고
+ * 2. 실행 시각이 지난 건(기동 전 누락분 포함)을 바로 실행한 뒤
+ * 3. 다음 window 안에 실행될 건만 next_run_at 인덱스로 읽어 타이밍 휠에 올린다.
+ * 휠은 1초 tick으로 만료된 건을 엔진에 넘긴다. 조회 비용은 활성 건수가 아니라 window 안의 대상 건수에 비례한다.
+ *
+ * 락은 window 동안 유지되므로(minHold) 같은 window를 두 인스턴스가 동시에 올리지 않는다.
+ * 경계에서 겹치더라도 next_run_at 조건부 전진으로 발생일당 한 번만 실행된다.
+ * 기본 스케줄러 풀(1개)을 다른 작업과 나눠 쓰지 않도록 전용 스레드에서 동작한다.
+ */
+@Slf4j
+@Component
+public class RecurringDispatcher {
+
+    private static final String LOCK_NAME = "recurring.dispatch";
+    private static final long TICK_MILLIS = 1000;
+    private static final int INITIALIZE_BATCH_SIZE = 1000;
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final RecurringExecutionService recurringExecutionService;
+    private final RecurringExecutionEngine recurringExecutionEngine;
+    private final LeaseLockManager leaseLockManager;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxWheelSize;
+    private final HashedTimingWheel<RecurringTransaction> wheel;
+    private final Set<Long> scheduledIds = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService ticker = Executors.newScheduledThreadPool(2,
+            Thread.ofPlatform().name("recurring-dispatch-", 0).daemon().factory());
+
+    public RecurringDispatcher(
+            RecurringTransactionRepository recurringRepository,
+            RecurringExecutionService recurringExecutionService,
+            RecurringExecutionEngine recurringExecutionEngine,
+            LeaseLockManager leaseLockManager,
+            Clock clock,
+            @Value("${recurring.dispatch.enabled:true}") boolean enabled,
+            @Value("${recurring.dispatch.window-seconds:300}") long windowSeconds,
+            @Value("${recurring.dispatch.max-wheel-size:50000}") int maxWheelSize
+    ) {
+        this.recurringRepository = recurringRepository;
+        this.recurringExecutionService = recurringExecutionService;
+        this.recurringExecutionEngine = recurringExecutionEngine;
+        this.leaseLockManager = leaseLockManager;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.maxWheelSize = maxWheelSize;
+        // 휠 한 바퀴가 window 이상이 되도록 (대부분의 항목이 첫 바퀴에 만료)
+        this.wheel = new HashedTimingWheel<>(TICK_MILLIS, (int) Math.max(windowSeconds, 1), clock.millis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[반복 거래] 디스패처 비활성화 (recurring.dispatch.enabled=false)");
+            return;
+        }
+        ticker.scheduleWithFixedDelay(this::refillSafely, 0, window.toSeconds(), TimeUnit.SECONDS);
+        ticker.scheduleAtFixedRate(this::tickSafely, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 다음 window 분량 적재 (락을 얻지 못하면 아무것도 하지 않음)
+     */
+    void refill(LocalDateTime now) throws Throwable {
+        leaseLockManager.runLocked(LOCK_NAME, window.multipliedBy(2), window, () -> {
+            initializeSchedules(now);
+
+            RecurringExecutionReport overdue = recurringExecutionEngine.executeDue(now);
+            if (overdue.total() > 0) {
+                log.info("[반복 거래] 지난 실행 처리 - 대상: {}건, 성공: {}건, 실패: {}건",
+                        overdue.total(), overdue.succeeded(), overdue.failed());
+            }
+
+            loadWindow(now);
+            return null;
+        });
+    }
+
+    /**
+     * 만료된 항목을 엔진에 넘김 (tick 스레드를 막지 않도록 가상 스레드에서 실행)
+     */
+    void tick(long nowMillis) {
+        List<RecurringTransaction> expired = wheel.advance(nowMillis);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        Thread.ofVirtual().name("recurring-dispatch-batch").start(() -> {
+            try {
+                recurringExecutionEngine.execute(expired);
+            } finally {
+                expired.forEach(recurring -> scheduledIds.remove(recurring.getId()));
+            }
+        });
+    }
+
+    int getScheduledCount() {
+        return wheel.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    // === Private Helper Methods ===
+
+    private void initializeSchedules(LocalDateTime now) {
+        int initialized = 0;
+        int batch;
+        do {
+            batch = recurringExecutionService.initializeSchedules(now, INITIALIZE_BATCH_SIZE);
+            initialized += batch;
+        } while (batch == INITIALIZE_BATCH_SIZE);
+
+        if (initialized > 0) {
+            log.info("[반복 거래] 다음 실행 시각 초기화 - {}건", initialized);
+        }
+    }
+
+    private void loadWindow(LocalDateTime now) {
+        List<RecurringTransaction> upcoming = recurringRepository
+                .findScheduledBetween(now, now.plus(window), Limit.of(maxWheelSize));
+
+        ZoneId zone = clock.getZone();
+        int added = 0;
+        for (RecurringTransaction recurring : upcoming) {
+            if (scheduledIds.add(recurring.getId())) {
+                wheel.add(recurring, recurring.getNextRunAt().atZone(zone).toInstant().toEpochMilli());
+                added++;
+            }
+        }
+
+        if (upcoming.size() >= maxWheelSize) {
+            // 나머지는 다음 주기에 지난 실행으로 처리된다
+            log.warn("[반복 거래] 휠 적재 한도 도달 - {}건", maxWheelSize);
+        }
+        log.debug("[반복 거래] 휠 적재 - 조회: {}건, 추가: {}건", upcoming.size(), added);
+    }
+
+    private void refillSafely() {
+        try {
+            refill(LocalDateTime.now(clock));
+        } catch (Throwable e) {
+            log.error("[반복 거래] 디스패치 적재 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void tickSafely() {
+        try {
+            tick(clock.millis());
+        } catch (Exception e) {
+            log.error("[반복 거래] 디스패치 tick 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+}
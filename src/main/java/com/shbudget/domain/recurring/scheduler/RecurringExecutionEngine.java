@@ -0,0 +1,267 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
+import com.shbudget.domain.recurring.service.RecurringExecutionService;
+import com.shbudget.global.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 반복 거래 실행 엔진
+ *
+ * - 실행 시각이 지난 반복 거래만 (next_run_at, id) keyset 페이지 단위로 읽는다 (전체를 메모리에 올리지 않음)
+ * - 가상 스레드에서 병렬 실행하되, 같은 가계부 항목은 순서대로 이어서 실행해 자산 행 경합을 피한다
+ * - 항목마다 트랜잭션이 따로 열리므로 한 건의 실패가 다른 항목에 영향을 주지 않는다
+ * - 동시 실행 수(parallelism)와 대기 항목 수(max-pending)를 제한한다
+ *   parallelism은 항목마다 커넥션을 하나씩 쓰므로 기본값을 커넥션 풀의 1/3로 잡고, 설정값도 풀 크기 - 2를 넘지 않게 한다
+ * - next_run_at 조건부 전진과 recurring_executions 기록으로 실행이 겹쳐도 발생일당 한 번만 생성된다
+ * - 실패한 발생일은 next_run_at을 그대로 두고 retry-backoff-seconds부터 두 배씩 늘려 재시도한다
+ *   max-attempts번 실패했거나 재시도해도 같은 결과인 오류(CustomException)면 SKIPPED로 기록하고 다음 발생일로 넘긴다
+ * - 실행 한 번이 끝나면 recurring.execution(mode) 소요 시간과 recurring.occurrences(outcome) 건수를 기록한다
+ */
+@Slf4j
+@Component
+public class RecurringExecutionEngine {
+
+    private static final int MAX_REPORTED_FAILURES = 100;
+    /** 장기 중단 후 여러 발생일이 밀린 경우 한 번에 따라잡는 최대 회차 */
+    private static final int MAX_CATCH_UP_PASSES = 60;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    /** 재시도 간격이 더 늘지 않는 시도 횟수 (기본 5분 기준 약 3.5일) */
+    private static final int MAX_BACKOFF_DOUBLINGS = 10;
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final RecurringExecutionService recurringExecutionService;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final int pageSize;
+    private final int parallelism;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final long retryBackoffSeconds;
+
+    public RecurringExecutionEngine(
+            RecurringTransactionRepository recurringRepository,
+            RecurringExecutionService recurringExecutionService,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${recurring.execution.page-size:500}") int pageSize,
+            @Value("${recurring.execution.parallelism:0}") int parallelism,
+            @Value("${recurring.execution.max-pending:2000}") int maxPending,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+            @Value("${recurring.execution.max-attempts:5}") int maxAttempts,
+            @Value("${recurring.execution.retry-backoff-seconds:300}") long retryBackoffSeconds
+    ) {
+        this.recurringRepository = recurringRepository;
+        this.recurringExecutionService = recurringExecutionService;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.pageSize = pageSize;
+        this.maxPending = maxPending;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffSeconds = Math.max(1, retryBackoffSeconds);
+
+        // 실행 중에도 API 요청이 쓸 커넥션을 남겨 둔다
+        int limit = Math.max(1, connectionPoolSize - 2);
+        this.parallelism = parallelism > 0 ? Math.min(parallelism, limit) : Math.max(1, connectionPoolSize / 3);
+        if (parallelism > limit) {
+            log.warn("[반복 거래] parallelism이 커넥션 풀보다 커서 제한 - 설정: {}, 적용: {}, 풀: {}",
+                    parallelism, this.parallelism, connectionPoolSize);
+        }
+    }
+
+    /**
+     * now 시점까지 실행 시각이 지난 반복 거래를 모두 실행
+     * 한 회차가 끝난 뒤에도 여전히 밀린 발생일(예: 중단 기간 동안의 매주 반복)이 있으면 다시 읽는다.
+     */
+    public RecurringExecutionReport executeDue(LocalDateTime now) {
+        Run run = new Run(now, "due");
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int pass = 0; pass < MAX_CATCH_UP_PASSES; pass++) {
+                int submittedBefore = run.total;
+                LocalDateTime lastRunAt = KEYSET_START;
+                long lastId = 0L;
+                while (true) {
+                    List<RecurringTransaction> page = recurringRepository
+                            .findDue(now, lastRunAt, lastId, Limit.of(pageSize));
+                    if (page.isEmpty()) {
+                        break;
+                    }
+
+                    page.forEach(recurring -> run.submit(recurring, executor));
+                    run.prune();
+                    RecurringTransaction last = page.getLast();
+                    lastRunAt = last.getNextRunAt();
+                    lastId = last.getId();
+                    if (page.size() < pageSize) {
+                        break;
+                    }
+                }
+                run.await();
+                if (run.total == submittedBefore) {
+                    break;
+                }
+            }
+        }
+        return run.report();
+    }
+
+    /**
+     * 타이밍 휠에서 만료된 반복 거래 묶음 실행
+     */
+    public RecurringExecutionReport execute(List<RecurringTransaction> batch) {
+        Run run = new Run(LocalDateTime.now(clock), "wheel");
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            batch.forEach(recurring -> run.submit(recurring, executor));
+            run.await();
+        }
+        return run.report();
+    }
+
+    // === Private Helper Methods ===
+
+    /**
+     * 실행 한 번의 상태 (submit/await는 제출 스레드에서만 호출)
+     */
+    private class Run {
+
+        private final LocalDateTime runAt;
+        private final String mode;
+        private final long startedAt = System.nanoTime();
+        private final Semaphore workers = new Semaphore(parallelism);
+        private final Semaphore backlog = new Semaphore(maxPending);
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Queue<Long> failedIds = new ConcurrentLinkedQueue<>();
+        // 가계부별 마지막 작업
+        private final Map<Long, CompletableFuture<Void>> tails = new HashMap<>();
+        private final Set<Long> books = new HashSet<>();
+        private int total;
+
+        Run(LocalDateTime runAt, String mode) {
+            this.runAt = runAt;
+            this.mode = mode;
+        }
+
+        void submit(RecurringTransaction recurring, ExecutorService executor) {
+            backlog.acquireUninterruptibly();
+            total++;
+            books.add(recurring.getBookId());
+
+            Runnable task = () -> {
+                workers.acquireUninterruptibly();
+                try {
+                    if (recurringExecutionService.execute(recurring)) {
+                        succeeded.incrementAndGet();
+                    } else {
+                        // 다른 실행(인스턴스/이전 회차)이 먼저 처리함
+                        skipped.incrementAndGet();
+                    }
+                } catch (DataIntegrityViolationException e) {
+                    // 이미 실행 기록이 있는 발생일 - 다음 발생일로 넘긴다
+                    skipped.incrementAndGet();
+                    skipQuietly(recurring);
+                } catch (Exception e) {
+                    if (failed.incrementAndGet() <= MAX_REPORTED_FAILURES) {
+                        failedIds.add(recurring.getId());
+                    }
+                    log.error("[반복 거래] 생성 실패 - id: {}, 발생일: {}, 시도: {}회, error: {}",
+                            recurring.getId(), recurring.currentOccurrence(),
+                            recurring.getFailedAttemptCount() + 1, e.getMessage());
+                    retryOrGiveUp(recurring, e);
+                } finally {
+                    workers.release();
+                    backlog.release();
+                }
+            };
+            tails.compute(recurring.getBookId(), (bookId, tail) -> tail == null
+                    ? CompletableFuture.runAsync(task, executor)
+                    : tail.thenRunAsync(task, executor));
+        }
+
+        void prune() {
+            // 끝난 가계부 체인은 정리
+            tails.values().removeIf(CompletableFuture::isDone);
+        }
+
+        void await() {
+            // executor를 닫기 전에 이어붙은 작업까지 모두 제출/완료되어야 한다
+            CompletableFuture.allOf(tails.values().toArray(CompletableFuture[]::new)).join();
+            tails.clear();
+        }
+
+        RecurringExecutionReport report() {
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            RecurringExecutionReport report = new RecurringExecutionReport(
+                    runAt, total, succeeded.get(), skipped.get(), failed.get(), books.size(), elapsedMillis,
+                    new ArrayList<>(failedIds)
+            );
+            recordMetrics(report);
+            if (report.total() > 0) {
+                log.info("[반복 거래] 실행 완료 - 기준: {}, 대상: {}건, 성공: {}건, 중복: {}건, 실패: {}건, 가계부: {}개, 소요: {}ms, 처리량: {}/s",
+                        runAt, report.total(), report.succeeded(), report.skipped(), report.failed(), report.books(),
+                        report.elapsedMillis(), String.format("%.1f", report.throughputPerSecond()));
+            }
+            return report;
+        }
+
+        private void recordMetrics(RecurringExecutionReport report) {
+            Timer.builder("recurring.execution")
+                    .tag("mode", mode)
+                    .register(meterRegistry)
+                    .record(report.elapsedMillis(), TimeUnit.MILLISECONDS);
+            meterRegistry.counter("recurring.occurrences", "outcome", "succeeded").increment(report.succeeded());
+            meterRegistry.counter("recurring.occurrences", "outcome", "skipped").increment(report.skipped());
+            meterRegistry.counter("recurring.occurrences", "outcome", "failed").increment(report.failed());
+        }
+
+        private void retryOrGiveUp(RecurringTransaction recurring, Exception cause) {
+            int attempts = recurring.getFailedAttemptCount() + 1;
+            try {
+                if (cause instanceof CustomException || attempts >= maxAttempts) {
+                    if (recurringExecutionService.giveUp(recurring, cause.getMessage())) {
+                        log.warn("[반복 거래] 발생일 건너뜀 - id: {}, 발생일: {}, 시도: {}회",
+                                recurring.getId(), recurring.currentOccurrence(), attempts);
+                    }
+                    return;
+                }
+                long backoff = retryBackoffSeconds << Math.min(attempts - 1, MAX_BACKOFF_DOUBLINGS);
+                recurringExecutionService.retryLater(recurring, attempts, runAt.plusSeconds(backoff));
+            } catch (Exception e) {
+                log.error("[반복 거래] 실패 기록 실패 - id: {}, error: {}", recurring.getId(), e.getMessage());
+            }
+        }
+
+        private void skipQuietly(RecurringTransaction recurring) {
+            try {
+                recurringExecutionService.skip(recurring);
+            } catch (Exception e) {
+                log.error("[반복 거래] 다음 실행 시각 전진 실패 - id: {}, error: {}", recurring.getId(), e.getMessage());
+            }
+        }
+    }
+}
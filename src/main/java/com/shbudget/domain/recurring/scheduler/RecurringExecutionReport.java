@@ -0,0 +1,26 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 반복 거래 실행 결과
+ *
+ * @param runAt     실행 기준 시각
+ * @param skipped   이미 실행된 발생일이라 건너뛴 건수
+ * @param failedIds 실패한 반복 거래 ID (로그 크기 제한을 위해 최대 100건)
+ */
+public record RecurringExecutionReport(
+        LocalDateTime runAt,
+        int total,
+        int succeeded,
+        int skipped,
+        int failed,
+        int books,
+        long elapsedMillis,
+        List<Long> failedIds
+) {
+    public double throughputPerSecond() {
+        return elapsedMillis > 0 ? total * 1000.0 / elapsedMillis : total;
+    }
+}
@@ -2,125 +2,137 @@ package com.shbudget.domain.recurring.scheduler;
 
 import com.shbudget.domain.member.entity.Member;
 import com.shbudget.domain.member.repository.MemberRepository;
-import com.shbudget.domain.pushsubscription.entity.PushSubscription;
-import com.shbudget.domain.pushsubscription.repository.PushSubscriptionRepository;
-import com.shbudget.domain.pushsubscription.service.WebPushService;
+import com.shbudget.domain.pushsubscription.service.PushDispatcher;
+import com.shbudget.domain.pushsubscription.service.PushSubscriptionRegistry;
+import com.shbudget.domain.pushsubscription.service.PushTarget;
 import com.shbudget.domain.recurring.entity.RecurringTransaction;
 import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
-import com.shbudget.domain.transaction.dto.request.TransactionCreateRequest;
 import com.shbudget.domain.transaction.entity.TransactionType;
-import com.shbudget.domain.transaction.service.TransactionService;
+import com.shbudget.global.job.ScheduledJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class RecurringTransactionScheduler {
+public class RecurringTransactionScheduler implements ScheduledJob {
+
+    public static final String NAME = "recurring.notify-upcoming";
 
     private final RecurringTransactionRepository recurringRepository;
-    private final TransactionService transactionService;
     private final MemberRepository memberRepository;
-    private final PushSubscriptionRepository pushSubscriptionRepository;
-    private final WebPushService webPushService;
+    private final PushSubscriptionRegistry pushSubscriptionRegistry;
+    private final PushDispatcher pushDispatcher;
+    private final Clock clock;
 
-    /**
-     * 매월 1일 21:00 실행 - 활성화된 모든 반복 거래를 해당 월 설정일로 자동 생성
-     * 월말 처리: 설정일이 해당 월의 마지막 날보다 크면 마지막 날로 등록
-     * (예: 31일 설정 → 2월은 28/29일, 4월은 30일로 등록)
-     */
-    @Scheduled(cron = "0 0 21 1 * *", zone = "Asia/Seoul")
-    public void executeRecurringTransactions() {
-        LocalDate today = LocalDate.now();
-        int lastDayOfMonth = YearMonth.from(today).lengthOfMonth();
-
-        // 활성화된 모든 반복 거래 조회
-        List<RecurringTransaction> targets = recurringRepository.findAllByActiveTrue();
-
-        log.info("[반복 거래] 실행 시작 - 월: {}, 대상: {}건", today.getMonth(), targets.size());
-
-        for (RecurringTransaction recurring : targets) {
-            try {
-                // 설정일이 해당 월 마지막 날보다 크면 마지막 날로 조정
-                int actualDay = Math.min(recurring.getDayOfMonth(), lastDayOfMonth);
-                LocalDate transactionDate = today.withDayOfMonth(actualDay);
-
-                TransactionCreateRequest request = new TransactionCreateRequest(
-                        recurring.getBookId(),
-                        recurring.getType(),
-                        recurring.getAssetId(),
-                        recurring.getCategoryId(),
-                        recurring.getFromAssetId(),
-                        recurring.getToAssetId(),
-                        recurring.getAmount(),
-                        transactionDate,
-                        recurring.getMemo()
-                );
-                transactionService.createTransaction(recurring.getCreatedBy(), request);
-                log.info("[반복 거래] 생성 완료 - id: {}, type: {}, amount: {}, date: {}",
-                        recurring.getId(), recurring.getType(), recurring.getAmount(), transactionDate);
-            } catch (Exception e) {
-                log.error("[반복 거래] 생성 실패 - id: {}, error: {}", recurring.getId(), e.getMessage());
-            }
-        }
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getCron() {
+        return "0 0 21 * * *";
+    }
+
+    @Override
+    public List<String> getDependsOn() {
+        return List.of(RecurringCatchUpJob.NAME);
+    }
+
+    @Override
+    public int run(LocalDateTime now) {
+        return notifyUpcomingRecurringTransactions();
     }
 
     /**
-     * 매일 21:00 실행 - 이틀 후 예정된 반복 거래에 대해 알림 발송
-     * 월말 처리 동일 적용
+     * 매일 21:00 실행 (JobOrchestrator) - 이틀 후 예정된 반복 거래에 대해 알림 발송, 대상 건수 반환
+     * 매월 N일 항목은 1일에 미리 생성되므로 next_run_at이 아니라 반복일로 찾는다 (월말 처리 동일 적용).
+     * 반복 규칙 항목은 발생일 0시가 next_run_at이므로 같은 인덱스로 이틀 후 하루 구간만 조회한다.
      */
-    @Scheduled(cron = "0 0 21 * * *", zone = "Asia/Seoul")
-    public void notifyUpcomingRecurringTransactions() {
-        LocalDate twoDaysLater = LocalDate.now().plusDays(2);
-        int targetDay = twoDaysLater.getDayOfMonth();
-        int lastDayOfMonth = YearMonth.from(twoDaysLater).lengthOfMonth();
-
+    public int notifyUpcomingRecurringTransactions() {
+        LocalDate twoDaysLater = LocalDate.now(clock).plusDays(2);
         List<RecurringTransaction> targets = new ArrayList<>(
-                recurringRepository.findAllByDayOfMonthAndActiveTrue(targetDay)
-        );
-
-        // 월말 처리
-        if (targetDay == lastDayOfMonth && lastDayOfMonth < 31) {
-            List<RecurringTransaction> overflows =
-                    recurringRepository.findAllByDayOfMonthGreaterThanEqualAndActiveTrue(lastDayOfMonth + 1);
-            targets.addAll(overflows);
-        }
+                recurringRepository.findAllByDayOfMonthInAndActiveTrue(reminderDaysOf(twoDaysLater)));
+        recurringRepository.findScheduledBetween(
+                        twoDaysLater.atStartOfDay(), twoDaysLater.plusDays(1).atStartOfDay(), Limit.unlimited())
+                .stream()
+                .filter(recurring -> !recurring.isMonthlyByDay())
+                .forEach(targets::add);
 
         log.info("[반복 알림] 발송 시작 - 예정일: {}, 대상: {}건", twoDaysLater, targets.size());
 
-        for (RecurringTransaction recurring : targets) {
-            try {
-                String typeLabel = switch (recurring.getType()) {
-                    case INCOME -> "수입";
-                    case EXPENSE -> "지출";
-                    case TRANSFER -> "이체";
-                };
-
-                String memoText = (recurring.getMemo() != null && !recurring.getMemo().isBlank())
-                        ? recurring.getMemo() + " "
-                        : "";
-
-                String body = String.format("2일 후 %s%s %,d원 예정입니다. 앱을 확인해주세요!",
-                        memoText, typeLabel, recurring.getAmount());
-
-                // 등록자 본인에게 알림
-                List<PushSubscription> subscriptions =
-                        pushSubscriptionRepository.findAllByMemberIdIn(List.of(recurring.getCreatedBy()));
-                for (PushSubscription subscription : subscriptions) {
-                    webPushService.sendPush(subscription, "반복 거래 알림", body);
-                }
-
-                log.info("[반복 알림] 발송 완료 - id: {}, memberId: {}", recurring.getId(), recurring.getCreatedBy());
-            } catch (Exception e) {
-                log.error("[반복 알림] 발송 실패 - id: {}, error: {}", recurring.getId(), e.getMessage());
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 등록자별로 묶어 구독 조회 (캐시에 없는 회원만 IN 쿼리 한 번)
+        Map<Long, List<RecurringTransaction>> remindersByMember = targets.stream()
+                .collect(Collectors.groupingBy(RecurringTransaction::getCreatedBy, LinkedHashMap::new, Collectors.toList()));
+        Map<Long, List<PushTarget>> subscriptionsByMember =
+                pushSubscriptionRegistry.getSubscriptions(remindersByMember.keySet());
+
+        // 등록자 본인에게 한 건으로 묶어 발송 (발송은 PushDispatcher에서 비동기 처리)
+        remindersByMember.forEach((memberId, reminders) -> {
+            List<PushTarget> devices = subscriptionsByMember.getOrDefault(memberId, List.of());
+            if (devices.isEmpty()) {
+                return;
+            }
+
+            String body = buildReminderBody(reminders);
+            for (PushTarget target : devices) {
+                pushDispatcher.dispatch(target, "반복 거래 알림", body);
             }
+        });
+
+        log.info("[반복 알림] 발송 요청 완료 - 회원: {}명", remindersByMember.size());
+        return targets.size();
+    }
+
+    // === Private Helper Methods ===
+
+    // 월말이면 그 달에 없는 반복일(예: 2월의 29~31일)도 함께 알린다
+    private List<Integer> reminderDaysOf(LocalDate date) {
+        int day = date.getDayOfMonth();
+        int lastDayOfMonth = YearMonth.from(date).lengthOfMonth();
+        if (day < lastDayOfMonth) {
+            return List.of(day);
+        }
+        return IntStream.rangeClosed(day, 31).boxed().toList();
+    }
+
+    private String buildReminderBody(List<RecurringTransaction> reminders) {
+        if (reminders.size() == 1) {
+            RecurringTransaction recurring = reminders.get(0);
+            String typeLabel = switch (recurring.getType()) {
+                case INCOME -> "수입";
+                case EXPENSE -> "지출";
+                case TRANSFER -> "이체";
+            };
+
+            String memoText = (recurring.getMemo() != null && !recurring.getMemo().isBlank())
+                    ? recurring.getMemo() + " "
+                    : "";
+
+            return String.format("2일 후 %s%s %,d원 예정입니다. 앱을 확인해주세요!",
+                    memoText, typeLabel, recurring.getAmount());
         }
+
+        long totalAmount = reminders.stream().mapToLong(RecurringTransaction::getAmount).sum();
+        return String.format("2일 후 반복 거래 %d건(총 %,d원)이 예정되어 있습니다. 앱을 확인해주세요!",
+                reminders.size(), totalAmount);
     }
 }
@@ -0,0 +1,110 @@
+package com.shbudget.domain.recurring.service;
+
+import com.shbudget.domain.recurring.entity.RecurringExecution;
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringExecutionRepository;
+import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
+import com.shbudget.domain.transaction.dto.request.TransactionCreateRequest;
+import com.shbudget.domain.transaction.dto.response.TransactionResponse;
+import com.shbudget.domain.transaction.service.TransactionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RecurringExecutionService {
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final RecurringExecutionRepository executionRepository;
+    private final TransactionService transactionService;
+
+    /**
+     * 반복 거래의 현재 발생일 한 건을 실행 (다음 실행 시각 전진 → claim → 거래 생성을 한 트랜잭션으로)
+     * 다른 실행이 먼저 전진시켰으면 false를 반환하고 아무것도 하지 않는다.
+     * 이미 실행된 발생일이면 claim INSERT에서 DataIntegrityViolationException이 발생한다.
+     */
+    @Transactional
+    public boolean execute(RecurringTransaction recurring) {
+        LocalDateTime scheduledAt = recurring.getNextRunAt();
+        LocalDate occurrence = recurring.currentOccurrence();
+        if (recurringRepository.advanceNextRunAt(
+                recurring.getId(), scheduledAt, recurring.nextRunAfter(occurrence)) == 0) {
+            return false;
+        }
+
+        RecurringExecution execution = executionRepository.saveAndFlush(
+                RecurringExecution.claim(recurring.getId(), occurrence));
+
+        TransactionCreateRequest request = new TransactionCreateRequest(
+                recurring.getBookId(),
+                recurring.getType(),
+                recurring.getAssetId(),
+                recurring.getCategoryId(),
+                recurring.getFromAssetId(),
+                recurring.getToAssetId(),
+                recurring.getAmount(),
+                occurrence,
+                recurring.getMemo()
+        );
+        TransactionResponse response = transactionService.createTransaction(recurring.getCreatedBy(), request);
+        execution.complete(response.id());
+        return true;
+    }
+
+    /**
+     * 이미 실행 기록이 있는 발생일은 다음 실행 시각으로 전진
+     */
+    @Transactional
+    public void skip(RecurringTransaction recurring) {
+        recurringRepository.advanceNextRunAt(recurring.getId(), recurring.getNextRunAt(),
+                recurring.nextRunAfter(recurring.currentOccurrence()));
+    }
+
+    /**
+     * 실패한 발생일은 그대로 두고 retryAt 이후에 다시 실행되도록 기록
+     */
+    @Transactional
+    public void retryLater(RecurringTransaction recurring, int attempts, LocalDateTime retryAt) {
+        recurringRepository.deferRetry(recurring.getId(), recurring.getNextRunAt(), attempts, retryAt);
+    }
+
+    /**
+     * 재시도할 수 없는 발생일은 SKIPPED로 기록하고 다음 실행 시각으로 전진
+     * 다른 실행이 먼저 전진시켰으면 false를 반환하고 아무것도 기록하지 않는다.
+     */
+    @Transactional
+    public boolean giveUp(RecurringTransaction recurring, String reason) {
+        LocalDate occurrence = recurring.currentOccurrence();
+        if (recurringRepository.advanceNextRunAt(
+                recurring.getId(), recurring.getNextRunAt(), recurring.nextRunAfter(occurrence)) == 0) {
+            return false;
+        }
+        executionRepository.save(RecurringExecution.skipped(recurring.getId(), occurrence, reason));
+        return true;
+    }
+
+    /**
+     * 다음 실행 시각이 없는 기존 반복 거래의 실행 시각 계산 (최대 limit건, 처리 건수 반환)
+     * 기존 월 실행은 매월 1일 21:00에 그 달 거래를 모두 생성했으므로,
+     * 그 시각이 지났으면 다음 달부터, 아니면 이번 달부터 이어서 실행한다.
+     */
+    @Transactional
+    public int initializeSchedules(LocalDateTime now, int limit) {
+        List<RecurringTransaction> targets = recurringRepository.findAllByActiveTrueAndNextRunAtIsNull(Limit.of(limit));
+
+        LocalDate firstOfMonth = now.toLocalDate().withDayOfMonth(1);
+        LocalDate from = now.isBefore(firstOfMonth.atTime(RecurringTransaction.MONTHLY_RUN_TIME))
+                ? firstOfMonth
+                : firstOfMonth.plusMonths(1);
+        for (RecurringTransaction recurring : targets) {
+            recurring.scheduleFrom(from);
+        }
+        return targets.size();
+    }
+}
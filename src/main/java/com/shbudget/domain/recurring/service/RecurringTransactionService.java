@@ -2,14 +2,19 @@ package com.shbudget.domain.recurring.service;
 
 import com.shbudget.domain.asset.entity.Asset;
 import com.shbudget.domain.asset.repository.AssetRepository;
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
 import com.shbudget.domain.category.entity.Category;
 import com.shbudget.domain.category.repository.CategoryRepository;
 import com.shbudget.domain.member.entity.Member;
 import com.shbudget.domain.member.repository.MemberRepository;
 import com.shbudget.domain.recurring.dto.request.RecurringCreateRequest;
+import com.shbudget.domain.recurring.dto.response.RecurringOccurrenceResponse;
+import com.shbudget.domain.recurring.dto.response.RecurringOccurrenceResponse.OccurrenceStatus;
 import com.shbudget.domain.recurring.dto.response.RecurringResponse;
+import com.shbudget.domain.recurring.entity.RecurrenceRule;
+import com.shbudget.domain.recurring.entity.RecurringExecution;
 import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringExecutionRepository;
 import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
 import com.shbudget.domain.transaction.entity.TransactionType;
 import com.shbudget.global.exception.CustomException;
@@ -18,7 +23,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,15 +38,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RecurringTransactionService {
 
+    /** 발생 예정 조회 최대 기간 (1년) */
+    private static final int MAX_UPCOMING_DAYS = 366;
+
     private final RecurringTransactionRepository recurringRepository;
-    private final BookMemberRepository bookMemberRepository;
+    private final RecurringExecutionRepository executionRepository;
+    private final BookAccessChecker bookAccessChecker;
     private final AssetRepository assetRepository;
     private final CategoryRepository categoryRepository;
     private final MemberRepository memberRepository;
+    private final Clock clock;
 
     @Transactional
     public RecurringResponse create(Long memberId, RecurringCreateRequest request) {
-        validateBookMember(request.bookId(), memberId);
+        bookAccessChecker.validateBookMember(request.bookId(), memberId);
 
         // 타입별 필수값 검증
         if (request.type() == TransactionType.TRANSFER) {
@@ -47,11 +64,17 @@ public class RecurringTransactionService {
             }
         }
 
+        RecurrenceRule rule = resolveRule(request);
+        LocalDate today = LocalDate.now(clock);
+        LocalDate startDate = request.startDate() != null ? request.startDate() : today;
+
         RecurringTransaction entity = RecurringTransaction.builder()
                 .bookId(request.bookId())
                 .type(request.type())
                 .amount(request.amount())
-                .dayOfMonth(request.dayOfMonth())
+                .dayOfMonth(request.rule() == null ? request.dayOfMonth() : null)
+                .recurrenceRule(rule.toString())
+                .startDate(startDate)
                 .memo(request.memo())
                 .assetId(request.assetId())
                 .categoryId(request.categoryId())
@@ -60,30 +83,99 @@ public class RecurringTransactionService {
                 .createdBy(memberId)
                 .active(true)
                 .build();
+        // 지난 발생분은 만들지 않고, 등록 당일 발생분은 시작일을 직접 지정한 경우에만 실행
+        LocalDate firstRunFrom = request.startDate() == null ? today.plusDays(1)
+                : startDate.isAfter(today) ? startDate : today;
+        entity.scheduleFrom(firstRunFrom);
 
         recurringRepository.save(entity);
         return buildResponse(entity);
     }
 
     public List<RecurringResponse> getList(Long memberId, Long bookId) {
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
         return recurringRepository.findAllByBookIdAndActiveTrue(bookId).stream()
                 .map(this::buildResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 구간 내 반복 거래 발생일 조회 (이미 등록된 거래 + 등록 예정)
+     * 발생일은 규칙으로 메모리에서 전개하고, 등록 여부는 실행 기록을 한 번에 조회해 합친다.
+     * 재시도 후에도 실패해 건너뛴 발생일은 SKIPPED로, 실행 시각이 지났는데 기록이 없는 발생일(등록 이전)은 제외한다.
+     * 기간을 생략하면 오늘부터 3개월
+     */
+    public List<RecurringOccurrenceResponse> getUpcoming(Long memberId, Long bookId, LocalDate from, LocalDate to) {
+        bookAccessChecker.validateBookMember(bookId, memberId);
+        LocalDate today = LocalDate.now(clock);
+        if (from == null) {
+            from = today;
+        }
+        if (to == null) {
+            to = from.plusMonths(3);
+        }
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_UPCOMING_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        List<RecurringTransaction> recurrings = recurringRepository.findAllByBookIdAndActiveTrue(bookId);
+        if (recurrings.isEmpty()) {
+            return List.of();
+        }
+
+        // (반복 거래 ID → 발생일 → 실행 기록)
+        Map<Long, Map<LocalDate, RecurringExecution>> executionsByRecurring = new HashMap<>();
+        List<Long> recurringIds = recurrings.stream().map(RecurringTransaction::getId).toList();
+        for (RecurringExecution execution : executionRepository
+                .findAllByRecurringIdInAndOccurrenceDateBetween(recurringIds, from, to)) {
+            executionsByRecurring.computeIfAbsent(execution.getRecurringId(), id -> new HashMap<>())
+                    .put(execution.getOccurrenceDate(), execution);
+        }
+
+        List<RecurringOccurrenceResponse> occurrences = new ArrayList<>();
+        for (RecurringTransaction recurring : recurrings) {
+            Map<LocalDate, RecurringExecution> executions =
+                    executionsByRecurring.getOrDefault(recurring.getId(), Map.of());
+            LocalDate nextOccurrence = recurring.getNextRunAt() != null ? recurring.currentOccurrence() : today;
+
+            for (LocalDate date : recurring.occurrencesBetween(from, to)) {
+                RecurringExecution execution = executions.get(date);
+                if (execution != null) {
+                    occurrences.add(RecurringOccurrenceResponse.of(recurring, date,
+                            execution.isSkipped() ? OccurrenceStatus.SKIPPED : OccurrenceStatus.POSTED,
+                            execution.getTransactionId()));
+                } else if (!date.isBefore(nextOccurrence)) {
+                    occurrences.add(RecurringOccurrenceResponse.of(
+                            recurring, date, OccurrenceStatus.SCHEDULED, null));
+                }
+            }
+        }
+
+        occurrences.sort(Comparator.comparing(RecurringOccurrenceResponse::date)
+                .thenComparing(RecurringOccurrenceResponse::recurringId));
+        return occurrences;
+    }
+
     @Transactional
     public void delete(Long memberId, Long id) {
         RecurringTransaction entity = recurringRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.RECURRING_NOT_FOUND));
-        validateBookMember(entity.getBookId(), memberId);
+        bookAccessChecker.validateBookMember(entity.getBookId(), memberId);
         entity.deactivate();
     }
 
-    private void validateBookMember(Long bookId, Long memberId) {
-        if (!bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)) {
-            throw new CustomException(ErrorCode.NOT_BOOK_MEMBER);
+    private RecurrenceRule resolveRule(RecurringCreateRequest request) {
+        if (request.rule() != null) {
+            try {
+                return RecurrenceRule.parse(request.rule());
+            } catch (IllegalArgumentException e) {
+                throw new CustomException(ErrorCode.INVALID_RECURRENCE_RULE);
+            }
+        }
+        if (request.dayOfMonth() == null) {
+            throw new CustomException(ErrorCode.INVALID_RECURRENCE_RULE);
         }
+        return RecurrenceRule.monthly(request.dayOfMonth());
     }
 
     private RecurringResponse buildResponse(RecurringTransaction entity) {
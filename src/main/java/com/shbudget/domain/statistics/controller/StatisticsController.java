@@ -1,6 +1,7 @@
 package com.shbudget.domain.statistics.controller;
 
 import com.shbudget.domain.statistics.dto.response.CategoryStatisticsResponse;
+import com.shbudget.domain.statistics.dto.response.ConsolidatedStatisticsResponse;
 import com.shbudget.domain.statistics.dto.response.MemberContributionResponse;
 import com.shbudget.domain.statistics.dto.response.MonthlySummaryResponse;
 import com.shbudget.domain.statistics.service.StatisticsService;
@@ -82,4 +83,20 @@ public class StatisticsController {
         List<MemberContributionResponse> response = statisticsService.getMemberContribution(memberId, bookId, year, month);
         return ResponseEntity.ok(ApiResult.of(ResponseStatus.SUCCESS, response));
     }
+
+    @GetMapping("/consolidated")
+    @Operation(summary = "통합 통계", description = "참여 중인 모든 가계부의 특정 월 수입/지출/자산을 합산하여 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ApiResult<ConsolidatedStatisticsResponse>> getConsolidatedStatistics(
+            @CurrentMemberId Long memberId,
+            @Parameter(description = "년도", example = "2024", required = true)
+            @RequestParam Integer year,
+            @Parameter(description = "월", example = "5", required = true)
+            @RequestParam Integer month
+    ) {
+        ConsolidatedStatisticsResponse response = statisticsService.getConsolidatedStatistics(memberId, year, month);
+        return ResponseEntity.ok(ApiResult.of(ResponseStatus.SUCCESS, response));
+    }
 }
@@ -0,0 +1,25 @@
+package com.shbudget.domain.statistics.dto.response;
+
+/**
+ * 가계부별 월간 요약 (통합 통계 항목)
+ */
+public record BookStatistics(
+        Long bookId,
+        String bookName,
+        Long totalIncome,      // 해당 가계부 총 수입
+        Long totalExpense,     // 해당 가계부 총 지출
+        Long netIncome,        // 순수익 (수입 - 지출)
+        Long totalAssets       // 해당 가계부 총 자산 (현재 시점)
+) {
+    public static BookStatistics of(Long bookId, String bookName, Long totalIncome,
+                                    Long totalExpense, Long totalAssets) {
+        return new BookStatistics(
+                bookId,
+                bookName,
+                totalIncome,
+                totalExpense,
+                totalIncome - totalExpense,
+                totalAssets
+        );
+    }
+}
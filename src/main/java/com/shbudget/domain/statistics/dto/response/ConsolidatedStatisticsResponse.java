@@ -0,0 +1,19 @@
+package com.shbudget.domain.statistics.dto.response;
+
+import java.util.List;
+
+/**
+ * 참여 중인 모든 가계부의 통합 통계 응답
+ * 카테고리는 가계부마다 따로 존재하므로 이름 기준으로 병합한다. (categoryId는 null)
+ */
+public record ConsolidatedStatisticsResponse(
+        Integer year,
+        Integer month,
+        Long totalIncome,
+        Long totalExpense,
+        Long netIncome,
+        Long totalAssets,
+        List<BookStatistics> books,
+        List<CategoryStatistics> categories
+) {
+}
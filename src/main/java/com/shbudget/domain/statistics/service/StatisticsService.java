@@ -1,7 +1,9 @@
 package com.shbudget.domain.statistics.service;
 
 import com.shbudget.domain.asset.repository.AssetRepository;
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.entity.Book;
+import com.shbudget.domain.book.service.BookAccessChecker;
+import com.shbudget.domain.book.repository.BookRepository;
 import com.shbudget.domain.category.entity.Category;
 import com.shbudget.domain.category.repository.CategoryRepository;
 import com.shbudget.domain.member.entity.Member;
@@ -9,8 +11,6 @@ import com.shbudget.domain.member.repository.MemberRepository;
 import com.shbudget.domain.statistics.dto.response.*;
 import com.shbudget.domain.transaction.entity.TransactionType;
 import com.shbudget.domain.transaction.repository.TransactionRepository;
-import com.shbudget.global.exception.CustomException;
-import com.shbudget.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,14 +33,15 @@ public class StatisticsService {
     private final AssetRepository assetRepository;
     private final CategoryRepository categoryRepository;
     private final MemberRepository memberRepository;
-    private final BookMemberRepository bookMemberRepository;
+    private final BookAccessChecker bookAccessChecker;
+    private final BookRepository bookRepository;
 
     /**
      * 월별 수입/지출 요약
      */
     public MonthlySummaryResponse getMonthlySummary(Long memberId, Long bookId, Integer year, Integer month) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         // 기간 설정
         YearMonth yearMonth = YearMonth.of(year, month);
@@ -69,7 +72,7 @@ public class StatisticsService {
     public CategoryStatisticsResponse getCategoryStatistics(Long memberId, Long bookId,
                                                              Integer year, Integer month) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         // 기간 설정
         YearMonth yearMonth = YearMonth.of(year, month);
@@ -125,7 +128,7 @@ public class StatisticsService {
     public List<MemberContributionResponse> getMemberContribution(Long memberId, Long bookId,
                                                                     Integer year, Integer month) {
         // 가계부 멤버 검증
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         // 기간 설정
         YearMonth yearMonth = YearMonth.of(year, month);
@@ -209,11 +212,108 @@ public class StatisticsService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 참여 중인 모든 가계부의 통합 통계
+     * 가계부 수와 무관하게 IN + GROUP BY 쿼리로 한 번에 집계한다.
+     */
+    public ConsolidatedStatisticsResponse getConsolidatedStatistics(Long memberId, Integer year, Integer month) {
+        // 참여 중인 가계부 조회
+        List<Long> bookIds = bookAccessChecker.getBookIds(memberId).stream()
+                .sorted()
+                .toList();
+
+        if (bookIds.isEmpty()) {
+            return new ConsolidatedStatisticsResponse(year, month, 0L, 0L, 0L, 0L, List.of(), List.of());
+        }
+
+        // 기간 설정
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+
+        // 가계부별 수입/지출 합계 (bookId, type, amount)
+        Map<Long, Long> incomeMap = new HashMap<>();
+        Map<Long, Long> expenseMap = new HashMap<>();
+        transactionRepository.sumAmountByBookIdsAndTypeGroupByBook(
+                bookIds, List.of(TransactionType.INCOME, TransactionType.EXPENSE), startDate, endDate
+        ).forEach(data -> {
+            Map<Long, Long> target = data[1] == TransactionType.INCOME ? incomeMap : expenseMap;
+            target.put((Long) data[0], (Long) data[2]);
+        });
+
+        // 가계부별 총 자산 (bookId, balance)
+        Map<Long, Long> assetMap = assetRepository.sumBalanceGroupByBookIdIn(bookIds).stream()
+                .collect(Collectors.toMap(
+                        data -> (Long) data[0],
+                        data -> data[1] != null ? (Long) data[1] : 0L
+                ));
+
+        // 가계부 이름 조회
+        Map<Long, String> bookNameMap = bookRepository.findAllById(bookIds).stream()
+                .collect(Collectors.toMap(Book::getId, Book::getName));
+
+        List<BookStatistics> books = bookIds.stream()
+                .map(bookId -> BookStatistics.of(
+                        bookId,
+                        bookNameMap.get(bookId),
+                        incomeMap.getOrDefault(bookId, 0L),
+                        expenseMap.getOrDefault(bookId, 0L),
+                        assetMap.getOrDefault(bookId, 0L)
+                ))
+                .toList();
+
+        long totalIncome = books.stream().mapToLong(BookStatistics::totalIncome).sum();
+        long totalExpense = books.stream().mapToLong(BookStatistics::totalExpense).sum();
+        long totalAssets = books.stream().mapToLong(BookStatistics::totalAssets).sum();
+
+        List<CategoryStatistics> categories = mergeCategoryStatistics(bookIds, startDate, endDate, totalExpense);
+
+        return new ConsolidatedStatisticsResponse(
+                year,
+                month,
+                totalIncome,
+                totalExpense,
+                totalIncome - totalExpense,
+                totalAssets,
+                books,
+                categories
+        );
+    }
+
     // === Private Helper Methods ===
 
-    private void validateBookMember(Long bookId, Long memberId) {
-        if (!bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)) {
-            throw new CustomException(ErrorCode.NOT_BOOK_MEMBER);
+    private List<CategoryStatistics> mergeCategoryStatistics(List<Long> bookIds, LocalDate startDate,
+                                                             LocalDate endDate, long totalExpense) {
+        // 카테고리별 지출 (categoryId, amount, count)
+        List<Object[]> categoryData = transactionRepository.sumAmountByCategoryAndBookIdsAndDateBetween(
+                bookIds, TransactionType.EXPENSE, startDate, endDate
+        );
+
+        if (categoryData.isEmpty()) {
+            return List.of();
         }
+
+        Map<Long, String> categoryNameMap = categoryRepository.findAllByBookIdIn(bookIds).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+
+        // 같은 이름의 카테고리는 가계부가 달라도 하나로 병합 (이름, [금액, 건수])
+        Map<String, long[]> merged = new LinkedHashMap<>();
+        for (Object[] data : categoryData) {
+            String categoryName = categoryNameMap.getOrDefault((Long) data[0], "미분류");
+            long[] sum = merged.computeIfAbsent(categoryName, name -> new long[2]);
+            sum[0] += (Long) data[1];
+            sum[1] += (Long) data[2];
+        }
+
+        return merged.entrySet().stream()
+                .map(entry -> new CategoryStatistics(
+                        null,
+                        entry.getKey(),
+                        entry.getValue()[0],
+                        (int) entry.getValue()[1],
+                        totalExpense > 0 ? (entry.getValue()[0] * 100.0 / totalExpense) : 0.0
+                ))
+                .sorted((a, b) -> Long.compare(b.totalAmount(), a.totalAmount()))  // 금액 내림차순
+                .collect(Collectors.toList());
     }
 }
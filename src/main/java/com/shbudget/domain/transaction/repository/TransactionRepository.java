@@ -14,35 +14,35 @@ import java.util.Optional;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    // 가계부별 거래 목록 조회
-    List<Transaction> findAllByBookIdOrderByDateDescCreatedAtDesc(Long bookId);
-
     // 가계부 + 상세 조회
     Optional<Transaction> findByIdAndBookId(Long id, Long bookId);
 
-    // 가계부 + 타입별 조회
-    List<Transaction> findAllByBookIdAndTypeOrderByDateDescCreatedAtDesc(Long bookId, TransactionType type);
+    // 거래 목록 조회 공통 부분
+    // 자산/카테고리/작성자 이름을 같은 쿼리에서 가져와 행마다 조회하지 않는다.
+    // [Transaction, 자산명, 카테고리명, 출금 자산명, 입금 자산명, 작성자 닉네임]
+    String LIST_SELECT = "SELECT t, a.name, c.name, fa.name, ta.name, m.nickname FROM Transaction t " +
+            "LEFT JOIN Asset a ON a.id = t.assetId " +
+            "LEFT JOIN Category c ON c.id = t.categoryId " +
+            "LEFT JOIN Asset fa ON fa.id = t.fromAssetId " +
+            "LEFT JOIN Asset ta ON ta.id = t.toAssetId " +
+            "LEFT JOIN Member m ON m.id = t.createdBy " +
+            "WHERE t.bookId = :bookId AND t.type IN :types ";
 
-    // 가계부 + 월별 조회
-    @Query("SELECT t FROM Transaction t WHERE t.bookId = :bookId " +
-            "AND YEAR(t.date) = :year AND MONTH(t.date) = :month " +
-            "ORDER BY t.date DESC, t.createdAt DESC")
-    List<Transaction> findAllByBookIdAndYearMonth(
+    // 가계부 + 타입별 거래 목록 조회
+    @Query(LIST_SELECT + "ORDER BY t.date DESC, t.createdAt DESC")
+    List<Object[]> findListByBookIdAndTypeIn(
             @Param("bookId") Long bookId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("types") List<TransactionType> types
     );
 
-    // 가계부 + 월별 + 타입별 조회
-    @Query("SELECT t FROM Transaction t WHERE t.bookId = :bookId " +
-            "AND t.type = :type " +
-            "AND YEAR(t.date) = :year AND MONTH(t.date) = :month " +
+    // 가계부 + 타입별 + 기간별 거래 목록 조회 (startDate 이상 ~ endDate 미만)
+    @Query(LIST_SELECT + "AND t.date >= :startDate AND t.date < :endDate " +
             "ORDER BY t.date DESC, t.createdAt DESC")
-    List<Transaction> findAllByBookIdAndTypeAndYearMonth(
+    List<Object[]> findListByBookIdAndTypeInAndDateRange(
             @Param("bookId") Long bookId,
-            @Param("type") TransactionType type,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("types") List<TransactionType> types,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
 
     // 자산별 거래 존재 여부 (자산 삭제 검증용)
@@ -90,4 +90,29 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    // 여러 가계부의 가계부별 타입별 합계 (통합 통계용)
+    @Query("SELECT t.bookId, t.type, COALESCE(SUM(t.amount), 0) FROM Transaction t " +
+            "WHERE t.bookId IN :bookIds AND t.type IN :types " +
+            "AND t.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY t.bookId, t.type")
+    List<Object[]> sumAmountByBookIdsAndTypeGroupByBook(
+            @Param("bookIds") List<Long> bookIds,
+            @Param("types") List<TransactionType> types,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 여러 가계부의 카테고리별 합계 (통합 통계용)
+    @Query("SELECT t.categoryId, COALESCE(SUM(t.amount), 0), COUNT(t) FROM Transaction t " +
+            "WHERE t.bookId IN :bookIds AND t.type = :type " +
+            "AND t.categoryId IS NOT NULL " +
+            "AND t.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY t.categoryId")
+    List<Object[]> sumAmountByCategoryAndBookIdsAndDateBetween(
+            @Param("bookIds") List<Long> bookIds,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 }
@@ -2,11 +2,14 @@ package com.shbudget.domain.transaction.service;
 
 import com.shbudget.domain.asset.entity.Asset;
 import com.shbudget.domain.asset.repository.AssetRepository;
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
+import com.shbudget.domain.book.service.BookChangeEvent;
+import com.shbudget.domain.book.service.BookChangeType;
 import com.shbudget.domain.category.entity.Category;
 import com.shbudget.domain.category.repository.CategoryRepository;
 import com.shbudget.domain.member.entity.Member;
 import com.shbudget.domain.member.repository.MemberRepository;
+import com.shbudget.domain.pushsubscription.service.BookNotification;
 import com.shbudget.domain.pushsubscription.service.NotificationService;
 import com.shbudget.domain.transaction.dto.request.TransactionCreateRequest;
 import com.shbudget.domain.transaction.dto.request.TransactionUpdateRequest;
@@ -18,6 +21,7 @@ import com.shbudget.global.exception.CustomException;
 import com.shbudget.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,14 +38,15 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final AssetRepository assetRepository;
     private final CategoryRepository categoryRepository;
-    private final BookMemberRepository bookMemberRepository;
+    private final BookAccessChecker bookAccessChecker;
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TransactionResponse createTransaction(Long memberId, TransactionCreateRequest request) {
         // 공통 검증
-        validateBookMember(request.bookId(), memberId);
+        bookAccessChecker.validateBookMember(request.bookId(), memberId);
         validateAmount(request.amount());
 
         // 타입별 생성 로직
@@ -51,6 +56,11 @@ public class TransactionService {
             case TRANSFER -> createTransfer(memberId, request);
         };
 
+        // 실시간 변경 이벤트 (커밋 후 전송)
+        eventPublisher.publishEvent(BookChangeEvent.of(
+                request.bookId(), BookChangeType.TRANSACTION_CREATED, response.id(), memberId,
+                request.assetId(), request.fromAssetId(), request.toAssetId()));
+
         // 푸시 알림
         try {
             String nickname = memberRepository.findById(memberId)
@@ -61,7 +71,8 @@ public class TransactionService {
                 case TRANSFER -> "이체";
             };
             String body = nickname + "님이 " + typeLabel + " " + String.format("%,d", request.amount()) + "원을 등록했습니다.";
-            notificationService.notifyBookMembers(request.bookId(), memberId, "가계부 알림", body);
+            notificationService.notifyBookMembers(BookNotification.transaction(
+                    request.bookId(), memberId, nickname, "가계부 알림", body, typeLabel, request.amount()));
         } catch (Exception e) {
             log.warn("Push notification failed", e);
         }
@@ -164,36 +175,30 @@ public class TransactionService {
     }
 
     public List<TransactionResponse> getTransactionList(Long memberId, Long bookId, String month, TransactionType type) {
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
-        List<Transaction> transactions;
+        List<TransactionType> types = type != null ? List.of(type) : List.of(TransactionType.values());
+        List<Object[]> rows;
 
         if (month != null && !month.isBlank()) {
-            // 월별 조회
+            // 월별 조회 (해당 월 1일 이상 ~ 다음 달 1일 미만, idx_book_date 범위 조회)
             String[] parts = month.split("-");
-            int year = Integer.parseInt(parts[0]);
-            int monthValue = Integer.parseInt(parts[1]);
-
-            if (type != null) {
-                transactions = transactionRepository.findAllByBookIdAndTypeAndYearMonth(bookId, type, year, monthValue);
-            } else {
-                transactions = transactionRepository.findAllByBookIdAndYearMonth(bookId, year, monthValue);
-            }
-        } else if (type != null) {
-            // 타입별 전체 조회
-            transactions = transactionRepository.findAllByBookIdAndTypeOrderByDateDescCreatedAtDesc(bookId, type);
+            LocalDate startDate = LocalDate.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), 1);
+            rows = transactionRepository.findListByBookIdAndTypeInAndDateRange(
+                    bookId, types, startDate, startDate.plusMonths(1));
         } else {
             // 전체 조회
-            transactions = transactionRepository.findAllByBookIdOrderByDateDescCreatedAtDesc(bookId);
+            rows = transactionRepository.findListByBookIdAndTypeIn(bookId, types);
         }
 
-        return transactions.stream()
-                .map(this::buildTransactionResponse)
+        // 이름 정보까지 쿼리 한 번으로 조회하므로 행 수와 무관하게 문장 수가 일정하다
+        return rows.stream()
+                .map(this::toListResponse)
                 .collect(Collectors.toList());
     }
 
     public TransactionResponse getTransactionById(Long memberId, Long bookId, Long transactionId) {
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Transaction transaction = transactionRepository.findByIdAndBookId(transactionId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
@@ -204,7 +209,7 @@ public class TransactionService {
     @Transactional
     public TransactionResponse updateTransaction(Long memberId, Long bookId, Long transactionId,
                                                    TransactionUpdateRequest request) {
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Transaction transaction = transactionRepository.findByIdAndBookId(transactionId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
@@ -214,6 +219,9 @@ public class TransactionService {
             validateAmount(request.amount());
         }
 
+        // 변경 전 자산 (이벤트용)
+        Long[] previousAssetIds = affectedAssetIds(transaction);
+
         // 기존 자산 잔액 복구
         restoreBalance(transaction);
 
@@ -239,12 +247,18 @@ public class TransactionService {
         // 새로운 자산 잔액 적용
         applyBalance(transaction);
 
+        Long[] currentAssetIds = affectedAssetIds(transaction);
+        eventPublisher.publishEvent(BookChangeEvent.of(
+                bookId, BookChangeType.TRANSACTION_UPDATED, transactionId, memberId,
+                previousAssetIds[0], previousAssetIds[1], previousAssetIds[2],
+                currentAssetIds[0], currentAssetIds[1], currentAssetIds[2]));
+
         return buildTransactionResponse(transaction);
     }
 
     @Transactional
     public void deleteTransaction(Long memberId, Long bookId, Long transactionId) {
-        validateBookMember(bookId, memberId);
+        bookAccessChecker.validateBookMember(bookId, memberId);
 
         Transaction transaction = transactionRepository.findByIdAndBookId(transactionId, bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
@@ -253,16 +267,13 @@ public class TransactionService {
         restoreBalance(transaction);
 
         transactionRepository.delete(transaction);
+
+        eventPublisher.publishEvent(BookChangeEvent.of(
+                bookId, BookChangeType.TRANSACTION_DELETED, transactionId, memberId, affectedAssetIds(transaction)));
     }
 
     // === Private Helper Methods ===
 
-    private void validateBookMember(Long bookId, Long memberId) {
-        if (!bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)) {
-            throw new CustomException(ErrorCode.NOT_BOOK_MEMBER);
-        }
-    }
-
     private void validateAmount(Long amount) {
         if (amount <= 0) {
             throw new CustomException(ErrorCode.INVALID_AMOUNT);
@@ -280,6 +291,10 @@ public class TransactionService {
         return asset;
     }
 
+    private Long[] affectedAssetIds(Transaction transaction) {
+        return new Long[]{transaction.getAssetId(), transaction.getFromAssetId(), transaction.getToAssetId()};
+    }
+
     private void restoreBalance(Transaction transaction) {
         switch (transaction.getType()) {
             case INCOME -> {
@@ -326,6 +341,16 @@ public class TransactionService {
         }
     }
 
+    private TransactionResponse toListResponse(Object[] row) {
+        Transaction transaction = (Transaction) row[0];
+        String createdByNickname = (String) row[5];
+
+        if (transaction.getType() == TransactionType.TRANSFER) {
+            return TransactionResponse.fromTransfer(transaction, (String) row[3], (String) row[4], createdByNickname);
+        }
+        return TransactionResponse.from(transaction, (String) row[1], (String) row[2], createdByNickname);
+    }
+
     private TransactionResponse buildTransactionResponse(Transaction transaction) {
         if (transaction.getType() == TransactionType.TRANSFER) {
             return buildTransferResponse(transaction);
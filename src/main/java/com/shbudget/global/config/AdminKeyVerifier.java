@@ -0,0 +1,34 @@
+package com.shbudget.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 운영자 전용 키(X-Admin-Key) 확인
+ *
+ * 프론트엔드가 모든 요청에 보내는 X-Api-Key와 달리 운영자만 알고 있는 키로,
+ * 관리 API(/api/admin/**)와 메트릭(/actuator/**)을 보호한다.
+ * admin.secret-key가 설정되지 않은 환경에서는 어떤 키도 통과시키지 않는다.
+ */
+@Component
+public class AdminKeyVerifier {
+
+    public static final String HEADER = "X-Admin-Key";
+
+    private final String adminSecretKey;
+
+    public AdminKeyVerifier(@Value("${admin.secret-key:}") String adminSecretKey) {
+        this.adminSecretKey = adminSecretKey;
+    }
+
+    public boolean matches(String adminKey) {
+        if (adminSecretKey == null || adminSecretKey.isBlank() || adminKey == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(adminSecretKey.getBytes(StandardCharsets.UTF_8),
+                adminKey.getBytes(StandardCharsets.UTF_8));
+    }
+}
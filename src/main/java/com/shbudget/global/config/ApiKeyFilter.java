@@ -48,6 +48,8 @@ public class ApiKeyFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         return path.startsWith("/swagger-ui")
                 || path.startsWith("/v3/api-docs")
-                || path.equals("/api/health");
+                || path.equals("/api/health")
+                // actuator는 SecurityConfig에서 X-Admin-Key로 보호 (헬스 체크는 공개)
+                || path.startsWith("/actuator/");
     }
 }
@@ -0,0 +1,22 @@
+package com.shbudget.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 애플리케이션 시계
+ * 스케줄/반복 거래 계산은 이 Clock을 통해 현재 시각을 얻는다. (테스트/시뮬레이션에서 가상 시계로 교체)
+ * 발생일/실행 시각은 서버 기본 시간대가 아니라 작업 스케줄과 같은 job.zone(Asia/Seoul) 기준으로 계산한다.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${job.zone:Asia/Seoul}") String zone) {
+        return Clock.system(ZoneId.of(zone));
+    }
+}
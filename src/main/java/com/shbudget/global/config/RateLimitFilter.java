@@ -0,0 +1,169 @@
+package com.shbudget.global.config;
+
+import com.shbudget.global.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 속도 제한
+ *
+ * JwtAuthenticationFilter 다음에 실행되며 memberId(JWT) 기준, 없으면 IP 기준으로 제한한다.
+ * 라우트 그룹(쓰기/통계/조회)마다 별도 예산을 가진다.
+ *
+ * GCRA(토큰 버킷과 동일한 동작)로 구현하여 버킷당 AtomicLong 하나(다음 허용 시각)만 CAS로 갱신한다.
+ * 락이 없고, 완전히 충전된 버킷은 주기적으로 제거된다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public enum RouteGroup {
+        WRITE,
+        STATISTICS,
+        READ
+    }
+
+    private final boolean enabled;
+    private final Map<RouteGroup, Limit> limits = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, ConcurrentHashMap<Object, AtomicLong>> buckets = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, LongAdder> allowedCounts = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, LongAdder> rejectedCounts = new EnumMap<>(RouteGroup.class);
+
+    public RateLimitFilter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.write.capacity:30}") int writeCapacity,
+            @Value("${rate-limit.write.per-second:5}") double writePerSecond,
+            @Value("${rate-limit.statistics.capacity:20}") int statisticsCapacity,
+            @Value("${rate-limit.statistics.per-second:2}") double statisticsPerSecond,
+            @Value("${rate-limit.read.capacity:120}") int readCapacity,
+            @Value("${rate-limit.read.per-second:20}") double readPerSecond
+    ) {
+        this.enabled = enabled;
+        limits.put(RouteGroup.WRITE, Limit.of(writeCapacity, writePerSecond));
+        limits.put(RouteGroup.STATISTICS, Limit.of(statisticsCapacity, statisticsPerSecond));
+        limits.put(RouteGroup.READ, Limit.of(readCapacity, readPerSecond));
+        for (RouteGroup group : RouteGroup.values()) {
+            buckets.put(group, new ConcurrentHashMap<>());
+            allowedCounts.put(group, new LongAdder());
+            rejectedCounts.put(group, new LongAdder());
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        RouteGroup group = resolveGroup(request);
+        long waitNanos = tryAcquire(group, resolveKey(request), System.nanoTime());
+
+        if (waitNanos > 0) {
+            rejectedCounts.get(group).increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write("{\"status\":429,\"message\":\"" + ErrorCode.TOO_MANY_REQUESTS.getMessage() + "\"}");
+            return;
+        }
+
+        allowedCounts.get(group).increment();
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return path.startsWith("/swagger-ui")
+                || path.startsWith("/v3/api-docs")
+                || path.equals("/api/health")
+                || path.startsWith("/actuator/")
+                || path.startsWith("/api/auth/");  // 로그인은 LoginAttemptLimiter에서 별도 제한
+    }
+
+    /**
+     * 요청 허용 시 0, 거절 시 다음 요청이 허용될 때까지 남은 시간(ns)
+     */
+    long tryAcquire(RouteGroup group, Object key, long now) {
+        Limit limit = limits.get(group);
+        AtomicLong tat = buckets.get(group).computeIfAbsent(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + limit.emissionIntervalNanos();
+            long excess = next - now - limit.burstNanos();
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 완전히 충전된(= 마지막 요청 이후 충분히 지난) 버킷 제거
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().forEach(groupBuckets ->
+                groupBuckets.values().removeIf(tat -> tat.get() <= now));
+    }
+
+    public long getAllowedCount(RouteGroup group) {
+        return allowedCounts.get(group).sum();
+    }
+
+    public long getRejectedCount(RouteGroup group) {
+        return rejectedCounts.get(group).sum();
+    }
+
+    public int getBucketCount(RouteGroup group) {
+        return buckets.get(group).size();
+    }
+
+    // === Private Helper Methods ===
+
+    private RouteGroup resolveGroup(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+            return RouteGroup.WRITE;
+        }
+        if (request.getRequestURI().startsWith("/api/statistics")) {
+            return RouteGroup.STATISTICS;
+        }
+        return RouteGroup.READ;
+    }
+
+    private Object resolveKey(HttpServletRequest request) {
+        // JwtAuthenticationFilter가 설정한 memberId (Long), 없으면 IP (String)
+        Object memberId = request.getAttribute("jwtMemberId");
+        return memberId != null ? memberId : request.getRemoteAddr();
+    }
+
+    private record Limit(long emissionIntervalNanos, long burstNanos) {
+        static Limit of(int capacity, double perSecond) {
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+            return new Limit(interval, interval * capacity);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.shbudget.global.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * ddl-auto: update가 처리하지 못하는 스키마 변경
+ *
+ * update는 컬럼/인덱스 추가만 하고 기존 컬럼의 NOT NULL은 풀지 않는다.
+ * 엔티티 초기화(ddl-auto) 직후, 스케줄/디스패처가 시작되기 전에 한 번 실행하며
+ * 현재 스키마를 확인해 필요한 경우에만 변경하므로 여러 번 실행해도 결과가 같다.
+ * - recurring_transactions.day_of_month: 반복 규칙 항목은 반복일이 없으므로 NULL 허용 (MySQL)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SchemaMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        allowNull("recurring_transactions", "day_of_month", "INT");
+    }
+
+    // === Private Helper Methods ===
+
+    private void allowNull(String table, String column, String type) {
+        Boolean notNull = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (!"MySQL".equalsIgnoreCase(metaData.getDatabaseProductName())) {
+                // 그 외(H2 등)는 create/create-drop으로 엔티티 정의대로 생성된다
+                return false;
+            }
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next() && columns.getInt("NULLABLE") == DatabaseMetaData.columnNoNulls;
+            }
+        });
+        if (!Boolean.TRUE.equals(notNull)) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + column + " " + type + " NULL");
+        log.info("[스키마] NULL 허용으로 변경 - {}.{}", table, column);
+    }
+}
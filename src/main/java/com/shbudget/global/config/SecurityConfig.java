@@ -3,11 +3,14 @@ package com.shbudget.global.config;
 import java.util.List;
 
 import com.shbudget.global.config.jwt.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -24,15 +27,23 @@ public class SecurityConfig {
 
     private final ApiKeyFilter apiKeyFilter;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final AdminKeyVerifier adminKeyVerifier;
 
-    public SecurityConfig(ApiKeyFilter apiKeyFilter, JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(ApiKeyFilter apiKeyFilter, JwtAuthenticationFilter jwtAuthenticationFilter,
+                          RateLimitFilter rateLimitFilter, AdminKeyVerifier adminKeyVerifier) {
         this.apiKeyFilter = apiKeyFilter;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.adminKeyVerifier = adminKeyVerifier;
     }
 
+    /**
+     * cost 변경 시 기존 해시는 다음 로그인에서 재해싱된다. (AuthService.login)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -45,16 +56,32 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/api/health").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        // 헬스 체크 외 actuator(메트릭)는 운영자 키로만 접근 (X-Api-Key는 프론트엔드에 노출되어 있음)
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").access((authentication, context) -> new AuthorizationDecision(
+                                adminKeyVerifier.matches(context.getRequest().getHeader(AdminKeyVerifier.HEADER))))
                         // 기존 X-Member-Id 방식 호환을 위해 당분간 모든 요청 허용
                         // JWT 전환 완료 후 아래를 .authenticated()로 변경
                         .anyRequest().permitAll()
                 )
                 .addFilterBefore(apiKeyFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterAfter(jwtAuthenticationFilter, ApiKeyFilter.class);
+                .addFilterAfter(jwtAuthenticationFilter, ApiKeyFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * RateLimitFilter는 JWT 인증 이후에만 실행되어야 하므로 서블릿 컨테이너 자동 등록 해제
+     * (자동 등록되면 보안 필터 체인보다 먼저 IP 기준으로 실행됨)
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
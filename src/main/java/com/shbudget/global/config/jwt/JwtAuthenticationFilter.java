@@ -1,5 +1,6 @@
 package com.shbudget.global.config.jwt;
 
+import com.shbudget.domain.auth.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,9 +17,11 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final TokenRevocationService tokenRevocationService;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider) {
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, TokenRevocationService tokenRevocationService) {
         this.jwtProvider = jwtProvider;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -28,8 +31,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && jwtProvider.validateToken(token)) {
-            Long memberId = jwtProvider.getMemberId(token);
+        VerifiedToken verified = token != null
+                ? jwtProvider.verifyCached(token).orElse(null)
+                : null;
+
+        // 리프레시 토큰은 API 인증에 사용 불가, 폐기 여부는 메모리에서만 확인
+        if (verified != null && !verified.isRefreshToken() && !tokenRevocationService.isRevoked(verified)) {
+            Long memberId = verified.memberId();
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(memberId, null, List.of());
             SecurityContextHolder.getContext().setAuthentication(authentication);
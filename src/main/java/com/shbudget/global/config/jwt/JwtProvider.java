@@ -8,61 +8,115 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtProvider {
 
+    private static final String CLAIM_FAMILY = "fam";
+    private static final String CLAIM_TYPE = "typ";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final int cacheMaxEntries;
+
+    // 검증된 토큰 캐시 (토큰 문자열 → memberId, 만료 시각)
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
 
     public JwtProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration:3600000}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache-max-entries:10000}") int cacheMaxEntries
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+
+    /**
+     * 새 토큰 패밀리 ID 발급 (로그인/회원가입마다 하나)
+     */
+    public String newFamilyId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public String createAccessToken(Long memberId, String familyId) {
+        return createToken(memberId, familyId, TokenType.ACCESS, accessTokenExpiration);
     }
 
-    public String createAccessToken(Long memberId) {
-        return createToken(memberId, accessTokenExpiration);
+    public String createRefreshToken(Long memberId, String familyId) {
+        return createToken(memberId, familyId, TokenType.REFRESH, refreshTokenExpiration);
     }
 
-    public String createRefreshToken(Long memberId) {
-        return createToken(memberId, refreshTokenExpiration);
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
     }
 
-    private String createToken(Long memberId, long expiration) {
+    private String createToken(Long memberId, String familyId, TokenType type, long expiration) {
         Date now = new Date();
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(memberId))
+                .claim(CLAIM_FAMILY, familyId)
+                .claim(CLAIM_TYPE, type.name())
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + expiration))
                 .signWith(secretKey)
                 .compact();
     }
 
-    public Long getMemberId(String token) {
-        Claims claims = parseClaims(token);
-        return Long.valueOf(claims.getSubject());
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * 서명/만료를 한 번만 검증하고 결과를 반환
+     * 유효하지 않은 토큰이면 빈 값
+     */
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            String type = claims.get(CLAIM_TYPE, String.class);
+            return Optional.of(new VerifiedToken(
+                    Long.valueOf(claims.getSubject()),
+                    claims.getId(),
+                    claims.get(CLAIM_FAMILY, String.class),
+                    type != null ? TokenType.valueOf(type) : null,
+                    claims.getExpiration().getTime()
+            ));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 요청 인증용 검증
+     * 같은 토큰이 반복해서 들어오면 만료 시각만 확인하고 서명 검증을 생략한다.
+     * 캐시 키는 토큰 문자열 그대로 사용한다. (별도 해시는 HMAC 검증과 비용이 비슷함)
+     */
+    public Optional<VerifiedToken> verifyCached(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(token);
+            return Optional.empty();
+        }
+
+        Optional<VerifiedToken> verified = verify(token);
+        verified.ifPresent(result -> {
+            if (verifiedTokens.size() >= cacheMaxEntries) {
+                verifiedTokens.clear();
+            }
+            verifiedTokens.put(token, result);
+        });
+        return verified;
     }
 }
@@ -0,0 +1,6 @@
+package com.shbudget.global.config.jwt;
+
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
@@ -0,0 +1,21 @@
+package com.shbudget.global.config.jwt;
+
+/**
+ * 서명 검증이 끝난 토큰 정보
+ * tokenId/familyId/type은 jti 도입 이전에 발급된 토큰이면 null
+ */
+public record VerifiedToken(
+        Long memberId,
+        String tokenId,
+        String familyId,
+        TokenType type,
+        long expiresAt
+) {
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    public boolean isRefreshToken() {
+        return type == TokenType.REFRESH;
+    }
+}
@@ -12,12 +12,15 @@ public enum ErrorCode {
     UNAUTHORIZED(401, "인증이 필요합니다."),
     FORBIDDEN(403, "권한이 없습니다."),
     NOT_FOUND(404, "리소스를 찾을 수 없습니다."),
+    TOO_MANY_REQUESTS(429, "요청이 많습니다. 잠시 후 다시 시도해주세요."),
     INTERNAL_SERVER_ERROR(500, "서버 오류가 발생했습니다."),
 
     // Auth
     INVALID_PASSWORD(401, "비밀번호가 일치하지 않습니다."),
     INVALID_TOKEN(401, "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN(401, "만료된 토큰입니다."),
+    REVOKED_TOKEN(401, "폐기된 토큰입니다. 다시 로그인해주세요."),
+    TOO_MANY_LOGIN_ATTEMPTS(429, "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     // Member
     MEMBER_NOT_FOUND(404, "회원을 찾을 수 없습니다."),
@@ -47,6 +50,10 @@ public enum ErrorCode {
 
     // Recurring
     RECURRING_NOT_FOUND(404, "반복 거래를 찾을 수 없습니다."),
+    INVALID_RECURRENCE_RULE(400, "지원하지 않는 반복 규칙입니다."),
+
+    // Job
+    JOB_NOT_FOUND(404, "작업을 찾을 수 없습니다."),
 
     // Category
     CATEGORY_NOT_FOUND(404, "카테고리를 찾을 수 없습니다."),
@@ -0,0 +1,85 @@
+package com.shbudget.global.job;
+
+import com.shbudget.global.common.ApiResult;
+import com.shbudget.global.common.ResponseStatus;
+import com.shbudget.global.config.AdminKeyVerifier;
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import com.shbudget.global.job.dto.JobResponse;
+import com.shbudget.global.job.dto.JobRunResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 스케줄 작업 관리 API - admin.secret-key가 설정된 경우에만 X-Admin-Key 헤더로 사용할 수 있다.
+ */
+@Tag(name = "Admin Job", description = "스케줄 작업 관리 API")
+@RestController
+@RequestMapping("/api/admin/jobs")
+public class JobAdminController {
+
+    private static final String ADMIN_KEY_HEADER = AdminKeyVerifier.HEADER;
+    private static final int MAX_RUNS = 100;
+
+    private final JobOrchestrator jobOrchestrator;
+    private final AdminKeyVerifier adminKeyVerifier;
+
+    public JobAdminController(JobOrchestrator jobOrchestrator, AdminKeyVerifier adminKeyVerifier) {
+        this.jobOrchestrator = jobOrchestrator;
+        this.adminKeyVerifier = adminKeyVerifier;
+    }
+
+    @GetMapping
+    @Operation(summary = "작업 목록 조회", description = "등록된 작업과 cron, 선행 작업, 마지막 실행 기록을 조회합니다.")
+    public ResponseEntity<ApiResult<List<JobResponse>>> getJobs(
+            @RequestHeader(value = ADMIN_KEY_HEADER, required = false) String adminKey
+    ) {
+        verifyAdminKey(adminKey);
+        List<JobResponse> response = jobOrchestrator.getJobs().stream()
+                .map(job -> JobResponse.of(job, jobOrchestrator.getLastRun(job.getName()).orElse(null)))
+                .toList();
+        return ResponseEntity.ok(ApiResult.of(ResponseStatus.SUCCESS, response));
+    }
+
+    @GetMapping("/{name}/runs")
+    @Operation(summary = "작업 실행 기록 조회", description = "작업의 최근 실행 기록을 최신순으로 조회합니다. (최대 100건)")
+    public ResponseEntity<ApiResult<List<JobRunResponse>>> getRuns(
+            @RequestHeader(value = ADMIN_KEY_HEADER, required = false) String adminKey,
+            @Parameter(description = "작업 이름", example = "recurring.notify-upcoming")
+            @PathVariable String name,
+            @Parameter(description = "조회 건수 (기본값: 20)")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        verifyAdminKey(adminKey);
+        List<JobRunResponse> response = jobOrchestrator.getRuns(name, Math.clamp(limit, 1, MAX_RUNS)).stream()
+                .map(JobRunResponse::from)
+                .toList();
+        return ResponseEntity.ok(ApiResult.of(ResponseStatus.SUCCESS, response));
+    }
+
+    @PostMapping("/{name}/runs")
+    @Operation(summary = "작업 수동 실행", description = "선행 작업을 포함해 작업을 비동기로 실행합니다. 결과는 실행 기록에서 확인합니다.")
+    public ResponseEntity<ApiResult<Void>> trigger(
+            @RequestHeader(value = ADMIN_KEY_HEADER, required = false) String adminKey,
+            @Parameter(description = "작업 이름", example = "recurring.notify-upcoming")
+            @PathVariable String name
+    ) {
+        verifyAdminKey(adminKey);
+        jobOrchestrator.trigger(name);
+        return ResponseEntity.ok(ApiResult.of(ResponseStatus.SUCCESS, "실행을 요청했습니다.", null));
+    }
+
+    // === Private Helper Methods ===
+
+    private void verifyAdminKey(String adminKey) {
+        // 키가 설정되지 않은 환경에서는 관리 API를 열지 않는다
+        if (!adminKeyVerifier.matches(adminKey)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.shbudget.global.job;
+
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import com.shbudget.global.lock.LeaseLockManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 작업 실행기
+ *
+ * - 기본 스케줄러(spring.task.scheduling)와 분리된 전용 풀에서 cron 작업을 실행한다 (느린 작업이 다른 @Scheduled 작업을 막지 않음)
+ * - 작업을 실행하기 전에 선행 작업을 의존 순서대로 먼저 실행하고, 선행 작업이 실패하면 나머지는 SKIPPED로 기록한다
+ * - 작업마다 같은 이름의 lease 락을 잡으므로 여러 인스턴스 중 한 곳에서만 실행된다
+ *   (선행 작업의 락을 얻지 못하면 다른 인스턴스가 같은 체인을 실행 중이므로 체인을 중단)
+ * - 실행마다 job_runs에 상태, 소요 시간, 처리 건수를 기록하고 job.runs 지표(job, status)에도 남긴다
+ * 잘못된 의존 관계(없는 작업, 순환)는 기동 시점에 실패시킨다.
+ */
+@Slf4j
+@Component
+public class JobOrchestrator {
+
+    private final Map<String, ScheduledJob> jobs = new LinkedHashMap<>();
+    private final JobRunRepository jobRunRepository;
+    private final LeaseLockManager leaseLockManager;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final ZoneId zone;
+    private final Duration lease;
+    private final Duration minHold;
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    public JobOrchestrator(
+            List<ScheduledJob> jobs,
+            JobRunRepository jobRunRepository,
+            LeaseLockManager leaseLockManager,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${job.scheduling.enabled:true}") boolean enabled,
+            @Value("${job.pool-size:2}") int poolSize,
+            @Value("${job.zone:Asia/Seoul}") String zone,
+            @Value("${job.lease-seconds:300}") long leaseSeconds,
+            @Value("${job.min-hold-seconds:60}") long minHoldSeconds
+    ) {
+        jobs.stream()
+                .sorted(Comparator.comparing(ScheduledJob::getName))
+                .forEach(job -> {
+                    if (this.jobs.putIfAbsent(job.getName(), job) != null) {
+                        throw new IllegalStateException("Duplicate job name: " + job.getName());
+                    }
+                });
+        validateDependencies();
+
+        this.jobRunRepository = jobRunRepository;
+        this.leaseLockManager = leaseLockManager;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.zone = ZoneId.of(zone);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.minHold = Duration.ofSeconds(minHoldSeconds);
+
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("job-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(false);
+        taskScheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[작업] 스케줄 비활성화 (job.scheduling.enabled=false)");
+            return;
+        }
+        for (ScheduledJob job : jobs.values()) {
+            if (job.getCron() != null) {
+                taskScheduler.schedule(() -> runSafely(job.getName(), JobTrigger.SCHEDULED),
+                        new CronTrigger(job.getCron(), zone));
+                log.info("[작업] 등록 - {} ({}), 선행: {}", job.getName(), job.getCron(), job.getDependsOn());
+            }
+        }
+    }
+
+    /**
+     * 수동 실행 요청 (전용 풀에서 비동기 실행)
+     */
+    public void trigger(String name) {
+        getJob(name);
+        taskScheduler.execute(() -> runSafely(name, JobTrigger.MANUAL));
+    }
+
+    /**
+     * 선행 작업부터 순서대로 실행하고 이번에 기록된 실행 목록 반환
+     */
+    public List<JobRun> run(String name, JobTrigger trigger) throws Throwable {
+        ScheduledJob target = getJob(name);
+        // 같은 주기의 cron이 여러 인스턴스에서 실행되는 것만 막으면 되므로 수동 실행은 최소 보유 시간을 두지 않는다
+        Duration hold = trigger == JobTrigger.SCHEDULED ? minHold : Duration.ZERO;
+
+        List<JobRun> runs = new ArrayList<>();
+        String failedJob = null;
+        for (ScheduledJob job : executionOrder(target)) {
+            JobTrigger jobTrigger = job == target ? trigger : JobTrigger.DEPENDENCY;
+            if (failedJob != null) {
+                runs.add(jobRunRepository.save(JobRun.skipped(job.getName(), jobTrigger,
+                        leaseLockManager.getOwner(), LocalDateTime.now(clock), "선행 작업 실패: " + failedJob)));
+                continue;
+            }
+
+            JobRun run = (JobRun) leaseLockManager.runLocked(job.getName(), lease, hold,
+                    () -> execute(job, jobTrigger));
+            if (run == null) {
+                log.info("[작업] 다른 인스턴스에서 실행 중 - {} (요청: {})", job.getName(), name);
+                if (trigger == JobTrigger.MANUAL) {
+                    runs.add(jobRunRepository.save(JobRun.skipped(job.getName(), jobTrigger,
+                            leaseLockManager.getOwner(), LocalDateTime.now(clock), "다른 인스턴스에서 실행 중")));
+                }
+                break;
+            }
+            runs.add(run);
+            if (run.getStatus() == JobRunStatus.FAILED) {
+                failedJob = job.getName();
+            }
+        }
+        return runs;
+    }
+
+    public Collection<ScheduledJob> getJobs() {
+        return jobs.values();
+    }
+
+    public ScheduledJob getJob(String name) {
+        ScheduledJob job = jobs.get(name);
+        if (job == null) {
+            throw new CustomException(ErrorCode.JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    public Optional<JobRun> getLastRun(String name) {
+        return jobRunRepository.findFirstByJobNameOrderByIdDesc(name);
+    }
+
+    public List<JobRun> getRuns(String name, int limit) {
+        getJob(name);
+        return jobRunRepository.findAllByJobNameOrderByIdDesc(name, Limit.of(limit));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+
+    // === Private Helper Methods ===
+
+    private JobRun execute(ScheduledJob job, JobTrigger trigger) {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        JobRun run = jobRunRepository.save(
+                JobRun.start(job.getName(), trigger, leaseLockManager.getOwner(), startedAt));
+
+        long started = System.nanoTime();
+        try {
+            int itemCount = job.run(startedAt);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            run.succeed(itemCount, LocalDateTime.now(clock), elapsedMillis);
+            recordMetric(job, run);
+            log.info("[작업] 완료 - {} ({}), 처리: {}건, 소요: {}ms", job.getName(), trigger, itemCount, elapsedMillis);
+        } catch (Exception e) {
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            run.fail(e.getClass().getSimpleName() + ": " + e.getMessage(), LocalDateTime.now(clock), elapsedMillis);
+            recordMetric(job, run);
+            log.error("[작업] 실패 - {} ({}), error: {}", job.getName(), trigger, e.getMessage(), e);
+        }
+        return jobRunRepository.save(run);
+    }
+
+    private void recordMetric(ScheduledJob job, JobRun run) {
+        Timer.builder("job.runs")
+                .tag("job", job.getName())
+                .tag("status", run.getStatus().name().toLowerCase())
+                .register(meterRegistry)
+                .record(run.getDurationMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void runSafely(String name, JobTrigger trigger) {
+        try {
+            run(name, trigger);
+        } catch (Throwable e) {
+            log.error("[작업] 실행 오류 - {} ({}), error: {}", name, trigger, e.getMessage(), e);
+        }
+    }
+
+    private List<ScheduledJob> executionOrder(ScheduledJob target) {
+        List<ScheduledJob> order = new ArrayList<>();
+        collect(target, new HashSet<>(), order);
+        return order;
+    }
+
+    private void collect(ScheduledJob job, Set<String> visited, List<ScheduledJob> order) {
+        if (!visited.add(job.getName())) {
+            return;
+        }
+        for (String dependency : job.getDependsOn()) {
+            collect(jobs.get(dependency), visited, order);
+        }
+        order.add(job);
+    }
+
+    private void validateDependencies() {
+        Set<String> done = new HashSet<>();
+        for (ScheduledJob job : jobs.values()) {
+            visit(job, new ArrayList<>(), done);
+        }
+    }
+
+    private void visit(ScheduledJob job, List<String> path, Set<String> done) {
+        if (done.contains(job.getName())) {
+            return;
+        }
+        if (path.contains(job.getName())) {
+            throw new IllegalStateException("Job dependency cycle: " + String.join(" -> ", path) + " -> " + job.getName());
+        }
+        path.add(job.getName());
+        for (String dependency : job.getDependsOn()) {
+            ScheduledJob next = jobs.get(dependency);
+            if (next == null) {
+                throw new IllegalStateException("Unknown dependency of " + job.getName() + ": " + dependency);
+            }
+            visit(next, path, done);
+        }
+        path.removeLast();
+        done.add(job.getName());
+    }
+}
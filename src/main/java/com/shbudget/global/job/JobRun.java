@@ -0,0 +1,113 @@
+package com.shbudget.global.job;
+
+import com.shbudget.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 기록 - 실행 한 번당 한 행
+ *
+ * 실행 중 인스턴스가 죽으면 RUNNING으로 남는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@Entity
+@Table(name = "job_runs", indexes = {
+        @Index(name = "idx_job_run_name", columnList = "job_name, id"),
+        @Index(name = "idx_job_run_started", columnList = "started_at")
+})
+public class JobRun extends BaseEntity {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "job_name", length = 64)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "trigger_type", length = 20)
+    private JobTrigger trigger;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobRunStatus status;
+
+    /** 실행한 인스턴스 (LeaseLockManager owner) */
+    @Column(nullable = false, name = "instance_id", length = 128)
+    private String instanceId;
+
+    @Column(nullable = false, name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_millis")
+    private Long durationMillis;
+
+    /** 처리 건수 */
+    @Column(name = "item_count")
+    private Integer itemCount;
+
+    /** 실패/건너뜀 사유 */
+    @Column(length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    // 정적 팩토리 메서드
+    public static JobRun start(String jobName, JobTrigger trigger, String instanceId, LocalDateTime startedAt) {
+        return JobRun.builder()
+                .jobName(jobName)
+                .trigger(trigger)
+                .status(JobRunStatus.RUNNING)
+                .instanceId(instanceId)
+                .startedAt(startedAt)
+                .build();
+    }
+
+    public static JobRun skipped(String jobName, JobTrigger trigger, String instanceId,
+                                 LocalDateTime at, String reason) {
+        return JobRun.builder()
+                .jobName(jobName)
+                .trigger(trigger)
+                .status(JobRunStatus.SKIPPED)
+                .instanceId(instanceId)
+                .startedAt(at)
+                .finishedAt(at)
+                .durationMillis(0L)
+                .message(truncate(reason))
+                .build();
+    }
+
+    // 비즈니스 메서드
+    public void succeed(int itemCount, LocalDateTime finishedAt, long durationMillis) {
+        this.status = JobRunStatus.SUCCEEDED;
+        this.itemCount = itemCount;
+        this.finishedAt = finishedAt;
+        this.durationMillis = durationMillis;
+    }
+
+    public void fail(String message, LocalDateTime finishedAt, long durationMillis) {
+        this.status = JobRunStatus.FAILED;
+        this.message = truncate(message);
+        this.finishedAt = finishedAt;
+        this.durationMillis = durationMillis;
+    }
+
+    // === Private Helper Methods ===
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
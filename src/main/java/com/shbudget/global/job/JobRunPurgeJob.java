@@ -0,0 +1,39 @@
+package com.shbudget.global.job;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 작업 실행 기록 정리 (매일 04:40)
+ */
+@Component
+public class JobRunPurgeJob implements ScheduledJob {
+
+    private final JobRunRepository jobRunRepository;
+    private final int retentionDays;
+
+    public JobRunPurgeJob(JobRunRepository jobRunRepository,
+                          @Value("${job.history-retention-days:90}") int retentionDays) {
+        this.jobRunRepository = jobRunRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public String getName() {
+        return "job-runs.purge";
+    }
+
+    @Override
+    public String getCron() {
+        return "0 40 4 * * *";
+    }
+
+    @Override
+    @Transactional
+    public int run(LocalDateTime now) {
+        return jobRunRepository.deleteAllStartedBefore(now.minusDays(retentionDays));
+    }
+}
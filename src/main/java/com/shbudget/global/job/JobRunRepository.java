@@ -0,0 +1,24 @@
+package com.shbudget.global.job;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    List<JobRun> findAllByJobNameOrderByIdDesc(String jobName, Limit limit);
+
+    Optional<JobRun> findFirstByJobNameOrderByIdDesc(String jobName);
+
+    @Modifying
+    @Query("DELETE FROM JobRun r WHERE r.startedAt < :before")
+    int deleteAllStartedBefore(@Param("before") LocalDateTime before);
+}
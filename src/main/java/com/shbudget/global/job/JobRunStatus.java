@@ -0,0 +1,8 @@
+package com.shbudget.global.job;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    SKIPPED
+}
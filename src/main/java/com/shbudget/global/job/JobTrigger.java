@@ -0,0 +1,7 @@
+package com.shbudget.global.job;
+
+public enum JobTrigger {
+    SCHEDULED,   // cron
+    MANUAL,      // 관리자 API
+    DEPENDENCY   // 후행 작업 실행 전 선행 작업으로 실행
+}
@@ -0,0 +1,32 @@
+package com.shbudget.global.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JobOrchestrator가 실행하는 클러스터 단위 스케줄 작업
+ *
+ * 작업 이름이 lease 락 이름이 되므로 여러 인스턴스 중 한 곳에서만 실행된다.
+ * 선행 작업(dependsOn)은 이 작업을 실행하기 직전에 같은 스레드에서 먼저 실행되고,
+ * 선행 작업이 실패하면 이 작업은 SKIPPED로 기록된다.
+ */
+public interface ScheduledJob {
+
+    /** 작업 이름 (scheduler_locks.name, job_runs.job_name) */
+    String getName();
+
+    /** cron 표현식 (job.zone 기준) - null이면 선행 작업 또는 수동 실행으로만 실행 */
+    default String getCron() {
+        return null;
+    }
+
+    /** 먼저 실행되어야 하는 작업 이름 */
+    default List<String> getDependsOn() {
+        return List.of();
+    }
+
+    /**
+     * 작업 실행 - 처리 건수 반환 (예외가 발생하면 FAILED로 기록)
+     */
+    int run(LocalDateTime now) throws Exception;
+}
@@ -0,0 +1,26 @@
+package com.shbudget.global.job.dto;
+
+import com.shbudget.global.job.JobRun;
+import com.shbudget.global.job.ScheduledJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Schema(description = "스케줄 작업 응답")
+@Builder
+public record JobResponse(
+        String name,
+        String cron,
+        List<String> dependsOn,
+        JobRunResponse lastRun
+) {
+    public static JobResponse of(ScheduledJob job, JobRun lastRun) {
+        return JobResponse.builder()
+                .name(job.getName())
+                .cron(job.getCron())
+                .dependsOn(job.getDependsOn())
+                .lastRun(lastRun != null ? JobRunResponse.from(lastRun) : null)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.shbudget.global.job.dto;
+
+import com.shbudget.global.job.JobRun;
+import com.shbudget.global.job.JobRunStatus;
+import com.shbudget.global.job.JobTrigger;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "작업 실행 기록 응답")
+@Builder
+public record JobRunResponse(
+        Long id,
+        String jobName,
+        JobTrigger trigger,
+        JobRunStatus status,
+        String instanceId,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        Long durationMillis,
+        Integer itemCount,
+        String message
+) {
+    public static JobRunResponse from(JobRun entity) {
+        return JobRunResponse.builder()
+                .id(entity.getId())
+                .jobName(entity.getJobName())
+                .trigger(entity.getTrigger())
+                .status(entity.getStatus())
+                .instanceId(entity.getInstanceId())
+                .startedAt(entity.getStartedAt())
+                .finishedAt(entity.getFinishedAt())
+                .durationMillis(entity.getDurationMillis())
+                .itemCount(entity.getItemCount())
+                .message(entity.getMessage())
+                .build();
+    }
+}
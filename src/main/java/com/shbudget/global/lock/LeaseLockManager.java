@@ -0,0 +1,131 @@
+package com.shbudget.global.lock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB lease 기반 분산 락
+ *
+ * 획득은 lease가 끝난 행에 대한 조건부 UPDATE 한 번으로 이뤄지며(행이 없으면 INSERT),
+ * 실행 중에는 lease의 1/3 주기로 연장한다. 인스턴스가 죽으면 lease 만료 후 다른 인스턴스가 가져간다.
+ * 각 쿼리는 호출자의 트랜잭션과 분리된 별도 트랜잭션으로 실행한다.
+ * lease 시각은 애플리케이션 시계를 쓰므로 인스턴스 간 시계 오차는 minHold보다 작아야 한다.
+ */
+@Slf4j
+@Component
+public class LeaseLockManager {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final String owner;
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("lease-renewer").daemon().factory());
+
+    public LeaseLockManager(SchedulerLockRepository schedulerLockRepository,
+                            PlatformTransactionManager transactionManager,
+                            Clock clock) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @FunctionalInterface
+    public interface LockedTask {
+        Object run() throws Throwable;
+    }
+
+    /**
+     * lease를 얻으면 작업을 실행하고 결과를 반환, 얻지 못하면 실행하지 않고 null 반환
+     */
+    public Object runLocked(String name, Duration lease, Duration minHold, LockedTask task) throws Throwable {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        if (!acquire(name, startedAt, startedAt.plus(lease))) {
+            log.debug("[스케줄 락] 다른 인스턴스가 보유 중 - {}", name);
+            return null;
+        }
+
+        long renewMillis = Math.max(lease.toMillis() / 3, 1);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(
+                () -> extend(name, lease), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        try {
+            return task.run();
+        } finally {
+            renewal.cancel(false);
+            LocalDateTime holdUntil = startedAt.plus(minHold);
+            LocalDateTime now = LocalDateTime.now(clock);
+            release(name, holdUntil.isAfter(now) ? holdUntil : now);
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    // === Private Helper Methods ===
+
+    private boolean acquire(String name, LocalDateTime now, LocalDateTime until) {
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLockRepository.tryAcquire(name, owner, now, until));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+
+        // 처음 실행되는 작업이면 행 생성 (동시에 생성하면 PK 충돌로 한 곳만 성공)
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (schedulerLockRepository.existsById(name)) {
+                    return false;
+                }
+                schedulerLockRepository.saveAndFlush(SchedulerLock.create(name, owner, now, until));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private void extend(String name, Duration lease) {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Integer updated = transactionTemplate.execute(status ->
+                    schedulerLockRepository.extend(name, owner, now, now.plus(lease)));
+            if (updated == null || updated == 0) {
+                log.warn("[스케줄 락] lease 연장 실패 (이미 만료됨) - {}", name);
+            }
+        } catch (Exception e) {
+            log.warn("[스케줄 락] lease 연장 오류 - {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void release(String name, LocalDateTime until) {
+        try {
+            transactionTemplate.execute(status -> schedulerLockRepository.release(name, owner, until));
+        } catch (Exception e) {
+            // 반납에 실패해도 lease 만료 후 풀린다
+            log.warn("[스케줄 락] 반납 실패 - {}: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.shbudget.global.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 lease - 작업 이름당 한 행
+ *
+ * lockedUntil이 지난 행만 조건부 UPDATE로 가져갈 수 있다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false, name = "locked_by", length = 128)
+    private String lockedBy;
+
+    @Column(nullable = false, name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(nullable = false, name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // 정적 팩토리 메서드
+    public static SchedulerLock create(String name, String lockedBy, LocalDateTime lockedAt, LocalDateTime lockedUntil) {
+        return SchedulerLock.builder()
+                .name(name)
+                .lockedBy(lockedBy)
+                .lockedAt(lockedAt)
+                .lockedUntil(lockedUntil)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.shbudget.global.metrics;
+
+import com.shbudget.domain.book.service.BookEventHub;
+import com.shbudget.domain.pushsubscription.service.PushDispatcher;
+import com.shbudget.global.config.RateLimitFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컴포넌트가 이미 집계하고 있는 값을 지표로 노출 (스크레이프 시점에만 읽으므로 요청 경로에 비용 없음)
+ *
+ * - push.dispatcher.*: 대기열/재시도/발송 중 건수, 누적 버림/재시도/포기 건수
+ * - sse.connections: 이 인스턴스의 SSE 연결 수
+ * - rate_limit.requests: 라우트 그룹별 허용/거절 건수, rate_limit.buckets: 그룹별 버킷 수
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationMetricsBinder implements MeterBinder {
+
+    private final PushDispatcher pushDispatcher;
+    private final BookEventHub bookEventHub;
+    private final RateLimitFilter rateLimitFilter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("push.dispatcher.queue", pushDispatcher, dispatcher -> dispatcher.getStats().queueDepth())
+                .register(registry);
+        Gauge.builder("push.dispatcher.retry.pending", pushDispatcher, dispatcher -> dispatcher.getStats().retryPending())
+                .register(registry);
+        Gauge.builder("push.dispatcher.in_flight", pushDispatcher, dispatcher -> dispatcher.getStats().inFlight())
+                .register(registry);
+        FunctionCounter.builder("push.dispatcher.dropped", pushDispatcher, dispatcher -> dispatcher.getStats().dropped())
+                .register(registry);
+        FunctionCounter.builder("push.dispatcher.retried", pushDispatcher, dispatcher -> dispatcher.getStats().retried())
+                .register(registry);
+        FunctionCounter.builder("push.dispatcher.dead_lettered", pushDispatcher,
+                        dispatcher -> dispatcher.getStats().deadLettered())
+                .register(registry);
+
+        Gauge.builder("sse.connections", bookEventHub, BookEventHub::getConnectionCount)
+                .register(registry);
+
+        for (RateLimitFilter.RouteGroup group : RateLimitFilter.RouteGroup.values()) {
+            String groupTag = group.name().toLowerCase();
+            FunctionCounter.builder("rate_limit.requests", rateLimitFilter, filter -> filter.getAllowedCount(group))
+                    .tags("group", groupTag, "result", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("rate_limit.requests", rateLimitFilter, filter -> filter.getRejectedCount(group))
+                    .tags("group", groupTag, "result", "rejected")
+                    .register(registry);
+            Gauge.builder("rate_limit.buckets", rateLimitFilter, filter -> filter.getBucketCount(group))
+                    .tag("group", groupTag)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.shbudget.global.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * 요청마다 실행된 SQL 수 집계
+ *
+ * - enabled(dev/test)일 때만 동작한다. 문장마다 모양을 정규식으로 정규화하므로 운영에서는 끄고,
+ *   QueryCountInspector(statement_inspector)도 dev/test 설정에서만 등록한다.
+ * - header-enabled(dev)이면 응답에 X-Query-Count 헤더를 붙인다 (본문을 쓰기 직전 시점의 값)
+ * - 같은 모양의 문장이 repeat-threshold번 이상 실행되면 N+1 의심으로 로그를 남긴다
+ * - 전체 문장 수가 warn-threshold를 넘으면 로그를 남긴다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final boolean enabled;
+    private final boolean headerEnabled;
+    private final int repeatThreshold;
+    private final int warnThreshold;
+
+    public QueryCountFilter(
+            @Value("${query-count.enabled:false}") boolean enabled,
+            @Value("${query-count.header-enabled:false}") boolean headerEnabled,
+            @Value("${query-count.repeat-threshold:5}") int repeatThreshold,
+            @Value("${query-count.warn-threshold:30}") int warnThreshold
+    ) {
+        this.enabled = enabled;
+        this.headerEnabled = headerEnabled;
+        this.repeatThreshold = repeatThreshold;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter counter = QueryCounter.open();
+        if (counter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            if (headerEnabled) {
+                QueryCountHeaderResponse wrapped = new QueryCountHeaderResponse(response, counter);
+                filterChain.doFilter(request, wrapped);
+                // 본문 없는 응답
+                wrapped.writeHeader();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            counter.close();
+            report(request, counter);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    // === Private Helper Methods ===
+
+    private void report(HttpServletRequest request, QueryCounter counter) {
+        Map<String, Integer> repeated = counter.getRepeatedShapes(repeatThreshold);
+        repeated.forEach((shape, times) ->
+                log.warn("[쿼리] 동일 쿼리 반복 (N+1 의심) - {} {}, {}회: {}",
+                        request.getMethod(), request.getRequestURI(), times, abbreviate(shape)));
+
+        if (counter.getCount() > warnThreshold) {
+            log.warn("[쿼리] 쿼리 수 초과 - {} {}, {}건", request.getMethod(), request.getRequestURI(), counter.getCount());
+        } else {
+            log.debug("[쿼리] {} {} - {}건", request.getMethod(), request.getRequestURI(), counter.getCount());
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    /**
+     * 본문을 쓰기 시작하는 시점(커밋 전)에 헤더 추가
+     */
+    private static class QueryCountHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryCounter counter;
+        private boolean written;
+
+        QueryCountHeaderResponse(HttpServletResponse response, QueryCounter counter) {
+            super(response);
+            this.counter = counter;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        void writeHeader() {
+            if (!written && !isCommitted()) {
+                setHeader(HEADER, String.valueOf(counter.getCount()));
+                written = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.shbudget.global.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL을 QueryCounter에 기록 (SQL은 바꾸지 않음)
+ *
+ * hibernate.session_factory.statement_inspector 설정으로 등록한다. (dev/test 프로필에서만)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,91 @@
+package com.shbudget.global.query;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수 집계 (요청/테스트 범위)
+ *
+ * QueryCountInspector가 Hibernate가 준비하는 문장마다 record를 호출한다.
+ * 같은 모양(shape)의 문장이 여러 번 실행되면 N+1로 의심할 수 있다.
+ * 모양은 IN 목록과 숫자/문자열 리터럴, 공백을 정규화해 비교한다.
+ * 다른 스레드(비동기, 가상 스레드)에서 실행된 문장은 집계되지 않는다.
+ */
+public final class QueryCounter implements AutoCloseable {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int count;
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 집계 시작 - 이미 열린 집계가 있으면 null (바깥 범위가 계속 집계)
+     */
+    public static QueryCounter open() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        QueryCounter counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+
+    static void record(String sql) {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.count++;
+            counter.shapes.merge(shape(sql), 1, Integer::sum);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * threshold번 이상 실행된 모양 (많이 실행된 순)
+     */
+    public Map<String, Integer> getRepeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    /**
+     * 지금까지의 집계를 버림 (예: 테스트 데이터 준비 후)
+     */
+    public void reset() {
+        count = 0;
+        shapes.clear();
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
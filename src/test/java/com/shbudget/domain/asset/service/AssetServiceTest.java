@@ -6,7 +6,7 @@ import com.shbudget.domain.asset.dto.AssetSummaryResponse;
 import com.shbudget.domain.asset.dto.AssetUpdateRequest;
 import com.shbudget.domain.asset.entity.Asset;
 import com.shbudget.domain.asset.repository.AssetRepository;
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
 import com.shbudget.domain.member.entity.Member;
 import com.shbudget.domain.member.repository.MemberRepository;
 import com.shbudget.global.exception.CustomException;
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,11 +37,14 @@ class AssetServiceTest {
     private AssetRepository assetRepository;
 
     @Mock
-    private BookMemberRepository bookMemberRepository;
+    private BookAccessChecker bookAccessChecker;
 
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AssetService assetService;
 
@@ -51,7 +56,6 @@ class AssetServiceTest {
         Long bookId = 1L;
         AssetCreateRequest request = new AssetCreateRequest("월급 통장", 1000000L, null);
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(assetRepository.save(any(Asset.class))).willAnswer(invocation -> {
             Asset asset = invocation.getArgument(0);
             return Asset.create(bookId, asset.getName(), asset.getBalance());
@@ -75,7 +79,7 @@ class AssetServiceTest {
         Long bookId = 1L;
         AssetCreateRequest request = new AssetCreateRequest("월급 통장", 1000000L, null);
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(false);
+        willThrow(new CustomException(ErrorCode.NOT_BOOK_MEMBER)).given(bookAccessChecker).validateBookMember(bookId, memberId);
 
         // when & then
         assertThatThrownBy(() -> assetService.createAsset(memberId, bookId, request))
@@ -94,8 +98,6 @@ class AssetServiceTest {
 
         Member owner = Member.create("owner@example.com", "아내");
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, ownerMemberId)).willReturn(true);
         given(assetRepository.save(any(Asset.class))).willAnswer(invocation -> {
             Asset asset = invocation.getArgument(0);
             return Asset.create(bookId, asset.getName(), asset.getBalance(), asset.getOwnerMemberId());
@@ -120,7 +122,6 @@ class AssetServiceTest {
         Asset asset1 = Asset.create(bookId, "월급 통장", 1000000L);
         Asset asset2 = Asset.create(bookId, "생활비 카드", 500000L);
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(assetRepository.findAllByBookId(bookId)).willReturn(List.of(asset1, asset2));
 
         // when
@@ -141,7 +142,6 @@ class AssetServiceTest {
         Long assetId = 1L;
         Asset asset = Asset.create(bookId, "월급 통장", 1000000L);
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(assetRepository.findByIdAndBookId(assetId, bookId)).willReturn(Optional.of(asset));
 
         // when
@@ -161,7 +161,6 @@ class AssetServiceTest {
         Long bookId = 1L;
         Long assetId = 999L;
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(assetRepository.findByIdAndBookId(assetId, bookId)).willReturn(Optional.empty());
 
         // when & then
@@ -181,7 +180,6 @@ class AssetServiceTest {
 
         Asset asset = Asset.create(bookId, "월급 통장", 1000000L);
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(assetRepository.findByIdAndBookId(assetId, bookId)).willReturn(Optional.of(asset));
 
         // when
@@ -201,7 +199,6 @@ class AssetServiceTest {
         Long assetId = 1L;
         Asset asset = Asset.create(bookId, "월급 통장", 1000000L);
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(assetRepository.findByIdAndBookId(assetId, bookId)).willReturn(Optional.of(asset));
 
         // when
@@ -220,7 +217,6 @@ class AssetServiceTest {
         Asset asset1 = Asset.create(bookId, "월급 통장", 1000000L);
         Asset asset2 = Asset.create(bookId, "생활비 카드", 500000L);
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(assetRepository.sumBalanceByBookId(bookId)).willReturn(1500000L);
         given(assetRepository.findAllByBookId(bookId)).willReturn(List.of(asset1, asset2));
 
@@ -239,7 +235,6 @@ class AssetServiceTest {
         Long memberId = 1L;
         Long bookId = 1L;
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(assetRepository.sumBalanceByBookId(bookId)).willReturn(null);
         given(assetRepository.findAllByBookId(bookId)).willReturn(List.of());
 
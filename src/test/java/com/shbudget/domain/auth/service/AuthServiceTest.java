@@ -0,0 +1,248 @@
+package com.shbudget.domain.auth.service;
+
+import com.shbudget.domain.auth.dto.request.LoginRequest;
+import com.shbudget.domain.auth.dto.request.RefreshRequest;
+import com.shbudget.domain.auth.dto.request.RegisterRequest;
+import com.shbudget.domain.auth.dto.response.AuthResponse;
+import com.shbudget.domain.book.service.BookService;
+import com.shbudget.domain.member.entity.Member;
+import com.shbudget.domain.member.repository.MemberRepository;
+import com.shbudget.global.config.jwt.JwtProvider;
+import com.shbudget.global.config.jwt.VerifiedToken;
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long!!!!!";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JwtProvider jwtProvider;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(SECRET, 3600000L, 604800000L, 100);
+        authService = new AuthService(memberRepository, bookService, passwordHasher, loginAttemptLimiter,
+                jwtProvider, tokenRevocationService, new TransactionTemplate(transactionManager));
+    }
+
+    private Member member() {
+        return Member.builder().id(1L).email("user@example.com").nickname("민지").build();
+    }
+
+    private Member memberWithPassword(String encodedPassword) {
+        return Member.builder().id(1L).email("user@example.com").password(encodedPassword).nickname("민지").build();
+    }
+
+    private VerifiedToken parse(String token) {
+        return jwtProvider.verify(token).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("회원가입 - 해싱 후 트랜잭션 안에서 회원과 기본 가계부 생성")
+    void register_success() {
+        // given
+        given(memberRepository.existsByEmail("user@example.com")).willReturn(false);
+        given(passwordHasher.encode("password1!")).willReturn("hash");
+        given(memberRepository.save(any(Member.class))).willReturn(memberWithPassword("hash"));
+
+        // when
+        AuthResponse response = authService.register(new RegisterRequest("user@example.com", "password1!", "민지"));
+
+        // then
+        assertThat(response.memberId()).isEqualTo(1L);
+        InOrder inOrder = inOrder(passwordHasher, transactionManager, memberRepository, bookService);
+        inOrder.verify(passwordHasher).encode("password1!");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(memberRepository).save(any(Member.class));
+        inOrder.verify(bookService).createBookForMember(1L, "민지의 가계부");
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 이미 가입된 이메일은 해싱 없이 DUPLICATE_EMAIL")
+    void register_duplicateEmail() {
+        // given
+        given(memberRepository.existsByEmail("user@example.com")).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> authService.register(new RegisterRequest("user@example.com", "password1!", "민지")))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_EMAIL);
+        verify(passwordHasher, never()).encode(any());
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 새 토큰 패밀리 발급, 실패 횟수 초기화")
+    void login_success() {
+        // given
+        given(memberRepository.findByEmail("user@example.com")).willReturn(Optional.of(memberWithPassword("hash")));
+        given(passwordHasher.matches("password1!", "hash")).willReturn(true);
+        given(passwordHasher.needsRehash("hash")).willReturn(false);
+
+        // when
+        AuthResponse response = authService.login(new LoginRequest("user@example.com", "password1!"), "1.2.3.4");
+
+        // then
+        assertThat(response.memberId()).isEqualTo(1L);
+        assertThat(parse(response.refreshToken()).familyId()).isEqualTo(parse(response.accessToken()).familyId());
+        verify(loginAttemptLimiter).checkAndRecordAttempt("user@example.com", "1.2.3.4");
+        verify(loginAttemptLimiter).recordSuccess("user@example.com");
+        verify(memberRepository, never()).updatePassword(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 시 약한 해시는 재해싱해 별도 UPDATE로 저장")
+    void login_rehash() {
+        // given
+        given(memberRepository.findByEmail("user@example.com")).willReturn(Optional.of(memberWithPassword("weak")));
+        given(passwordHasher.matches("password1!", "weak")).willReturn(true);
+        given(passwordHasher.needsRehash("weak")).willReturn(true);
+        given(passwordHasher.encode("password1!")).willReturn("strong");
+
+        // when
+        authService.login(new LoginRequest("user@example.com", "password1!"), "1.2.3.4");
+
+        // then
+        verify(memberRepository).updatePassword(1L, "weak", "strong");
+    }
+
+    @Test
+    @DisplayName("비밀번호 불일치 - 실패 기록 후 INVALID_PASSWORD")
+    void login_invalidPassword() {
+        // given
+        given(memberRepository.findByEmail("user@example.com")).willReturn(Optional.of(memberWithPassword("hash")));
+        given(passwordHasher.matches("wrong", "hash")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(new LoginRequest("user@example.com", "wrong"), "1.2.3.4"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PASSWORD);
+        verify(loginAttemptLimiter).recordFailure("user@example.com");
+        verify(loginAttemptLimiter, never()).recordSuccess(any());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 회전 - 사용한 토큰을 폐기하고 같은 패밀리로 새 토큰 발급")
+    void refresh_rotates() {
+        // given
+        String familyId = jwtProvider.newFamilyId();
+        String refreshToken = jwtProvider.createRefreshToken(1L, familyId);
+        given(tokenRevocationService.revokeToken(any())).willReturn(true);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member()));
+
+        // when
+        AuthResponse response = authService.refresh(new RefreshRequest(refreshToken));
+
+        // then
+        VerifiedToken rotated = parse(response.refreshToken());
+        assertThat(rotated.familyId()).isEqualTo(familyId);
+        assertThat(rotated.tokenId()).isNotEqualTo(parse(refreshToken).tokenId());
+        assertThat(parse(response.accessToken()).familyId()).isEqualTo(familyId);
+        verify(tokenRevocationService).revokeToken(parse(refreshToken));
+        verify(tokenRevocationService, never()).revokeFamily(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 폐기된 리프레시 토큰 재사용 - 패밀리 전체 폐기 후 REVOKED_TOKEN")
+    void refresh_reused() {
+        // given
+        String familyId = jwtProvider.newFamilyId();
+        String refreshToken = jwtProvider.createRefreshToken(1L, familyId);
+        given(tokenRevocationService.isRevoked(any())).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(refreshToken)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REVOKED_TOKEN);
+        verify(tokenRevocationService).revokeFamily(eq(familyId), anyLong());
+        verify(tokenRevocationService, never()).revokeToken(any());
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("같은 리프레시 토큰이 동시에 회전되면 늦은 요청은 재사용으로 판정")
+    void refresh_concurrentReuse() {
+        // given
+        String familyId = jwtProvider.newFamilyId();
+        String refreshToken = jwtProvider.createRefreshToken(1L, familyId);
+        // 다른 인스턴스가 먼저 폐기해 이 인스턴스의 메모리에는 아직 없음
+        given(tokenRevocationService.isRevoked(any())).willReturn(false);
+        given(tokenRevocationService.revokeToken(any())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(refreshToken)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REVOKED_TOKEN);
+        verify(tokenRevocationService).revokeFamily(eq(familyId), anyLong());
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("액세스 토큰으로는 회전할 수 없음")
+    void refresh_accessToken() {
+        // given
+        String accessToken = jwtProvider.createAccessToken(1L, jwtProvider.newFamilyId());
+
+        // when & then
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(accessToken)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+        verify(tokenRevocationService, never()).revokeToken(any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 해당 로그인의 토큰 패밀리 폐기")
+    void logout_revokesFamily() {
+        // given
+        String familyId = jwtProvider.newFamilyId();
+        String refreshToken = jwtProvider.createRefreshToken(1L, familyId);
+
+        // when
+        authService.logout(new RefreshRequest(refreshToken));
+
+        // then
+        verify(tokenRevocationService).revokeFamily(eq(familyId), anyLong());
+    }
+}
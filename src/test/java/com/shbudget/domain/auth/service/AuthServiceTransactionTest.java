@@ -0,0 +1,130 @@
+package com.shbudget.domain.auth.service;
+
+import com.shbudget.domain.auth.dto.request.RefreshRequest;
+import com.shbudget.domain.auth.dto.request.RegisterRequest;
+import com.shbudget.domain.auth.dto.response.AuthResponse;
+import com.shbudget.domain.member.entity.Member;
+import com.shbudget.domain.member.repository.MemberRepository;
+import com.shbudget.global.config.jwt.JwtProvider;
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+/**
+ * 인증 요청이 DB 커넥션을 두 개 이상 동시에 잡지 않고, 비밀번호 해싱 중에는 트랜잭션을 열지 않는지 확인
+ *
+ * 커넥션 풀을 1개로 두면, 바깥 트랜잭션이 커넥션을 잡은 채 폐기 트랜잭션(REQUIRES_NEW)이
+ * 두 번째 커넥션을 기다리는 경우 connection-timeout 후 실패한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "recurring.dispatch.enabled=false",
+        "job.scheduling.enabled=false"
+})
+@ActiveProfiles("test")
+class AuthServiceTransactionTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoSpyBean
+    private PasswordHasher passwordHasher;
+
+    @Test
+    @DisplayName("회원가입은 트랜잭션 밖에서 해싱한 뒤 회원과 기본 가계부를 저장")
+    void register_hashesOutsideTransaction() throws SQLException {
+        // given
+        AtomicReference<Boolean> transactionActiveWhileHashing = new AtomicReference<>();
+        willAnswer(invocation -> {
+            transactionActiveWhileHashing.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).given(passwordHasher).encode(any());
+
+        // when
+        AuthResponse response = authService.register(new RegisterRequest("signup@example.com", "password1!", "민지"));
+
+        // then
+        assertThat(transactionActiveWhileHashing.get()).isFalse();
+        assertThat(memberRepository.findById(response.memberId())).isPresent();
+        assertThat(activeConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 회전은 커넥션 하나로 폐기와 회원 조회를 처리")
+    void refresh_singleConnection() throws SQLException {
+        // given
+        Member member = memberRepository.save(Member.createWithPassword("refresh@example.com", "hash", "민지"));
+        String refreshToken = jwtProvider.createRefreshToken(member.getId(), jwtProvider.newFamilyId());
+
+        // when
+        AuthResponse response = authService.refresh(new RefreshRequest(refreshToken));
+
+        // then
+        assertThat(response.memberId()).isEqualTo(member.getId());
+        assertThat(activeConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("재사용된 리프레시 토큰은 커넥션 하나로 패밀리를 폐기하고 거절")
+    void refresh_reusedSingleConnection() throws SQLException {
+        // given
+        Member member = memberRepository.save(Member.createWithPassword("reuse@example.com", "hash", "민지"));
+        String refreshToken = jwtProvider.createRefreshToken(member.getId(), jwtProvider.newFamilyId());
+        authService.refresh(new RefreshRequest(refreshToken));
+
+        // when & then
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(refreshToken)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REVOKED_TOKEN);
+        assertThat(activeConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그아웃은 바깥 트랜잭션 없이 패밀리를 폐기")
+    void logout_singleConnection() throws SQLException {
+        // given
+        Member member = memberRepository.save(Member.createWithPassword("logout@example.com", "hash", "민지"));
+        String refreshToken = jwtProvider.createRefreshToken(member.getId(), jwtProvider.newFamilyId());
+
+        // when
+        authService.logout(new RefreshRequest(refreshToken));
+
+        // then
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(refreshToken)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REVOKED_TOKEN);
+        assertThat(activeConnections()).isZero();
+    }
+
+    // === Private Helper Methods ===
+
+    private int activeConnections() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    }
+}
@@ -0,0 +1,57 @@
+package com.shbudget.domain.auth.service;
+
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptLimiterTest {
+
+    private final LoginAttemptLimiter limiter = new LoginAttemptLimiter(3, 10, 300);
+
+    @Test
+    @DisplayName("이메일별 실패 횟수 초과 시 예외 발생")
+    void emailFailures_exceeded() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAndRecordAttempt("Test@Example.com", "1.1.1." + i);
+            limiter.recordFailure("test@example.com");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> limiter.checkAndRecordAttempt("test@example.com", "2.2.2.2"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 이메일 실패 횟수 초기화")
+    void recordSuccess_resetsFailures() {
+        // given
+        limiter.recordFailure("test@example.com");
+        limiter.recordFailure("test@example.com");
+        limiter.recordSuccess("test@example.com");
+        limiter.recordFailure("test@example.com");
+
+        // when & then
+        assertThatCode(() -> limiter.checkAndRecordAttempt("test@example.com", "1.1.1.1"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("IP별 시도 횟수 초과 시 예외 발생")
+    void ipAttempts_exceeded() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            limiter.checkAndRecordAttempt("user" + i + "@example.com", "1.1.1.1");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> limiter.checkAndRecordAttempt("other@example.com", "1.1.1.1"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+}
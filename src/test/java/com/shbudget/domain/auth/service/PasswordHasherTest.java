@@ -0,0 +1,94 @@
+package com.shbudget.domain.auth.service;
+
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 후 검증 성공")
+    void encodeAndMatches() {
+        // given
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), 1, 4, 3000);
+
+        // when
+        String encoded = passwordHasher.encode("password123");
+
+        // then
+        assertThat(passwordHasher.matches("password123", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("cost가 올라가면 기존 해시는 재해싱 대상")
+    void needsRehash() {
+        // given
+        String weak = new BCryptPasswordEncoder(4).encode("password123");
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 4, 3000);
+
+        // when & then
+        assertThat(passwordHasher.needsRehash(weak)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절")
+    void queueFull_rejected() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        passwordHasher = new PasswordHasher(blockingEncoder, 1, 1, 5000);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> passwordHasher.encode("a"));   // 실행 중
+        started.await(5, TimeUnit.SECONDS);
+        callers.submit(() -> passwordHasher.encode("b"));   // 대기열
+        Thread.sleep(100);
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> passwordHasher.encode("c"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+}
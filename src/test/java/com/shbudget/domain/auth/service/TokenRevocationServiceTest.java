@@ -0,0 +1,158 @@
+package com.shbudget.domain.auth.service;
+
+import com.shbudget.domain.auth.entity.RevocationType;
+import com.shbudget.domain.auth.entity.RevokedToken;
+import com.shbudget.domain.auth.repository.RevokedTokenRepository;
+import com.shbudget.global.config.jwt.TokenType;
+import com.shbudget.global.config.jwt.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, transactionManager, 60);
+    }
+
+    private VerifiedToken token(String jti, String family) {
+        return new VerifiedToken(1L, jti, family, TokenType.REFRESH, System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 후 즉시 폐기 상태로 확인")
+    void revokeToken_success() {
+        // given
+        VerifiedToken token = token("jti-1", "fam-1");
+        given(revokedTokenRepository.existsByTokenId("jti-1")).willReturn(false);
+
+        // when
+        boolean revoked = tokenRevocationService.revokeToken(token);
+
+        // then
+        assertThat(revoked).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token("jti-2", "fam-1"))).isFalse();
+        verify(revokedTokenRepository).saveAndFlush(any(RevokedToken.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("패밀리 폐기 시 같은 패밀리의 모든 토큰이 폐기 상태")
+    void revokeFamily_success() {
+        // given
+        given(revokedTokenRepository.existsByTokenId("fam-1")).willReturn(false);
+
+        // when
+        tokenRevocationService.revokeFamily("fam-1", System.currentTimeMillis() + 60_000);
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(token("jti-1", "fam-1"))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token("jti-2", "fam-1"))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token("jti-3", "fam-2"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 폐기된 토큰은 다시 저장하지 않음")
+    void revokeToken_alreadyRevoked() {
+        // given
+        VerifiedToken token = token("jti-1", "fam-1");
+        given(revokedTokenRepository.existsByTokenId("jti-1")).willReturn(false);
+        tokenRevocationService.revokeToken(token);
+
+        // when
+        boolean revokedAgain = tokenRevocationService.revokeToken(token);
+
+        // then
+        assertThat(revokedAgain).isFalse();
+        verify(revokedTokenRepository, times(1)).saveAndFlush(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 폐기해 유니크 제약에 걸리면 회전 실패(false)로 판정")
+    void revokeToken_concurrentlyRevoked() {
+        // given
+        VerifiedToken token = token("jti-1", "fam-1");
+        given(revokedTokenRepository.existsByTokenId("jti-1")).willReturn(false);
+        given(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .willThrow(new DataIntegrityViolationException("uk_revoked_token_id"));
+
+        // when
+        boolean revoked = tokenRevocationService.revokeToken(token);
+
+        // then
+        assertThat(revoked).isFalse();
+        assertThat(tokenRevocationService.isRevoked(token)).isTrue();
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("폐기 기록이 커밋되지 않으면 메모리에도 반영하지 않음")
+    void revokeToken_commitFailed() {
+        // given
+        VerifiedToken token = token("jti-1", "fam-1");
+        given(revokedTokenRepository.existsByTokenId("jti-1")).willReturn(false);
+        given(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .willThrow(new IllegalStateException("connection reset"));
+
+        // when & then
+        assertThatThrownBy(() -> tokenRevocationService.revokeToken(token))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(tokenRevocationService.isRevoked(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기화 시 다른 인스턴스의 폐기 목록을 반영하고 이후에는 직전 동기화 시각 - overlap부터 다시 조회")
+    void sync_incrementalWithOverlap() {
+        // given
+        RevokedToken revoked = RevokedToken.builder()
+                .id(5L)
+                .tokenId("fam-9")
+                .type(RevocationType.FAMILY)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+        given(revokedTokenRepository.findAllByCreatedAtAfterAndExpiresAtAfter(any(), any()))
+                .willReturn(List.of(revoked))
+                .willReturn(List.of());
+
+        // when
+        tokenRevocationService.sync();
+        tokenRevocationService.sync();
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(token("jti-1", "fam-9"))).isTrue();
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository, times(2)).findAllByCreatedAtAfterAndExpiresAtAfter(from.capture(), now.capture());
+        // 두 번째 조회는 첫 동기화 시각보다 60초 앞에서 시작 (늦게 커밋된 행을 놓치지 않음)
+        assertThat(from.getAllValues().get(1)).isEqualTo(now.getAllValues().get(0).minusSeconds(60));
+        verify(revokedTokenRepository, never()).saveAndFlush(any());
+    }
+}
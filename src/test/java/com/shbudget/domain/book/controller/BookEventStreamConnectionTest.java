@@ -0,0 +1,108 @@
+package com.shbudget.domain.book.controller;
+
+import com.shbudget.domain.book.service.BookEventHub;
+import com.shbudget.domain.book.service.BookService;
+import com.shbudget.domain.member.entity.Member;
+import com.shbudget.domain.member.repository.MemberRepository;
+import com.shbudget.global.config.jwt.JwtProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SSE 연결이 열려 있는 동안 DB 커넥션을 점유하지 않는지 확인
+ * (open-in-view가 켜져 있으면 연결마다 커넥션 하나가 스트림이 끝날 때까지 묶인다)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BookEventStreamConnectionTest {
+
+    private static final int STREAMS = 3;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookEventHub bookEventHub;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Test
+    @DisplayName("SSE 연결 중에는 활성 DB 커넥션이 0으로 돌아온다")
+    void openStreams_holdNoDbConnection() throws Exception {
+        // given
+        Member member = memberRepository.save(Member.createWithPassword("sse@example.com", "hash", "민지"));
+        Long bookId = bookService.createBookForMember(member.getId(), "민지의 가계부").id();
+        String token = jwtProvider.createAccessToken(member.getId(), jwtProvider.newFamilyId());
+        HttpClient httpClient = HttpClient.newHttpClient();
+        List<InputStream> streams = new ArrayList<>();
+
+        try {
+            // when
+            for (int i = 0; i < STREAMS; i++) {
+                HttpResponse<InputStream> response = httpClient.send(HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/api/books/" + bookId + "/events"))
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", "text/event-stream")
+                        .GET()
+                        .build(), HttpResponse.BodyHandlers.ofInputStream());
+                streams.add(response.body());
+                assertThat(response.statusCode()).isEqualTo(200);
+                // 첫 이벤트(connected)까지 받아 연결이 열린 상태를 확인
+                BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+                assertThat(reader.readLine()).isNotNull();
+            }
+
+            // then
+            assertThat(bookEventHub.getConnectionCount()).isEqualTo(STREAMS);
+            assertThat(awaitNoActiveConnections()).isZero();
+        } finally {
+            for (InputStream stream : streams) {
+                stream.close();
+            }
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    // 스케줄 작업이 잠깐 커넥션을 쓸 수 있으므로 최대 5초 동안 0이 되는지 확인
+    private int awaitNoActiveConnections() throws SQLException, InterruptedException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        long deadline = System.currentTimeMillis() + 5000;
+        int active = hikari.getHikariPoolMXBean().getActiveConnections();
+        while (active > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            active = hikari.getHikariPoolMXBean().getActiveConnections();
+        }
+        return active;
+    }
+}
@@ -0,0 +1,81 @@
+package com.shbudget.domain.book.service;
+
+import com.shbudget.domain.book.entity.BookMember;
+import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookAccessCheckerTest {
+
+    @Mock
+    private BookMemberRepository bookMemberRepository;
+
+    private BookAccessChecker bookAccessChecker;
+
+    @BeforeEach
+    void setUp() {
+        bookAccessChecker = new BookAccessChecker(bookMemberRepository, 300, 1000);
+    }
+
+    @Test
+    @DisplayName("멤버십은 한 번만 조회하고 이후에는 캐시를 사용")
+    void validateBookMember_cached() {
+        // given
+        given(bookMemberRepository.findAllByMemberId(1L)).willReturn(List.of(
+                BookMember.createOwner(10L, 1L),
+                BookMember.createMember(20L, 1L)
+        ));
+
+        // when
+        bookAccessChecker.validateBookMember(10L, 1L);
+        bookAccessChecker.validateBookMember(20L, 1L);
+        bookAccessChecker.validateBookMember(10L, 1L);
+
+        // then
+        verify(bookMemberRepository, times(1)).findAllByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("가계부 멤버가 아니면 예외 발생")
+    void validateBookMember_notMember() {
+        // given
+        given(bookMemberRepository.findAllByMemberId(1L)).willReturn(List.of(BookMember.createOwner(10L, 1L)));
+
+        // when & then
+        assertThatThrownBy(() -> bookAccessChecker.validateBookMember(99L, 1L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_BOOK_MEMBER);
+    }
+
+    @Test
+    @DisplayName("evict 이후에는 멤버십을 다시 조회")
+    void evict_reloads() {
+        // given
+        given(bookMemberRepository.findAllByMemberId(1L))
+                .willReturn(List.of(BookMember.createOwner(10L, 1L)))
+                .willReturn(List.of(BookMember.createOwner(10L, 1L), BookMember.createMember(20L, 1L)));
+        assertThat(bookAccessChecker.isBookMember(20L, 1L)).isFalse();
+
+        // when
+        bookAccessChecker.evict(1L);
+
+        // then
+        assertThat(bookAccessChecker.isBookMember(20L, 1L)).isTrue();
+        verify(bookMemberRepository, times(2)).findAllByMemberId(1L);
+    }
+}
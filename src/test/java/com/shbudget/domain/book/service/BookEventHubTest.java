@@ -0,0 +1,123 @@
+package com.shbudget.domain.book.service;
+
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class BookEventHubTest {
+
+    @Mock
+    private BookAccessChecker bookAccessChecker;
+
+    private BookEventHub bookEventHub;
+
+    @BeforeEach
+    void setUp() {
+        bookEventHub = new BookEventHub(bookAccessChecker, 60000, 100, 2) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookEventHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("연결한 멤버는 해당 가계부에서만 온라인")
+    void connect_online() {
+        // when
+        bookEventHub.connect(10L, 1L);
+
+        // then
+        assertThat(bookEventHub.isOnline(10L, 1L)).isTrue();
+        assertThat(bookEventHub.isOnline(20L, 1L)).isFalse();
+        assertThat(bookEventHub.isOnline(10L, 2L)).isFalse();
+        assertThat(bookEventHub.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가계부 멤버가 아니면 연결 거부")
+    void connect_notMember() {
+        // given
+        willThrow(new CustomException(ErrorCode.NOT_BOOK_MEMBER))
+                .given(bookAccessChecker).validateBookMember(10L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> bookEventHub.connect(10L, 1L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_BOOK_MEMBER);
+        assertThat(bookEventHub.getConnectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("멤버당 연결 수를 넘으면 거부")
+    void connect_perMemberLimit() {
+        // given
+        bookEventHub.connect(10L, 1L);
+        bookEventHub.connect(10L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> bookEventHub.connect(10L, 1L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(bookEventHub.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트는 해당 가계부의 연결에만 전송")
+    void onBookChange_deliversToBookOnly() throws InterruptedException {
+        // given
+        RecordingEmitter sameBook = (RecordingEmitter) bookEventHub.connect(10L, 1L);
+        RecordingEmitter otherBook = (RecordingEmitter) bookEventHub.connect(20L, 2L);
+
+        // when
+        bookEventHub.onBookChange(BookChangeEvent.of(10L, BookChangeType.TRANSACTION_CREATED, 100L, 1L, 5L));
+
+        // then
+        assertThat(sameBook.next()).contains("event:connected");
+        assertThat(sameBook.next()).contains("event:TRANSACTION_CREATED").contains("targetId=100");
+        assertThat(otherBook.next()).contains("event:connected");
+        assertThat(otherBook.events).isEmpty();
+    }
+
+    /**
+     * 전송된 이벤트를 문자열로 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        // 전송은 가상 스레드에서 일어나므로 도착할 때까지 대기
+        private String next() throws InterruptedException {
+            return events.poll(5, TimeUnit.SECONDS);
+        }
+    }
+}
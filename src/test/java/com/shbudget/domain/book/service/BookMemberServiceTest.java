@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +39,9 @@ class BookMemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private BookAccessChecker bookAccessChecker;
+
     @InjectMocks
     private BookMemberService bookMemberService;
 
@@ -65,6 +69,7 @@ class BookMemberServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.memberId()).isEqualTo(memberId);
         verify(bookMemberRepository).save(any(BookMember.class));
+        verify(bookAccessChecker).evict(memberId);
     }
 
     @Test
@@ -130,7 +135,6 @@ class BookMemberServiceTest {
         BookMember owner = BookMember.createOwner(bookId, memberId);
         BookMember member = BookMember.createMember(bookId, 2L);
 
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(true);
         given(bookMemberRepository.findAllByBookId(bookId)).willReturn(List.of(owner, member));
 
         // when
@@ -146,7 +150,7 @@ class BookMemberServiceTest {
         // given
         Long bookId = 1L;
         Long memberId = 999L;
-        given(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).willReturn(false);
+        willThrow(new CustomException(ErrorCode.NOT_BOOK_MEMBER)).given(bookAccessChecker).validateBookMember(bookId, memberId);
 
         // when & then
         assertThatThrownBy(() -> bookMemberService.getBookMembers(bookId, memberId))
@@ -216,6 +220,7 @@ class BookMemberServiceTest {
 
         // then
         verify(bookMemberRepository).delete(target);
+        verify(bookAccessChecker).evict(targetMemberId);
     }
 
     @Test
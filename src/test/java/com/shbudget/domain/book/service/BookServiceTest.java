@@ -16,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +34,9 @@ class BookServiceTest {
     @Mock
     private BookMemberRepository bookMemberRepository;
 
+    @Mock
+    private BookAccessChecker bookAccessChecker;
+
     @InjectMocks
     private BookService bookService;
 
@@ -169,6 +173,8 @@ class BookServiceTest {
         given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
         given(bookMemberRepository.findByBookIdAndMemberId(bookId, memberId))
                 .willReturn(Optional.of(bookMember));
+        given(bookMemberRepository.findAllByBookId(bookId))
+                .willReturn(List.of(bookMember, BookMember.createMember(bookId, 2L)));
 
         // when
         bookService.deleteBook(bookId, memberId);
@@ -176,6 +182,7 @@ class BookServiceTest {
         // then
         verify(bookMemberRepository).deleteAllByBookId(bookId);
         verify(bookRepository).delete(book);
+        verify(bookAccessChecker).evictAll(List.of(memberId, 2L));
     }
 
     @Test
@@ -1,6 +1,6 @@
 package com.shbudget.domain.category.service;
 
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
 import com.shbudget.domain.category.dto.request.CategoryCreateRequest;
 import com.shbudget.domain.category.dto.request.CategoryUpdateRequest;
 import com.shbudget.domain.category.dto.response.CategoryResponse;
@@ -32,7 +32,7 @@ class CategoryServiceTest {
     private CategoryRepository categoryRepository;
 
     @Mock
-    private BookMemberRepository bookMemberRepository;
+    private BookAccessChecker bookAccessChecker;
 
     @Mock
     private TransactionRepository transactionRepository;
@@ -55,7 +55,6 @@ class CategoryServiceTest {
 
         Category category = Category.create(bookId, "식비", "#FF5733", "food");
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.existsByBookIdAndName(bookId, "식비")).thenReturn(false);
         when(categoryRepository.save(any(Category.class))).thenReturn(category);
 
@@ -82,7 +81,6 @@ class CategoryServiceTest {
                 "food"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.existsByBookIdAndName(bookId, "식비")).thenReturn(true);
 
         // when & then
@@ -101,7 +99,6 @@ class CategoryServiceTest {
         Category category1 = Category.create(bookId, "식비", "#FF5733", "food");
         Category category2 = Category.create(bookId, "교통", "#3498DB", "transport");
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.findAllByBookIdOrderByCreatedAtAsc(bookId))
                 .thenReturn(List.of(category1, category2));
 
@@ -124,7 +121,6 @@ class CategoryServiceTest {
 
         Category category = Category.create(bookId, "식비", "#FF5733", "food");
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.findByIdAndBookId(categoryId, bookId))
                 .thenReturn(Optional.of(category));
 
@@ -151,7 +147,6 @@ class CategoryServiceTest {
                 "restaurant"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.findByIdAndBookId(categoryId, bookId))
                 .thenReturn(Optional.of(category));
         when(categoryRepository.existsByBookIdAndName(bookId, "외식비")).thenReturn(false);
@@ -180,7 +175,6 @@ class CategoryServiceTest {
                 "transport"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.findByIdAndBookId(categoryId, bookId))
                 .thenReturn(Optional.of(category));
         when(categoryRepository.existsByBookIdAndName(bookId, "교통비")).thenReturn(true);
@@ -201,7 +195,6 @@ class CategoryServiceTest {
 
         Category category = Category.create(bookId, "식비", "#FF5733", "food");
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.findByIdAndBookId(categoryId, bookId))
                 .thenReturn(Optional.of(category));
         when(transactionRepository.existsByCategoryId(categoryId)).thenReturn(false);
@@ -223,7 +216,6 @@ class CategoryServiceTest {
 
         Category category = Category.create(bookId, "식비", "#FF5733", "food");
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.findByIdAndBookId(categoryId, bookId))
                 .thenReturn(Optional.of(category));
         when(transactionRepository.existsByCategoryId(categoryId)).thenReturn(true);
@@ -247,7 +239,7 @@ class CategoryServiceTest {
                 "food"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(false);
+        doThrow(new CustomException(ErrorCode.NOT_BOOK_MEMBER)).when(bookAccessChecker).validateBookMember(bookId, memberId);
 
         // when & then
         assertThatThrownBy(() -> categoryService.createCategory(memberId, request))
@@ -263,7 +255,6 @@ class CategoryServiceTest {
         Long bookId = 1L;
         Long categoryId = 999L;
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(categoryRepository.findByIdAndBookId(categoryId, bookId))
                 .thenReturn(Optional.empty());
 
@@ -0,0 +1,136 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    @Mock
+    private PushSubscriptionRegistry pushSubscriptionRegistry;
+
+    @Mock
+    private PushDispatcher pushDispatcher;
+
+    private NotificationCoalescer coalescer;
+
+    private final Long recipientId = 2L;
+    private final Long bookId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new NotificationCoalescer(pushSubscriptionRegistry, pushDispatcher, 5000, 500);
+    }
+
+    private PushTarget subscription(Long memberId, String endpoint) {
+        return new PushTarget(1L, memberId, endpoint, "p256dh", "auth");
+    }
+
+    private BookNotification transaction(String nickname, long amount) {
+        return transaction(nickname, "지출", amount);
+    }
+
+    private BookNotification transaction(String nickname, String typeLabel, long amount) {
+        return BookNotification.transaction(bookId, 1L, nickname, "가계부 알림",
+                nickname + "님이 " + typeLabel + " " + String.format("%,d", amount) + "원을 등록했습니다.", typeLabel, amount);
+    }
+
+    @Test
+    @DisplayName("window 내 거래 알림은 한 건의 다이제스트로 발송")
+    void flush_digest() {
+        // given
+        PushTarget device = subscription(recipientId, "https://fcm.googleapis.com/1");
+        given(pushSubscriptionRegistry.getSubscriptions(List.of(recipientId))).willReturn(Map.of(recipientId, List.of(device)));
+        coalescer.add(recipientId, transaction("민지", 12000));
+        coalescer.add(recipientId, transaction("민지", 20000));
+        coalescer.add(recipientId, transaction("민지", 100000));
+
+        // when
+        coalescer.flushDue(System.currentTimeMillis() + 5000);
+
+        // then
+        verify(pushDispatcher, times(1)).dispatch(device, "가계부 알림", "민지님이 지출 3건, 총 132,000원을 등록했습니다.");
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("거래 유형이 섞이면 유형별로 합산 (수입과 지출을 더하지 않음)")
+    void flush_digestByType() {
+        // given
+        PushTarget device = subscription(recipientId, "https://fcm.googleapis.com/1");
+        given(pushSubscriptionRegistry.getSubscriptions(List.of(recipientId))).willReturn(Map.of(recipientId, List.of(device)));
+        coalescer.add(recipientId, transaction("민지", "지출", 12000));
+        coalescer.add(recipientId, transaction("민지", "수입", 3000000));
+        coalescer.add(recipientId, transaction("민지", "지출", 20000));
+
+        // when
+        coalescer.flushDue(System.currentTimeMillis() + 5000);
+
+        // then
+        verify(pushDispatcher).dispatch(device, "가계부 알림",
+                "민지님이 거래 3건(지출 2건 32,000원, 수입 1건 3,000,000원)을 등록했습니다.");
+    }
+
+    @Test
+    @DisplayName("알림이 한 건이면 원래 메시지 그대로 발송")
+    void flush_single() {
+        // given
+        PushTarget device = subscription(recipientId, "https://fcm.googleapis.com/1");
+        given(pushSubscriptionRegistry.getSubscriptions(List.of(recipientId))).willReturn(Map.of(recipientId, List.of(device)));
+        coalescer.add(recipientId, transaction("민지", 12000));
+
+        // when
+        coalescer.flushDue(System.currentTimeMillis() + 5000);
+
+        // then
+        verify(pushDispatcher).dispatch(device, "가계부 알림", "민지님이 지출 12,000원을 등록했습니다.");
+    }
+
+    @Test
+    @DisplayName("window가 지나지 않은 알림은 보류")
+    void flush_notDue() {
+        // given
+        coalescer.add(recipientId, transaction("민지", 12000));
+
+        // when
+        coalescer.flushDue(System.currentTimeMillis());
+
+        // then
+        verifyNoInteractions(pushSubscriptionRegistry);
+        verify(pushDispatcher, never()).dispatch(any(PushTarget.class), anyString(), anyString());
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거래 외 알림이 섞이면 건수만 묶어서 발송")
+    void flush_mixed() {
+        // given
+        PushTarget device = subscription(recipientId, "https://fcm.googleapis.com/1");
+        given(pushSubscriptionRegistry.getSubscriptions(List.of(recipientId))).willReturn(Map.of(recipientId, List.of(device)));
+        coalescer.add(recipientId, transaction("민지", 12000));
+        coalescer.add(recipientId, BookNotification.of(bookId, 3L, "철수", "가계부 알림", "철수님이 자산 '현금'을(를) 추가했습니다."));
+
+        // when
+        coalescer.flushDue(System.currentTimeMillis() + 5000);
+
+        // then
+        verify(pushDispatcher).dispatch(eq(device), eq("가계부 알림"), eq("민지님 외 1명이 가계부에 새 소식 2건을 남겼습니다."));
+    }
+}
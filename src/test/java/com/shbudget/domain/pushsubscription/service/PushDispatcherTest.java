@@ -0,0 +1,197 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import com.shbudget.domain.pushsubscription.entity.PushDeadLetter;
+import com.shbudget.domain.pushsubscription.repository.PushDeadLetterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PushDispatcherTest {
+
+    @Mock
+    private WebPushService webPushService;
+
+    @Mock
+    private PushDeadLetterRepository pushDeadLetterRepository;
+
+    // 최대 3회, 10ms부터 백오프
+    private final PushRetryPolicy retryPolicy = new PushRetryPolicy(3, 10, 50, 100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PushDispatcher pushDispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (pushDispatcher != null) {
+            pushDispatcher.shutdown();
+        }
+    }
+
+    private PushMessage message(String endpoint) {
+        return new PushMessage(1L, 1L, endpoint, "p256dh", "auth", "제목", "내용");
+    }
+
+    @Test
+    @DisplayName("큐에 넣은 메시지는 발송 스레드에서 발송")
+    void dispatch_success() {
+        // given
+        pushDispatcher = new PushDispatcher(webPushService, pushDeadLetterRepository, retryPolicy, meterRegistry, 10, 2, 1, 1);
+        PushMessage message = message("https://fcm.googleapis.com/fcm/send/abc");
+        EncryptedPush encrypted = new EncryptedPush(message, new byte[]{1});
+        given(webPushService.encrypt(message)).willReturn(encrypted);
+
+        // when
+        boolean accepted = pushDispatcher.dispatch(message);
+
+        // then
+        assertThat(accepted).isTrue();
+        verify(webPushService, timeout(1000)).deliver(encrypted);
+    }
+
+    @Test
+    @DisplayName("발송이 밀려 큐가 가득 차면 버림")
+    void dispatch_queueFull() throws Exception {
+        // given
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(webPushService.encrypt(any()))
+                .willAnswer(invocation -> new EncryptedPush(invocation.getArgument(0), new byte[]{1}));
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(webPushService).deliver(any());
+        pushDispatcher = new PushDispatcher(webPushService, pushDeadLetterRepository, retryPolicy, meterRegistry, 1, 1, 1, 1);
+
+        pushDispatcher.dispatch(message("https://fcm.googleapis.com/1"));   // 발송 중
+        sending.await(5, TimeUnit.SECONDS);
+        pushDispatcher.dispatch(message("https://fcm.googleapis.com/2"));   // 대기열
+
+        try {
+            // when
+            boolean accepted = pushDispatcher.dispatch(message("https://fcm.googleapis.com/3"));
+
+            // then
+            assertThat(accepted).isFalse();
+            assertThat(pushDispatcher.getStats().dropped()).isEqualTo(1);
+            assertThat(pushDispatcher.getStats().queueDepth()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("암호화에 실패하면 전송하지 않음")
+    void dispatch_encryptFailed() {
+        // given
+        pushDispatcher = new PushDispatcher(webPushService, pushDeadLetterRepository, retryPolicy, meterRegistry, 10, 2, 1, 1);
+        PushMessage message = message("https://fcm.googleapis.com/fcm/send/abc");
+        given(webPushService.encrypt(message)).willReturn(null);
+
+        // when
+        pushDispatcher.dispatch(message);
+
+        // then
+        verify(webPushService, timeout(1000)).encrypt(message);
+        verify(webPushService, after(200).never()).deliver(any());
+    }
+
+    @Test
+    @DisplayName("일시적 실패는 재시도 후 성공")
+    void dispatch_retryThenDelivered() {
+        // given
+        pushDispatcher = new PushDispatcher(webPushService, pushDeadLetterRepository, retryPolicy, meterRegistry, 10, 2, 1, 1);
+        PushMessage message = message("https://fcm.googleapis.com/fcm/send/abc");
+        EncryptedPush encrypted = new EncryptedPush(message, new byte[]{1});
+        given(webPushService.encrypt(message)).willReturn(encrypted);
+        given(webPushService.deliver(encrypted))
+                .willReturn(DeliveryResult.of(503, 0))
+                .willReturn(DeliveryResult.delivered(201));
+
+        // when
+        pushDispatcher.dispatch(message);
+
+        // then
+        verify(webPushService, timeout(2000).times(2)).deliver(encrypted);
+        verify(pushDeadLetterRepository, after(200).never()).save(any());
+        assertThat(pushDispatcher.getStats().retried()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수를 넘기면 dead letter 저장")
+    void dispatch_maxAttemptsDeadLettered() {
+        // given
+        pushDispatcher = new PushDispatcher(webPushService, pushDeadLetterRepository, retryPolicy, meterRegistry, 10, 2, 1, 1);
+        PushMessage message = message("https://fcm.googleapis.com/fcm/send/abc");
+        EncryptedPush encrypted = new EncryptedPush(message, new byte[]{1});
+        given(webPushService.encrypt(message)).willReturn(encrypted);
+        given(webPushService.deliver(encrypted)).willReturn(DeliveryResult.of(429, 0));
+
+        // when
+        pushDispatcher.dispatch(message);
+
+        // then
+        ArgumentCaptor<PushDeadLetter> captor = ArgumentCaptor.forClass(PushDeadLetter.class);
+        verify(pushDeadLetterRepository, timeout(2000)).save(captor.capture());
+        verify(webPushService, times(3)).deliver(encrypted);
+        assertThat(captor.getValue().getAttempts()).isEqualTo(3);
+        assertThat(captor.getValue().getLastStatus()).isEqualTo(429);
+        assertThat(captor.getValue().getReason()).isEqualTo("MAX_ATTEMPTS");
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 실패는 바로 dead letter 저장")
+    void dispatch_rejectedDeadLettered() {
+        // given
+        pushDispatcher = new PushDispatcher(webPushService, pushDeadLetterRepository, retryPolicy, meterRegistry, 10, 2, 1, 1);
+        PushMessage message = message("https://fcm.googleapis.com/fcm/send/abc");
+        EncryptedPush encrypted = new EncryptedPush(message, new byte[]{1});
+        given(webPushService.encrypt(message)).willReturn(encrypted);
+        given(webPushService.deliver(encrypted)).willReturn(DeliveryResult.of(400, 0));
+
+        // when
+        pushDispatcher.dispatch(message);
+
+        // then
+        verify(pushDeadLetterRepository, timeout(1000)).save(any(PushDeadLetter.class));
+        verify(webPushService, times(1)).deliver(encrypted);
+    }
+
+    @Test
+    @DisplayName("Retry-After가 백오프보다 길면 Retry-After를 따름")
+    void retryPolicy_retryAfter() {
+        // when & then
+        assertThat(retryPolicy.nextDelayMillis(1, 5000)).isEqualTo(5000);
+        assertThat(retryPolicy.nextDelayMillis(10, 0)).isBetween(25L, 50L);
+        assertThat(retryPolicy.canRetry(2)).isTrue();
+        assertThat(retryPolicy.canRetry(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("origin은 scheme과 host로 구분")
+    void origin() {
+        // when & then
+        assertThat(message("https://updates.push.services.mozilla.com/wpush/v2/abc").origin())
+                .isEqualTo("https://updates.push.services.mozilla.com");
+    }
+}
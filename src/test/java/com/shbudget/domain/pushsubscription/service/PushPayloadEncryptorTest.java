@@ -0,0 +1,83 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyAgreement;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushPayloadEncryptorTest {
+
+    @Test
+    @DisplayName("암호화한 페이로드를 구독자 키로 복호화하면 원문과 일치 (RFC 8291)")
+    void encrypt_decryptable() throws Exception {
+        // given
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(PushPayloadEncryptor.p256());
+        KeyPair subscriber = generator.generateKeyPair();
+        byte[] uaPublic = PushPayloadEncryptor.encodePoint((ECPublicKey) subscriber.getPublic());
+        byte[] authSecret = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        byte[] plaintext = "{\"title\":\"가계부 알림\",\"body\":\"테스트\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] encrypted = PushPayloadEncryptor.encrypt(
+                plaintext,
+                Base64.getUrlEncoder().withoutPadding().encodeToString(uaPublic),
+                Base64.getUrlEncoder().withoutPadding().encodeToString(authSecret)
+        );
+
+        // then - 헤더 파싱
+        ByteBuffer buffer = ByteBuffer.wrap(encrypted);
+        byte[] salt = new byte[16];
+        buffer.get(salt);
+        assertThat(buffer.getInt()).isEqualTo(4096);
+        byte[] asPublic = new byte[buffer.get()];
+        buffer.get(asPublic);
+        byte[] ciphertext = new byte[buffer.remaining()];
+        buffer.get(ciphertext);
+
+        // then - 수신 측 키 유도 후 복호화
+        KeyAgreement agreement = KeyAgreement.getInstance("ECDH");
+        agreement.init(subscriber.getPrivate());
+        agreement.doPhase(PushPayloadEncryptor.decodePoint(asPublic), true);
+        byte[] ecdhSecret = agreement.generateSecret();
+
+        byte[] keyInfo = ByteBuffer.allocate(14 + 65 + 65)
+                .put("WebPush: info\0".getBytes(StandardCharsets.US_ASCII))
+                .put(uaPublic)
+                .put(asPublic)
+                .array();
+        byte[] ikm = hkdf(authSecret, ecdhSecret, keyInfo, 32);
+        byte[] cek = hkdf(salt, ikm, "Content-Encoding: aes128gcm\0".getBytes(StandardCharsets.US_ASCII), 16);
+        byte[] nonce = hkdf(salt, ikm, "Content-Encoding: nonce\0".getBytes(StandardCharsets.US_ASCII), 12);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(cek, "AES"), new GCMParameterSpec(128, nonce));
+        byte[] decrypted = cipher.doFinal(ciphertext);
+
+        assertThat(decrypted[decrypted.length - 1]).isEqualTo((byte) 0x02);
+        assertThat(Arrays.copyOf(decrypted, decrypted.length - 1)).isEqualTo(plaintext);
+    }
+
+    private byte[] hkdf(byte[] salt, byte[] ikm, byte[] info, int length) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(salt, "HmacSHA256"));
+        byte[] prk = mac.doFinal(ikm);
+        mac.init(new SecretKeySpec(prk, "HmacSHA256"));
+        mac.update(info);
+        mac.update((byte) 0x01);
+        return Arrays.copyOf(mac.doFinal(), length);
+    }
+}
@@ -0,0 +1,152 @@
+package com.shbudget.domain.pushsubscription.service;
+
+import com.shbudget.domain.pushsubscription.entity.PushSubscription;
+import com.shbudget.domain.pushsubscription.repository.PushSubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PushSubscriptionRegistryTest {
+
+    @Mock
+    private PushSubscriptionRepository pushSubscriptionRepository;
+
+    private PushSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PushSubscriptionRegistry(pushSubscriptionRepository, 300, 30, 100000);
+    }
+
+    private PushSubscription subscription(Long id, Long memberId, String endpoint) {
+        return PushSubscription.builder()
+                .id(id)
+                .memberId(memberId)
+                .endpoint(endpoint)
+                .p256dh("p256dh")
+                .auth("auth")
+                .build();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 회원만 한 번에 조회하고 이후에는 DB를 조회하지 않음")
+    void getSubscriptions_loadOnce() {
+        // given
+        given(pushSubscriptionRepository.findAllByMemberIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(subscription(10L, 1L, "https://fcm.googleapis.com/a")));
+
+        // when
+        registry.getSubscriptions(List.of(1L, 2L));
+        Map<Long, List<PushTarget>> result = registry.getSubscriptions(List.of(1L, 2L));
+
+        // then
+        verify(pushSubscriptionRepository, times(1)).findAllByMemberIdIn(anyList());
+        assertThat(result.get(1L)).extracting(PushTarget::subscriptionId).containsExactly(10L);
+        assertThat(result.get(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독 등록/해제는 캐시에 바로 반영")
+    void putAndRemove_writeThrough() {
+        // given
+        given(pushSubscriptionRepository.findAllByMemberIdIn(List.of(1L)))
+                .willReturn(List.of(subscription(10L, 1L, "https://fcm.googleapis.com/a")));
+        registry.getSubscriptions(1L);
+
+        // when
+        registry.put(subscription(11L, 1L, "https://fcm.googleapis.com/b"));
+        registry.remove(1L, "https://fcm.googleapis.com/a");
+
+        // then
+        assertThat(registry.getSubscriptions(1L))
+                .extracting(PushTarget::endpoint)
+                .containsExactly("https://fcm.googleapis.com/b");
+        verify(pushSubscriptionRepository, times(1)).findAllByMemberIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("만료 응답으로 삭제된 구독은 캐시에서도 제거")
+    void removeById_expired() {
+        // given
+        given(pushSubscriptionRepository.findAllByMemberIdIn(List.of(1L))).willReturn(List.of(
+                subscription(10L, 1L, "https://fcm.googleapis.com/a"),
+                subscription(11L, 1L, "https://fcm.googleapis.com/b")
+        ));
+        registry.getSubscriptions(1L);
+
+        // when
+        registry.removeById(1L, 10L);
+
+        // then
+        assertThat(registry.getSubscriptions(1L))
+                .extracting(PushTarget::subscriptionId)
+                .containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("구독 없음은 짧은 TTL로만 캐시 - 만료 후 다시 조회")
+    void getSubscriptions_emptyShortTtl() {
+        // given
+        registry = new PushSubscriptionRegistry(pushSubscriptionRepository, 300, 0, 100000);
+        given(pushSubscriptionRepository.findAllByMemberIdIn(List.of(1L)))
+                .willReturn(List.of())
+                .willReturn(List.of(subscription(10L, 1L, "https://fcm.googleapis.com/a")));
+
+        // when
+        List<PushTarget> first = registry.getSubscriptions(1L);
+        List<PushTarget> second = registry.getSubscriptions(1L);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).extracting(PushTarget::subscriptionId).containsExactly(10L);
+        verify(pushSubscriptionRepository, times(2)).findAllByMemberIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회해 다른 인스턴스의 변경을 반영")
+    void getSubscriptions_ttlExpired() {
+        // given
+        registry = new PushSubscriptionRegistry(pushSubscriptionRepository, 0, 0, 100000);
+        given(pushSubscriptionRepository.findAllByMemberIdIn(List.of(1L)))
+                .willReturn(List.of(subscription(10L, 1L, "https://fcm.googleapis.com/a")))
+                .willReturn(List.of());
+
+        // when
+        registry.getSubscriptions(1L);
+        List<PushTarget> result = registry.getSubscriptions(1L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(pushSubscriptionRepository, times(2)).findAllByMemberIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("항목 수 상한에 닿으면 캐시를 비우고 다시 적재")
+    void getSubscriptions_maxEntries() {
+        // given
+        registry = new PushSubscriptionRegistry(pushSubscriptionRepository, 300, 30, 1);
+        given(pushSubscriptionRepository.findAllByMemberIdIn(anyList())).willReturn(List.of());
+
+        // when
+        registry.getSubscriptions(1L);
+        registry.getSubscriptions(2L);
+        registry.getSubscriptions(1L);
+
+        // then
+        verify(pushSubscriptionRepository, times(2)).findAllByMemberIdIn(List.of(1L));
+        verify(pushSubscriptionRepository, times(1)).findAllByMemberIdIn(List.of(2L));
+    }
+}
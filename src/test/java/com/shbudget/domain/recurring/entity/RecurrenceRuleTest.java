@@ -0,0 +1,100 @@
+package com.shbudget.domain.recurring.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    private final LocalDate anchor = LocalDate.of(2026, 1, 5);
+
+    @Test
+    @DisplayName("격주 반복은 시작일이 속한 주부터 2주 간격")
+    void everyWeeks_biweekly() {
+        // given
+        RecurrenceRule rule = RecurrenceRule.everyWeeks(2, DayOfWeek.MONDAY);
+
+        // when
+        var occurrences = rule.occurrencesBetween(anchor, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 28));
+
+        // then
+        assertThat(occurrences).containsExactly(
+                LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 19),
+                LocalDate.of(2026, 2, 2), LocalDate.of(2026, 2, 16));
+    }
+
+    @Test
+    @DisplayName("매월 31일은 짧은 달의 마지막 날로 맞춤")
+    void monthly_clampedToMonthEnd() {
+        // given
+        RecurrenceRule rule = RecurrenceRule.monthly(31);
+
+        // when
+        var occurrences = rule.occurrencesBetween(anchor, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 4, 30));
+
+        // then
+        assertThat(occurrences).containsExactly(
+                LocalDate.of(2026, 1, 31), LocalDate.of(2026, 2, 28),
+                LocalDate.of(2026, 3, 31), LocalDate.of(2026, 4, 30));
+    }
+
+    @Test
+    @DisplayName("N개월 간격은 시작월 기준으로 센다")
+    void everyMonths_interval() {
+        // given
+        RecurrenceRule rule = RecurrenceRule.everyMonths(3, 15);
+
+        // when
+        LocalDate next = rule.nextAfter(anchor, LocalDate.of(2026, 1, 15));
+
+        // then
+        assertThat(next).isEqualTo(LocalDate.of(2026, 4, 15));
+    }
+
+    @Test
+    @DisplayName("말일 영업일은 주말이면 직전 금요일")
+    void lastBusinessDay() {
+        // given
+        RecurrenceRule rule = RecurrenceRule.lastBusinessDay();
+
+        // when
+        var occurrences = rule.occurrencesBetween(anchor, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 5, 31));
+
+        // then
+        assertThat(occurrences).containsExactly(
+                LocalDate.of(2026, 1, 30), LocalDate.of(2026, 2, 27), LocalDate.of(2026, 3, 31),
+                LocalDate.of(2026, 4, 30), LocalDate.of(2026, 5, 29));
+    }
+
+    @Test
+    @DisplayName("RRULE 문자열을 파싱하고 같은 규칙으로 직렬화")
+    void parse_roundTrip() {
+        // when
+        RecurrenceRule lastFriday = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=-1FR");
+        RecurrenceRule parsed = RecurrenceRule.parse(RecurrenceRule.lastBusinessDay().toString());
+
+        // then
+        assertThat(lastFriday.firstOnOrAfter(anchor, anchor)).isEqualTo(LocalDate.of(2026, 1, 30));
+        assertThat(parsed).isEqualTo(RecurrenceRule.lastBusinessDay());
+        assertThat(RecurrenceRule.parse("RRULE:FREQ=WEEKLY;BYDAY=TU,TH").nextAfter(anchor, LocalDate.of(2026, 1, 8)))
+                .isEqualTo(LocalDate.of(2026, 1, 13));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 규칙은 거부")
+    void parse_invalid() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;BYMONTHDAY=3"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=0;BYMONTHDAY=3"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=X"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
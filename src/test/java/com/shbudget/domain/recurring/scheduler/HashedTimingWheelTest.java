@@ -0,0 +1,50 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목만 꺼낸다")
+    void advance_expiredOnly() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(1000, 8, 0);
+        wheel.add("a", 1500);
+        wheel.add("b", 3000);
+
+        // when & then
+        assertThat(wheel.advance(1999)).containsExactly("a");
+        assertThat(wheel.advance(2999)).isEmpty();
+        assertThat(wheel.advance(3000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 항목은 해당 바퀴에서 만료")
+    void advance_beyondOneRound() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(1000, 8, 0);
+        wheel.add("far", 20_000);
+
+        // when & then
+        assertThat(wheel.advance(8_000)).isEmpty();
+        assertThat(wheel.advance(19_999)).isEmpty();
+        assertThat(wheel.advance(20_000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 advance에서 만료")
+    void add_pastDeadline() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(1000, 8, 10_000);
+
+        // when
+        wheel.add("late", 0);
+
+        // then
+        assertThat(wheel.advance(10_000)).containsExactly("late");
+    }
+}
@@ -0,0 +1,111 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
+import com.shbudget.domain.recurring.service.RecurringExecutionService;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import com.shbudget.global.lock.LeaseLockManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringDispatcherTest {
+
+    @Mock
+    private RecurringTransactionRepository recurringRepository;
+
+    @Mock
+    private RecurringExecutionService recurringExecutionService;
+
+    @Mock
+    private RecurringExecutionEngine recurringExecutionEngine;
+
+    @Mock
+    private LeaseLockManager leaseLockManager;
+
+    private RecurringDispatcher dispatcher;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 2, 5, 8, 58);
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new RecurringDispatcher(recurringRepository, recurringExecutionService,
+                recurringExecutionEngine, leaseLockManager, Clock.systemDefaultZone(), true, 300, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private RecurringTransaction recurring(Long id, LocalDateTime nextRunAt) {
+        return RecurringTransaction.builder()
+                .id(id)
+                .bookId(10L)
+                .type(TransactionType.EXPENSE)
+                .assetId(100L)
+                .amount(1000L)
+                .dayOfMonth(5)
+                .nextRunAt(nextRunAt)
+                .createdBy(1L)
+                .active(true)
+                .build();
+    }
+
+    private void givenLockAcquired() throws Throwable {
+        given(leaseLockManager.runLocked(eq("recurring.dispatch"), eq(Duration.ofSeconds(600)),
+                eq(Duration.ofSeconds(300)), any()))
+                .willAnswer(invocation -> invocation.<LeaseLockManager.LockedTask>getArgument(3).run());
+    }
+
+    @Test
+    @DisplayName("지난 실행을 처리한 뒤 다음 window 예정 건만 휠에 한 번씩 적재")
+    void refill_overdueThenWindow() throws Throwable {
+        // given
+        givenLockAcquired();
+        given(recurringExecutionService.initializeSchedules(now, 1000)).willReturn(0);
+        given(recurringExecutionEngine.executeDue(now))
+                .willReturn(new RecurringExecutionReport(now, 0, 0, 0, 0, 0, 0L, List.of()));
+        given(recurringRepository.findScheduledBetween(now, now.plusSeconds(300), Limit.of(100)))
+                .willReturn(List.of(recurring(1L, now.plusMinutes(2)), recurring(2L, now.plusMinutes(4))));
+
+        // when
+        dispatcher.refill(now);
+        dispatcher.refill(now);
+
+        // then
+        assertThat(dispatcher.getScheduledCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("락을 얻지 못하면 적재하지 않음")
+    void refill_lockNotAcquired() throws Throwable {
+        // given
+        given(leaseLockManager.runLocked(eq("recurring.dispatch"), any(), any(), any())).willReturn(null);
+
+        // when
+        dispatcher.refill(now);
+
+        // then
+        verify(recurringExecutionEngine, never()).executeDue(any());
+        assertThat(dispatcher.getScheduledCount()).isZero();
+    }
+}
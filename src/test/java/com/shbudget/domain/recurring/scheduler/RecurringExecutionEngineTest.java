@@ -0,0 +1,220 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
+import com.shbudget.domain.recurring.service.RecurringExecutionService;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringExecutionEngineTest {
+
+    @Mock
+    private RecurringTransactionRepository recurringRepository;
+
+    @Mock
+    private RecurringExecutionService recurringExecutionService;
+
+    private RecurringExecutionEngine engine;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 2, 5, 0, 0, 1);
+    private final LocalDateTime keysetStart = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        engine = new RecurringExecutionEngine(recurringRepository, recurringExecutionService,
+                Clock.systemDefaultZone(), new SimpleMeterRegistry(), 2, 4, 10, 10, 3, 300);
+    }
+
+    private RecurringTransaction recurring(Long id, Long bookId, int day, Long amount) {
+        return RecurringTransaction.builder()
+                .id(id)
+                .bookId(bookId)
+                .type(TransactionType.EXPENSE)
+                .assetId(bookId * 100)
+                .amount(amount)
+                .dayOfMonth(day)
+                .nextRunAt(LocalDateTime.of(2026, 2, day, 0, 0))
+                .memo("반복 " + id)
+                .createdBy(1L)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("keyset 페이지를 끝까지 읽고 같은 가계부는 예정 순서대로 실행")
+    void executeDue_pagedAndOrderedPerBook() {
+        // given
+        RecurringTransaction second = recurring(2L, 20L, 2, 2000L);
+        RecurringTransaction fourth = recurring(4L, 10L, 4, 4000L);
+        given(recurringRepository.findDue(now, keysetStart, 0L, Limit.of(2)))
+                .willReturn(List.of(recurring(1L, 10L, 1, 1000L), second))
+                .willReturn(List.of());
+        given(recurringRepository.findDue(now, second.getNextRunAt(), 2L, Limit.of(2)))
+                .willReturn(List.of(recurring(3L, 10L, 3, 3000L), fourth));
+        given(recurringRepository.findDue(now, fourth.getNextRunAt(), 4L, Limit.of(2)))
+                .willReturn(List.of());
+
+        Map<Long, List<Long>> executedAmountsByBook = new ConcurrentHashMap<>();
+        willAnswer(invocation -> {
+            RecurringTransaction recurring = invocation.getArgument(0);
+            executedAmountsByBook.computeIfAbsent(recurring.getBookId(), id -> new CopyOnWriteArrayList<>())
+                    .add(recurring.getAmount());
+            return true;
+        }).given(recurringExecutionService).execute(any(RecurringTransaction.class));
+
+        // when
+        RecurringExecutionReport report = engine.executeDue(now);
+
+        // then
+        assertThat(report.total()).isEqualTo(4);
+        assertThat(report.succeeded()).isEqualTo(4);
+        assertThat(report.books()).isEqualTo(2);
+        assertThat(executedAmountsByBook.get(10L)).containsExactly(1000L, 3000L, 4000L);
+        assertThat(executedAmountsByBook.get(20L)).containsExactly(2000L);
+        // 두 번째 회차에서 더 밀린 발생일이 없는지 다시 확인
+        verify(recurringRepository, times(2)).findDue(now, keysetStart, 0L, Limit.of(2));
+    }
+
+    @Test
+    @DisplayName("한 건이 실패해도 나머지는 실행하고 재시도해도 같은 오류인 건은 SKIPPED로 넘김")
+    void executeDue_failureIsolated() {
+        // given
+        RecurringTransaction failing = recurring(1L, 10L, 1, 1000L);
+        RecurringTransaction next = recurring(2L, 10L, 2, 2000L);
+        given(recurringRepository.findDue(now, keysetStart, 0L, Limit.of(2)))
+                .willReturn(List.of(failing, next))
+                .willReturn(List.of());
+        given(recurringRepository.findDue(now, next.getNextRunAt(), 2L, Limit.of(2)))
+                .willReturn(List.of());
+        willThrow(new CustomException(ErrorCode.INSUFFICIENT_BALANCE))
+                .given(recurringExecutionService).execute(failing);
+        willReturn(true).given(recurringExecutionService).execute(next);
+
+        // when
+        RecurringExecutionReport report = engine.executeDue(now);
+
+        // then
+        assertThat(report.succeeded()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.failedIds()).containsExactly(1L);
+        verify(recurringExecutionService).giveUp(failing, ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+        verify(recurringExecutionService, never()).retryLater(any(), anyInt(), any());
+        verify(recurringExecutionService, never()).skip(any());
+    }
+
+    @Test
+    @DisplayName("일시적 오류는 다음 실행 시각을 그대로 두고 실패 횟수에 따라 간격을 늘려 재시도")
+    void execute_transientFailureRetriesWithBackoff() {
+        // given
+        RecurringTransaction first = recurring(1L, 10L, 1, 1000L);
+        RecurringTransaction second = RecurringTransaction.builder()
+                .id(2L).bookId(20L).type(TransactionType.EXPENSE).assetId(2000L).amount(2000L)
+                .nextRunAt(LocalDateTime.of(2026, 2, 2, 0, 0)).failedAttempts(1).createdBy(1L).active(true)
+                .build();
+        willThrow(new CannotAcquireLockException("lock wait timeout"))
+                .given(recurringExecutionService).execute(any(RecurringTransaction.class));
+
+        // when
+        RecurringExecutionReport report = engine.execute(List.of(first, second));
+
+        // then
+        assertThat(report.failed()).isEqualTo(2);
+        verify(recurringExecutionService).retryLater(eq(first), eq(1), any(LocalDateTime.class));
+        verify(recurringExecutionService).retryLater(eq(second), eq(2), any(LocalDateTime.class));
+        verify(recurringExecutionService, never()).giveUp(any(), any());
+        verify(recurringExecutionService, never()).skip(any());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 기본 간격부터 두 배씩 늘어남")
+    void executeDue_backoffDoubles() {
+        // given
+        RecurringTransaction failing = RecurringTransaction.builder()
+                .id(1L).bookId(10L).type(TransactionType.EXPENSE).assetId(1000L).amount(1000L)
+                .nextRunAt(LocalDateTime.of(2026, 2, 1, 0, 0)).failedAttempts(1).createdBy(1L).active(true)
+                .build();
+        given(recurringRepository.findDue(now, keysetStart, 0L, Limit.of(2)))
+                .willReturn(List.of(failing))
+                .willReturn(List.of());
+        willThrow(new CannotAcquireLockException("lock wait timeout"))
+                .given(recurringExecutionService).execute(failing);
+
+        // when
+        engine.executeDue(now);
+
+        // then
+        verify(recurringExecutionService).retryLater(failing, 2, now.plusSeconds(600));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 재시도하지 않고 SKIPPED로 넘김")
+    void execute_maxAttemptsGivesUp() {
+        // given
+        RecurringTransaction exhausted = RecurringTransaction.builder()
+                .id(1L).bookId(10L).type(TransactionType.EXPENSE).assetId(1000L).amount(1000L)
+                .nextRunAt(LocalDateTime.of(2026, 2, 1, 0, 0)).failedAttempts(2).createdBy(1L).active(true)
+                .build();
+        willThrow(new CannotAcquireLockException("lock wait timeout"))
+                .given(recurringExecutionService).execute(exhausted);
+        willReturn(true).given(recurringExecutionService).giveUp(exhausted, "lock wait timeout");
+
+        // when
+        RecurringExecutionReport report = engine.execute(List.of(exhausted));
+
+        // then
+        assertThat(report.failed()).isEqualTo(1);
+        verify(recurringExecutionService).giveUp(exhausted, "lock wait timeout");
+        verify(recurringExecutionService, never()).retryLater(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("이미 처리된 건은 중복으로 집계")
+    void execute_alreadyProcessed() {
+        // given
+        RecurringTransaction advanced = recurring(1L, 10L, 1, 1000L);
+        RecurringTransaction claimed = recurring(2L, 20L, 1, 2000L);
+        willReturn(false).given(recurringExecutionService).execute(advanced);
+        willThrow(new DataIntegrityViolationException("uk_recurring_execution_occurrence"))
+                .given(recurringExecutionService).execute(claimed);
+
+        // when
+        RecurringExecutionReport report = engine.execute(List.of(advanced, claimed));
+
+        // then
+        assertThat(report.skipped()).isEqualTo(2);
+        assertThat(report.failed()).isZero();
+        verify(recurringExecutionService).skip(claimed);
+        verify(recurringExecutionService, never()).skip(eq(advanced));
+    }
+}
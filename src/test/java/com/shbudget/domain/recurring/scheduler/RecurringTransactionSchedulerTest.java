@@ -0,0 +1,160 @@
+package com.shbudget.domain.recurring.scheduler;
+
+import com.shbudget.domain.pushsubscription.service.PushDispatcher;
+import com.shbudget.domain.pushsubscription.service.PushSubscriptionRegistry;
+import com.shbudget.domain.pushsubscription.service.PushTarget;
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import com.shbudget.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionSchedulerTest {
+
+    @Mock
+    private RecurringTransactionRepository recurringRepository;
+
+    @Mock
+    private PushSubscriptionRegistry pushSubscriptionRegistry;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PushDispatcher pushDispatcher;
+
+    private RecurringTransactionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // 2026-02-10 21:00 (Asia/Seoul) → 이틀 후 2026-02-12
+        scheduler = schedulerAt("2026-02-10T12:00:00Z");
+    }
+
+    private RecurringTransactionScheduler schedulerAt(String instant) {
+        Clock clock = Clock.fixed(Instant.parse(instant), ZoneId.of("Asia/Seoul"));
+        return new RecurringTransactionScheduler(
+                recurringRepository, memberRepository, pushSubscriptionRegistry, pushDispatcher, clock);
+    }
+
+    private RecurringTransaction recurring(Long id, Long createdBy, Long amount, String memo) {
+        return recurring(id, createdBy, amount, memo, 12);
+    }
+
+    private RecurringTransaction recurring(Long id, Long createdBy, Long amount, String memo, Integer dayOfMonth) {
+        return RecurringTransaction.builder()
+                .id(id)
+                .bookId(1L)
+                .type(TransactionType.EXPENSE)
+                .amount(amount)
+                .dayOfMonth(dayOfMonth)
+                .memo(memo)
+                .createdBy(createdBy)
+                .active(true)
+                .build();
+    }
+
+    private PushTarget subscription(Long id, Long memberId) {
+        return new PushTarget(id, memberId, "https://fcm.googleapis.com/" + id, "p256dh", "auth");
+    }
+
+    @Test
+    @DisplayName("반복 거래 알림은 회원별로 묶어 한 건씩 발송하고 구독은 한 번에 조회")
+    void notifyUpcoming_groupedPerMember() {
+        // given
+        given(recurringRepository.findAllByDayOfMonthInAndActiveTrue(List.of(12)))
+                .willReturn(List.of(recurring(1L, 1L, 50000L, "월세"), recurring(2L, 1L, 100000L, "적금")));
+        given(recurringRepository.findScheduledBetween(any(LocalDateTime.class), any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(recurring(3L, 2L, 15000L, "넷플릭스", null)));
+        PushTarget member1Device = subscription(1L, 1L);
+        PushTarget member2Device = subscription(2L, 2L);
+        given(pushSubscriptionRegistry.getSubscriptions(anyCollection()))
+                .willReturn(Map.of(1L, List.of(member1Device), 2L, List.of(member2Device)));
+
+        // when
+        scheduler.notifyUpcomingRecurringTransactions();
+
+        // then
+        verify(pushSubscriptionRegistry, times(1)).getSubscriptions(anyCollection());
+        verify(pushDispatcher).dispatch(member1Device, "반복 거래 알림",
+                "2일 후 반복 거래 2건(총 150,000원)이 예정되어 있습니다. 앱을 확인해주세요!");
+        verify(pushDispatcher).dispatch(member2Device, "반복 거래 알림",
+                "2일 후 넷플릭스 지출 15,000원 예정입니다. 앱을 확인해주세요!");
+    }
+
+    @Test
+    @DisplayName("매월 N일 항목은 반복일로 찾고, 실행 시각 구간에 걸린 매월 N일 항목은 중복 알리지 않음")
+    void notifyUpcoming_monthlyByDayOfMonth() {
+        // given
+        given(recurringRepository.findAllByDayOfMonthInAndActiveTrue(List.of(12)))
+                .willReturn(List.of(recurring(1L, 1L, 50000L, "월세")));
+        given(recurringRepository.findScheduledBetween(any(LocalDateTime.class), any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(recurring(1L, 1L, 50000L, "월세")));
+        PushTarget device = subscription(1L, 1L);
+        given(pushSubscriptionRegistry.getSubscriptions(anyCollection())).willReturn(Map.of(1L, List.of(device)));
+
+        // when
+        int notified = scheduler.notifyUpcomingRecurringTransactions();
+
+        // then
+        assertThat(notified).isEqualTo(1);
+        verify(pushDispatcher).dispatch(device, "반복 거래 알림", "2일 후 월세 지출 50,000원 예정입니다. 앱을 확인해주세요!");
+    }
+
+    @Test
+    @DisplayName("이틀 후가 월말이면 그 달에 없는 반복일도 함께 알림")
+    void notifyUpcoming_endOfMonth() {
+        // given - 2026-02-26 21:00 → 이틀 후 2026-02-28
+        RecurringTransactionScheduler endOfMonth = schedulerAt("2026-02-26T12:00:00Z");
+        given(recurringRepository.findAllByDayOfMonthInAndActiveTrue(List.of(28, 29, 30, 31)))
+                .willReturn(List.of(recurring(1L, 1L, 50000L, "월세", 31)));
+        given(recurringRepository.findScheduledBetween(any(LocalDateTime.class), any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of());
+        given(pushSubscriptionRegistry.getSubscriptions(anyCollection())).willReturn(Map.of());
+
+        // when
+        int notified = endOfMonth.notifyUpcomingRecurringTransactions();
+
+        // then
+        assertThat(notified).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 구독 조회 없이 종료")
+    void notifyUpcoming_noTargets() {
+        // given
+        given(recurringRepository.findAllByDayOfMonthInAndActiveTrue(List.of(12))).willReturn(List.of());
+        given(recurringRepository.findScheduledBetween(any(LocalDateTime.class), any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of());
+
+        // when
+        scheduler.notifyUpcomingRecurringTransactions();
+
+        // then
+        verify(pushSubscriptionRegistry, never()).getSubscriptions(anyCollection());
+        verify(pushDispatcher, never()).dispatch(any(PushTarget.class), anyString(), anyString());
+    }
+}
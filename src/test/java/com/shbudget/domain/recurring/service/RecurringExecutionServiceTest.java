@@ -0,0 +1,227 @@
+package com.shbudget.domain.recurring.service;
+
+import com.shbudget.domain.recurring.entity.RecurrenceRule;
+import com.shbudget.domain.recurring.entity.RecurringExecution;
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringExecutionRepository;
+import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
+import com.shbudget.domain.transaction.dto.request.TransactionCreateRequest;
+import com.shbudget.domain.transaction.dto.response.TransactionResponse;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import com.shbudget.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringExecutionServiceTest {
+
+    @Mock
+    private RecurringTransactionRepository recurringRepository;
+
+    @Mock
+    private RecurringExecutionRepository executionRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @InjectMocks
+    private RecurringExecutionService recurringExecutionService;
+
+    private RecurringTransaction recurring(Integer dayOfMonth, String rule, LocalDateTime nextRunAt) {
+        return RecurringTransaction.builder()
+                .id(1L)
+                .bookId(10L)
+                .type(TransactionType.EXPENSE)
+                .assetId(100L)
+                .amount(50000L)
+                .dayOfMonth(dayOfMonth)
+                .recurrenceRule(rule)
+                .startDate(LocalDate.of(2026, 1, 5))
+                .nextRunAt(nextRunAt)
+                .memo("월세")
+                .createdBy(2L)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("매월 N일 항목은 1일 21:00에 그 달 발생일로 거래를 만들고 다음 달 1일 21:00으로 전진")
+    void execute_advanceClaimThenCreate() {
+        // given
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 2, 1, 21, 0);
+        RecurringTransaction recurring = recurring(31, null, scheduledAt);
+        given(recurringRepository.advanceNextRunAt(1L, scheduledAt, LocalDateTime.of(2026, 3, 1, 21, 0)))
+                .willReturn(1);
+        given(executionRepository.saveAndFlush(any(RecurringExecution.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        TransactionResponse response = mock(TransactionResponse.class);
+        given(response.id()).willReturn(500L);
+        given(transactionService.createTransaction(eq(2L), any(TransactionCreateRequest.class))).willReturn(response);
+
+        // when
+        boolean executed = recurringExecutionService.execute(recurring);
+
+        // then
+        assertThat(executed).isTrue();
+        ArgumentCaptor<RecurringExecution> executionCaptor = ArgumentCaptor.forClass(RecurringExecution.class);
+        verify(executionRepository).saveAndFlush(executionCaptor.capture());
+        assertThat(executionCaptor.getValue().getOccurrenceDate()).isEqualTo(LocalDate.of(2026, 2, 28));
+        assertThat(executionCaptor.getValue().getTransactionId()).isEqualTo(500L);
+        assertThat(executionCaptor.getValue().isSkipped()).isFalse();
+
+        ArgumentCaptor<TransactionCreateRequest> requestCaptor = ArgumentCaptor.forClass(TransactionCreateRequest.class);
+        verify(transactionService).createTransaction(eq(2L), requestCaptor.capture());
+        assertThat(requestCaptor.getValue().date()).isEqualTo(LocalDate.of(2026, 2, 28));
+    }
+
+    @Test
+    @DisplayName("격주 규칙은 2주 뒤로 전진")
+    void execute_biweeklyRule() {
+        // given
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 1, 19, 0, 0);
+        RecurringTransaction recurring = recurring(
+                null, RecurrenceRule.everyWeeks(2, DayOfWeek.MONDAY).toString(), scheduledAt);
+        given(recurringRepository.advanceNextRunAt(1L, scheduledAt, LocalDateTime.of(2026, 2, 2, 0, 0)))
+                .willReturn(1);
+        given(executionRepository.saveAndFlush(any(RecurringExecution.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        TransactionResponse response = mock(TransactionResponse.class);
+        given(response.id()).willReturn(501L);
+        given(transactionService.createTransaction(eq(2L), any(TransactionCreateRequest.class))).willReturn(response);
+
+        // when & then
+        assertThat(recurringExecutionService.execute(recurring)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 실행이 먼저 전진시켰으면 거래를 생성하지 않음")
+    void execute_alreadyAdvanced() {
+        // given
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 2, 1, 21, 0);
+        given(recurringRepository.advanceNextRunAt(eq(1L), eq(scheduledAt), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // when
+        boolean executed = recurringExecutionService.execute(recurring(5, null, scheduledAt));
+
+        // then
+        assertThat(executed).isFalse();
+        verify(executionRepository, never()).saveAndFlush(any());
+        verify(transactionService, never()).createTransaction(any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 실행된 발생일이면 거래를 생성하지 않음")
+    void execute_alreadyExecuted() {
+        // given
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 2, 1, 21, 0);
+        given(recurringRepository.advanceNextRunAt(eq(1L), eq(scheduledAt), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(executionRepository.saveAndFlush(any(RecurringExecution.class)))
+                .willThrow(new DataIntegrityViolationException("uk_recurring_execution_occurrence"));
+
+        // when & then
+        assertThatThrownBy(() -> recurringExecutionService.execute(recurring(5, null, scheduledAt)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(transactionService, never()).createTransaction(any(), any());
+    }
+
+    @Test
+    @DisplayName("기존 데이터는 이번 달 정기 실행이 지났으면 다음 달부터 실행")
+    void initializeSchedules_afterLegacyRun() {
+        // given
+        RecurringTransaction legacy = RecurringTransaction.builder()
+                .id(1L)
+                .bookId(10L)
+                .type(TransactionType.EXPENSE)
+                .assetId(100L)
+                .amount(50000L)
+                .dayOfMonth(25)
+                .createdBy(2L)
+                .active(true)
+                .build();
+        given(recurringRepository.findAllByActiveTrueAndNextRunAtIsNull(Limit.of(100))).willReturn(List.of(legacy));
+
+        // when
+        int initialized = recurringExecutionService.initializeSchedules(LocalDateTime.of(2026, 2, 10, 9, 0), 100);
+
+        // then
+        assertThat(initialized).isEqualTo(1);
+        assertThat(legacy.getNextRunAt()).isEqualTo(LocalDateTime.of(2026, 3, 1, 21, 0));
+        assertThat(legacy.currentOccurrence()).isEqualTo(LocalDate.of(2026, 3, 25));
+        assertThat(legacy.getStartDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+    }
+
+    @Test
+    @DisplayName("재시도는 다음 실행 시각을 그대로 두고 실패 횟수와 재시도 시각만 기록")
+    void retryLater_keepsNextRunAt() {
+        // given
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 2, 1, 21, 0);
+        LocalDateTime retryAt = LocalDateTime.of(2026, 2, 1, 21, 5);
+
+        // when
+        recurringExecutionService.retryLater(recurring(5, null, scheduledAt), 1, retryAt);
+
+        // then
+        verify(recurringRepository).deferRetry(1L, scheduledAt, 1, retryAt);
+        verify(recurringRepository, never()).advanceNextRunAt(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("포기한 발생일은 SKIPPED 기록을 남기고 다음 발생일로 전진")
+    void giveUp_recordsSkipped() {
+        // given
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 2, 1, 21, 0);
+        given(recurringRepository.advanceNextRunAt(1L, scheduledAt, LocalDateTime.of(2026, 3, 1, 21, 0)))
+                .willReturn(1);
+
+        // when
+        boolean skipped = recurringExecutionService.giveUp(recurring(5, null, scheduledAt), "잔액이 부족합니다.");
+
+        // then
+        assertThat(skipped).isTrue();
+        ArgumentCaptor<RecurringExecution> executionCaptor = ArgumentCaptor.forClass(RecurringExecution.class);
+        verify(executionRepository).save(executionCaptor.capture());
+        assertThat(executionCaptor.getValue().isSkipped()).isTrue();
+        assertThat(executionCaptor.getValue().getOccurrenceDate()).isEqualTo(LocalDate.of(2026, 2, 5));
+        assertThat(executionCaptor.getValue().getSkipReason()).isEqualTo("잔액이 부족합니다.");
+        assertThat(executionCaptor.getValue().getTransactionId()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 실행이 먼저 전진시켰으면 SKIPPED 기록을 남기지 않음")
+    void giveUp_alreadyAdvanced() {
+        // given
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 2, 1, 21, 0);
+        given(recurringRepository.advanceNextRunAt(eq(1L), eq(scheduledAt), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // when
+        boolean skipped = recurringExecutionService.giveUp(recurring(5, null, scheduledAt), "잔액이 부족합니다.");
+
+        // then
+        assertThat(skipped).isFalse();
+        verify(executionRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,162 @@
+package com.shbudget.domain.recurring.service;
+
+import com.shbudget.domain.asset.repository.AssetRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
+import com.shbudget.domain.category.repository.CategoryRepository;
+import com.shbudget.domain.member.repository.MemberRepository;
+import com.shbudget.domain.recurring.dto.request.RecurringCreateRequest;
+import com.shbudget.domain.recurring.dto.response.RecurringOccurrenceResponse;
+import com.shbudget.domain.recurring.dto.response.RecurringOccurrenceResponse.OccurrenceStatus;
+import com.shbudget.domain.recurring.entity.RecurrenceRule;
+import com.shbudget.domain.recurring.entity.RecurringExecution;
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import com.shbudget.domain.recurring.repository.RecurringExecutionRepository;
+import com.shbudget.domain.recurring.repository.RecurringTransactionRepository;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionServiceTest {
+
+    @Mock
+    private RecurringTransactionRepository recurringRepository;
+
+    @Mock
+    private RecurringExecutionRepository executionRepository;
+
+    @Mock
+    private BookAccessChecker bookAccessChecker;
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private RecurringTransactionService recurringService;
+
+    private final LocalDate from = LocalDate.of(2026, 1, 1);
+    private final LocalDate to = LocalDate.of(2026, 3, 31);
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        recurringService = new RecurringTransactionService(recurringRepository, executionRepository,
+                bookAccessChecker, assetRepository, categoryRepository, memberRepository, clock);
+    }
+
+    private RecurringTransaction recurring(Long id, Integer dayOfMonth, String rule, LocalDateTime nextRunAt) {
+        return RecurringTransaction.builder()
+                .id(id)
+                .bookId(10L)
+                .type(TransactionType.EXPENSE)
+                .assetId(100L)
+                .amount(10000L * id)
+                .dayOfMonth(dayOfMonth)
+                .recurrenceRule(rule)
+                .startDate(LocalDate.of(2026, 1, 5))
+                .nextRunAt(nextRunAt)
+                .createdBy(1L)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("발생 예정 조회 - 규칙을 전개하고 실행 기록과 합쳐 날짜순 반환")
+    void getUpcoming_mergedWithPosted() {
+        // given - 매월 31일 항목은 2월 1일 21:00에 2월분(2/28)을 생성할 차례
+        RecurringTransaction monthly = recurring(1L, 31, null, LocalDateTime.of(2026, 2, 1, 21, 0));
+        RecurringTransaction biweekly = recurring(2L, null,
+                RecurrenceRule.everyWeeks(2, DayOfWeek.MONDAY).toString(), LocalDateTime.of(2026, 3, 2, 0, 0));
+        given(recurringRepository.findAllByBookIdAndActiveTrue(10L)).willReturn(List.of(monthly, biweekly));
+
+        RecurringExecution postedMonthly = RecurringExecution.claim(1L, LocalDate.of(2026, 1, 31));
+        postedMonthly.complete(900L);
+        RecurringExecution postedBiweekly = RecurringExecution.claim(2L, LocalDate.of(2026, 1, 5));
+        postedBiweekly.complete(901L);
+        RecurringExecution skippedBiweekly = RecurringExecution.skipped(2L, LocalDate.of(2026, 1, 19), "잔액이 부족합니다.");
+        given(executionRepository.findAllByRecurringIdInAndOccurrenceDateBetween(anyCollection(), eq(from), eq(to)))
+                .willReturn(List.of(postedMonthly, postedBiweekly, skippedBiweekly));
+
+        // when
+        List<RecurringOccurrenceResponse> occurrences = recurringService.getUpcoming(1L, 10L, from, to);
+
+        // then
+        // 격주 2/2, 2/16은 실행 시각이 지났는데 기록이 없어 제외, 1/19는 건너뛴 기록으로 표시
+        assertThat(occurrences).extracting(RecurringOccurrenceResponse::date).containsExactly(
+                LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 19), LocalDate.of(2026, 1, 31),
+                LocalDate.of(2026, 2, 28), LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 16),
+                LocalDate.of(2026, 3, 30), LocalDate.of(2026, 3, 31));
+        assertThat(occurrences.get(0).status()).isEqualTo(OccurrenceStatus.POSTED);
+        assertThat(occurrences.get(0).transactionId()).isEqualTo(901L);
+        assertThat(occurrences.get(1).status()).isEqualTo(OccurrenceStatus.SKIPPED);
+        assertThat(occurrences.get(1).transactionId()).isNull();
+        assertThat(occurrences.get(2).transactionId()).isEqualTo(900L);
+        assertThat(occurrences.subList(3, occurrences.size()))
+                .allMatch(occurrence -> occurrence.status() == OccurrenceStatus.SCHEDULED);
+    }
+
+    @Test
+    @DisplayName("발생 예정 조회 - 반복 거래가 없으면 실행 기록을 조회하지 않음")
+    void getUpcoming_noRecurrings() {
+        // given
+        given(recurringRepository.findAllByBookIdAndActiveTrue(10L)).willReturn(List.of());
+
+        // when
+        List<RecurringOccurrenceResponse> occurrences = recurringService.getUpcoming(1L, 10L, from, to);
+
+        // then
+        assertThat(occurrences).isEmpty();
+        verify(executionRepository, never()).findAllByRecurringIdInAndOccurrenceDateBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발생 예정 조회 실패 - 1년을 넘는 구간")
+    void getUpcoming_rangeTooLong() {
+        // when & then
+        assertThatThrownBy(() -> recurringService.getUpcoming(1L, 10L, from, from.plusYears(1)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("반복 거래 등록 실패 - 지원하지 않는 반복 규칙")
+    void create_invalidRule() {
+        // given
+        RecurringCreateRequest request = new RecurringCreateRequest(
+                10L, TransactionType.EXPENSE, 10000L, null, "FREQ=DAILY", null, "메모", 100L, null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> recurringService.create(1L, request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_RECURRENCE_RULE);
+        verify(recurringRepository, never()).save(any());
+    }
+}
@@ -1,12 +1,15 @@
 package com.shbudget.domain.statistics.service;
 
 import com.shbudget.domain.asset.repository.AssetRepository;
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.entity.Book;
+import com.shbudget.domain.book.service.BookAccessChecker;
+import com.shbudget.domain.book.repository.BookRepository;
 import com.shbudget.domain.category.entity.Category;
 import com.shbudget.domain.category.repository.CategoryRepository;
 import com.shbudget.domain.member.entity.Member;
 import com.shbudget.domain.member.repository.MemberRepository;
 import com.shbudget.domain.statistics.dto.response.CategoryStatisticsResponse;
+import com.shbudget.domain.statistics.dto.response.ConsolidatedStatisticsResponse;
 import com.shbudget.domain.statistics.dto.response.MemberContributionResponse;
 import com.shbudget.domain.statistics.dto.response.MonthlySummaryResponse;
 import com.shbudget.domain.transaction.entity.TransactionType;
@@ -19,14 +22,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +52,10 @@ class StatisticsServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private BookMemberRepository bookMemberRepository;
+    private BookAccessChecker bookAccessChecker;
+
+    @Mock
+    private BookRepository bookRepository;
 
     @InjectMocks
     private StatisticsService statisticsService;
@@ -59,7 +69,6 @@ class StatisticsServiceTest {
         Integer year = 2024;
         Integer month = 5;
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(transactionRepository.sumAmountByBookIdAndTypeAndDateBetween(
                 eq(bookId), eq(TransactionType.INCOME), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(5000000L);
@@ -92,7 +101,6 @@ class StatisticsServiceTest {
         Category category1 = Category.create(bookId, "식비", "#FF5733", "food");
         Category category2 = Category.create(bookId, "교통", "#3498DB", "transport");
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(transactionRepository.sumAmountByBookIdAndTypeAndDateBetween(
                 eq(bookId), eq(TransactionType.EXPENSE), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(1000000L);
@@ -129,7 +137,6 @@ class StatisticsServiceTest {
         Member member1 = Member.create("user1@test.com", "홍길동");
         Member member2 = Member.create("user2@test.com", "김철수");
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(transactionRepository.sumAmountByBookIdAndTypeAndDateBetween(
                 eq(bookId), eq(TransactionType.INCOME), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(5000000L);
@@ -170,7 +177,7 @@ class StatisticsServiceTest {
         Integer year = 2024;
         Integer month = 5;
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(false);
+        doThrow(new CustomException(ErrorCode.NOT_BOOK_MEMBER)).when(bookAccessChecker).validateBookMember(bookId, memberId);
 
         // when & then
         assertThatThrownBy(() -> statisticsService.getMonthlySummary(memberId, bookId, year, month))
@@ -187,7 +194,6 @@ class StatisticsServiceTest {
         Integer year = 2024;
         Integer month = 5;
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(transactionRepository.sumAmountByBookIdAndTypeAndDateBetween(
                 eq(bookId), eq(TransactionType.INCOME), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(1000000L);
@@ -202,4 +208,75 @@ class StatisticsServiceTest {
         // then
         assertThat(response.totalAssets()).isEqualTo(0L);
     }
+
+    @Test
+    @DisplayName("여러 가계부 통합 통계 조회 성공")
+    void getConsolidatedStatistics() {
+        // given
+        Long memberId = 1L;
+        Integer year = 2024;
+        Integer month = 5;
+
+        Book personalBook = Book.create("개인 가계부", memberId);
+        Book sharedBook = Book.create("공동 가계부", 2L);
+        ReflectionTestUtils.setField(personalBook, "id", 1L);
+        ReflectionTestUtils.setField(sharedBook, "id", 2L);
+        Category food1 = Category.builder().id(10L).bookId(1L).name("식비").build();
+        Category food2 = Category.builder().id(20L).bookId(2L).name("식비").build();
+        Category transport = Category.builder().id(21L).bookId(2L).name("교통").build();
+
+        when(bookAccessChecker.getBookIds(memberId)).thenReturn(Set.of(1L, 2L));
+        when(transactionRepository.sumAmountByBookIdsAndTypeGroupByBook(
+                eq(List.of(1L, 2L)), anyList(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(
+                        new Object[]{1L, TransactionType.INCOME, 3000000L},
+                        new Object[]{1L, TransactionType.EXPENSE, 1000000L},
+                        new Object[]{2L, TransactionType.EXPENSE, 500000L}
+                ));
+        when(assetRepository.sumBalanceGroupByBookIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new Object[]{1L, 2000000L},
+                new Object[]{2L, 8000000L}
+        ));
+        when(bookRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(personalBook, sharedBook));
+        when(transactionRepository.sumAmountByCategoryAndBookIdsAndDateBetween(
+                eq(List.of(1L, 2L)), eq(TransactionType.EXPENSE), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(
+                        new Object[]{10L, 600000L, 6L},
+                        new Object[]{20L, 300000L, 3L},
+                        new Object[]{21L, 600000L, 2L}
+                ));
+        when(categoryRepository.findAllByBookIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(food1, food2, transport));
+
+        // when
+        ConsolidatedStatisticsResponse response = statisticsService.getConsolidatedStatistics(memberId, year, month);
+
+        // then
+        assertThat(response.totalIncome()).isEqualTo(3000000L);
+        assertThat(response.totalExpense()).isEqualTo(1500000L);
+        assertThat(response.netIncome()).isEqualTo(1500000L);
+        assertThat(response.totalAssets()).isEqualTo(10000000L);
+        assertThat(response.books()).hasSize(2);
+        assertThat(response.books().get(1).bookName()).isEqualTo("공동 가계부");
+        assertThat(response.books().get(1).totalIncome()).isEqualTo(0L);
+        assertThat(response.categories()).hasSize(2);
+        assertThat(response.categories().get(0).categoryName()).isEqualTo("식비");  // 두 가계부 식비 병합
+        assertThat(response.categories().get(0).totalAmount()).isEqualTo(900000L);
+        assertThat(response.categories().get(0).percentage()).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("참여 중인 가계부가 없으면 빈 통합 통계 반환")
+    void getConsolidatedStatistics_NoBooks() {
+        // given
+        when(bookAccessChecker.getBookIds(1L)).thenReturn(Set.of());
+
+        // when
+        ConsolidatedStatisticsResponse response = statisticsService.getConsolidatedStatistics(1L, 2024, 5);
+
+        // then
+        assertThat(response.totalIncome()).isEqualTo(0L);
+        assertThat(response.books()).isEmpty();
+        assertThat(response.categories()).isEmpty();
+    }
 }
@@ -0,0 +1,132 @@
+package com.shbudget.domain.transaction.service;
+
+import com.shbudget.domain.asset.entity.Asset;
+import com.shbudget.domain.asset.repository.AssetRepository;
+import com.shbudget.domain.book.service.BookService;
+import com.shbudget.domain.category.entity.Category;
+import com.shbudget.domain.category.repository.CategoryRepository;
+import com.shbudget.domain.member.entity.Member;
+import com.shbudget.domain.member.repository.MemberRepository;
+import com.shbudget.domain.transaction.dto.response.TransactionResponse;
+import com.shbudget.domain.transaction.entity.Transaction;
+import com.shbudget.domain.transaction.entity.TransactionType;
+import com.shbudget.domain.transaction.repository.TransactionRepository;
+import com.shbudget.global.query.QueryBudget;
+import com.shbudget.global.query.QueryBudgetExtension;
+import com.shbudget.global.query.QueryCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 목록 조회가 행 수와 무관하게 정해진 문장 수 안에서 끝나는지 확인
+ * (테스트 프로필은 QueryCountInspector가 연결되어 있어 실제 H2 문장을 센다)
+ */
+@SpringBootTest(properties = {
+        "recurring.dispatch.enabled=false",
+        "job.scheduling.enabled=false"
+})
+@ActiveProfiles("test")
+@ExtendWith(QueryBudgetExtension.class)
+@QueryBudget(3)
+class TransactionListQueryBudgetTest {
+
+    private static final int DAYS = 20;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("월별 거래 목록은 거래 수와 무관하게 3문장 이내로 이름까지 조회")
+    void monthlyList_withinBudget(QueryCounter counter) {
+        // given
+        Member owner = memberRepository.save(Member.createWithPassword("list-owner@example.com", "hash", "민지"));
+        Member partner = memberRepository.save(Member.createWithPassword("list-partner@example.com", "hash", "준호"));
+        Long bookId = bookService.createBookForMember(owner.getId(), "민지의 가계부").id();
+        seed(bookId, owner.getId(), partner.getId(), LocalDate.of(2026, 3, 1));
+        counter.reset();
+
+        // when
+        List<TransactionResponse> responses = transactionService.getTransactionList(owner.getId(), bookId, "2026-03", null);
+
+        // then
+        assertThat(responses).hasSize(DAYS * 3);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.date()).hasMonthValue(3);
+            assertThat(response.createdByNickname()).isIn("민지", "준호");
+        });
+        assertThat(responses).filteredOn(response -> response.type() == TransactionType.TRANSFER)
+                .allSatisfy(response -> {
+                    assertThat(response.fromAssetName()).isEqualTo("월급통장");
+                    assertThat(response.toAssetName()).isEqualTo("적금");
+                });
+        assertThat(responses).filteredOn(response -> response.type() == TransactionType.EXPENSE)
+                .allSatisfy(response -> {
+                    assertThat(response.assetName()).isEqualTo("카드");
+                    assertThat(response.categoryName()).isIn("식비", "교통");
+                });
+    }
+
+    @Test
+    @DisplayName("타입별 전체 거래 목록도 3문장 이내로 조회")
+    void typeList_withinBudget(QueryCounter counter) {
+        // given
+        Member owner = memberRepository.save(Member.createWithPassword("type-owner@example.com", "hash", "민지"));
+        Long bookId = bookService.createBookForMember(owner.getId(), "민지의 가계부").id();
+        seed(bookId, owner.getId(), owner.getId(), LocalDate.of(2026, 2, 1));
+        seed(bookId, owner.getId(), owner.getId(), LocalDate.of(2026, 3, 1));
+        counter.reset();
+
+        // when
+        List<TransactionResponse> responses = transactionService.getTransactionList(
+                owner.getId(), bookId, null, TransactionType.EXPENSE);
+
+        // then
+        assertThat(responses).hasSize(DAYS * 2 * 2)
+                .allSatisfy(response -> assertThat(response.type()).isEqualTo(TransactionType.EXPENSE));
+    }
+
+    // === Private Helper Methods ===
+
+    // 해당 월에 하루마다 지출 2건(작성자 번갈아)과 이체 1건을 만든다
+    private void seed(Long bookId, Long ownerId, Long partnerId, LocalDate firstDay) {
+        Asset salary = assetRepository.save(Asset.create(bookId, "월급통장", 0L));
+        Asset savings = assetRepository.save(Asset.create(bookId, "적금", 0L));
+        Asset card = assetRepository.save(Asset.create(bookId, "카드", 0L));
+        Category food = categoryRepository.save(Category.create(bookId, "식비"));
+        Category transport = categoryRepository.save(Category.create(bookId, "교통"));
+
+        List<Transaction> transactions = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = firstDay.plusDays(day);
+            transactions.add(Transaction.createExpense(bookId, card.getId(), food.getId(), 12000L, date, "점심", ownerId));
+            transactions.add(Transaction.createExpense(bookId, card.getId(), transport.getId(), 1500L, date, "버스", partnerId));
+            transactions.add(Transaction.createTransfer(bookId, salary.getId(), savings.getId(), 50000L, date, "저축", ownerId));
+        }
+        transactionRepository.saveAll(transactions);
+    }
+}
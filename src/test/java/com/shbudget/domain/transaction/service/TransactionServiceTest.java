@@ -2,7 +2,7 @@ package com.shbudget.domain.transaction.service;
 
 import com.shbudget.domain.asset.entity.Asset;
 import com.shbudget.domain.asset.repository.AssetRepository;
-import com.shbudget.domain.book.repository.BookMemberRepository;
+import com.shbudget.domain.book.service.BookAccessChecker;
 import com.shbudget.domain.member.entity.Member;
 import com.shbudget.domain.member.repository.MemberRepository;
 import com.shbudget.domain.transaction.dto.request.TransactionCreateRequest;
@@ -19,8 +19,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,11 +41,14 @@ class TransactionServiceTest {
     private AssetRepository assetRepository;
 
     @Mock
-    private BookMemberRepository bookMemberRepository;
+    private BookAccessChecker bookAccessChecker;
 
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -77,7 +82,6 @@ class TransactionServiceTest {
                 bookId, assetId, null, 3000000L, LocalDate.now(), "월급", memberId
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(assetRepository.findById(assetId)).thenReturn(Optional.of(asset));
         when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(
@@ -124,7 +128,6 @@ class TransactionServiceTest {
                 bookId, assetId, null, 50000L, LocalDate.now(), "식비", memberId
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(assetRepository.findById(assetId)).thenReturn(Optional.of(asset));
         when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(
@@ -179,7 +182,6 @@ class TransactionServiceTest {
                 bookId, fromAssetId, toAssetId, 100000L, LocalDate.now(), "적금 이체", memberId
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(assetRepository.findById(fromAssetId)).thenReturn(Optional.of(fromAsset));
         when(assetRepository.findById(toAssetId)).thenReturn(Optional.of(toAsset));
         when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
@@ -224,7 +226,6 @@ class TransactionServiceTest {
                 .balance(1000000L)
                 .build();
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(assetRepository.findById(assetId)).thenReturn(Optional.of(asset));
 
         // when & then
@@ -252,7 +253,6 @@ class TransactionServiceTest {
                 "이체"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
 
         // when & then
         assertThatThrownBy(() -> transactionService.createTransaction(memberId, request))
@@ -279,7 +279,6 @@ class TransactionServiceTest {
                 "미래 수입"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
 
         // when & then
         assertThatThrownBy(() -> transactionService.createTransaction(memberId, request))
@@ -307,7 +306,6 @@ class TransactionServiceTest {
                 bookId, assetId, null, 100000L, LocalDate.now(), "지출", memberId
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(transactionRepository.findByIdAndBookId(transactionId, bookId))
                 .thenReturn(Optional.of(transaction));
         when(assetRepository.findById(assetId)).thenReturn(Optional.of(asset));
@@ -338,7 +336,7 @@ class TransactionServiceTest {
                 "수입"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(false);
+        doThrow(new CustomException(ErrorCode.NOT_BOOK_MEMBER)).when(bookAccessChecker).validateBookMember(bookId, memberId);
 
         // when & then
         assertThatThrownBy(() -> transactionService.createTransaction(memberId, request))
@@ -365,7 +363,6 @@ class TransactionServiceTest {
                 "수입"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
         when(assetRepository.findById(assetId)).thenReturn(Optional.empty());
 
         // when & then
@@ -392,7 +389,6 @@ class TransactionServiceTest {
                 "수입"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
 
         // when & then
         assertThatThrownBy(() -> transactionService.createTransaction(memberId, request))
@@ -400,6 +396,39 @@ class TransactionServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_REQUIRED_FOR_INCOME_EXPENSE);
     }
 
+    @Test
+    @DisplayName("월별 거래 목록은 해당 월 범위로 한 번 조회하고 이름을 함께 매핑")
+    void getTransactionList_monthly() {
+        // given
+        Long memberId = 1L;
+        Long bookId = 1L;
+        Transaction expense = Transaction.createExpense(
+                bookId, 1L, 3L, 12000L, LocalDate.of(2026, 3, 15), "점심", memberId
+        );
+        Transaction transfer = Transaction.createTransfer(
+                bookId, 1L, 2L, 50000L, LocalDate.of(2026, 3, 1), "저축", memberId
+        );
+
+        when(transactionRepository.findListByBookIdAndTypeInAndDateRange(
+                bookId, List.of(TransactionType.values()), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 4, 1)))
+                .thenReturn(List.of(
+                        new Object[]{expense, "통장", "식비", null, null, "민지"},
+                        new Object[]{transfer, null, null, "통장", "적금", "민지"}
+                ));
+
+        // when
+        List<TransactionResponse> responses = transactionService.getTransactionList(memberId, bookId, "2026-03", null);
+
+        // then
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).assetName()).isEqualTo("통장");
+        assertThat(responses.get(0).categoryName()).isEqualTo("식비");
+        assertThat(responses.get(0).createdByNickname()).isEqualTo("민지");
+        assertThat(responses.get(1).fromAssetName()).isEqualTo("통장");
+        assertThat(responses.get(1).toAssetName()).isEqualTo("적금");
+        verifyNoInteractions(assetRepository, memberRepository);
+    }
+
     @Test
     @DisplayName("이체 거래에서 자산 ID 누락 시 실패")
     void createTransfer_AssetsRequired() {
@@ -418,7 +447,6 @@ class TransactionServiceTest {
                 "이체"
         );
 
-        when(bookMemberRepository.existsByBookIdAndMemberId(bookId, memberId)).thenReturn(true);
 
         // when & then
         assertThatThrownBy(() -> transactionService.createTransaction(memberId, request))
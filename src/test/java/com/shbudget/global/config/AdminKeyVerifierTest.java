@@ -0,0 +1,32 @@
+package com.shbudget.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminKeyVerifierTest {
+
+    @Test
+    @DisplayName("설정된 운영자 키와 같을 때만 통과")
+    void matches_configuredKey() {
+        // given
+        AdminKeyVerifier verifier = new AdminKeyVerifier("admin-secret");
+
+        // when & then
+        assertThat(verifier.matches("admin-secret")).isTrue();
+        assertThat(verifier.matches("api-secret")).isFalse();
+        assertThat(verifier.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("운영자 키가 설정되지 않은 환경에서는 모두 거절")
+    void matches_notConfigured() {
+        // given
+        AdminKeyVerifier verifier = new AdminKeyVerifier("");
+
+        // when & then
+        assertThat(verifier.matches("")).isFalse();
+        assertThat(verifier.matches("anything")).isFalse();
+    }
+}
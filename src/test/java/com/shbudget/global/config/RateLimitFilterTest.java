@@ -0,0 +1,99 @@
+package com.shbudget.global.config;
+
+import com.shbudget.global.config.RateLimitFilter.RouteGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    // 쓰기: 버스트 3, 초당 1 / 통계: 버스트 2, 초당 1 / 조회: 버스트 5, 초당 1
+    private final RateLimitFilter filter = new RateLimitFilter(true, 3, 1, 2, 1, 5, 1);
+
+    @Test
+    @DisplayName("버스트 용량까지 허용 후 거절")
+    void tryAcquire_burstExceeded() {
+        // given
+        long now = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            assertThat(filter.tryAcquire(RouteGroup.WRITE, 1L, now)).isZero();
+        }
+
+        // when
+        long wait = filter.tryAcquire(RouteGroup.WRITE, 1L, now);
+
+        // then
+        assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 다시 허용")
+    void tryAcquire_refilled() {
+        // given
+        long now = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            filter.tryAcquire(RouteGroup.WRITE, 1L, now);
+        }
+
+        // when & then
+        assertThat(filter.tryAcquire(RouteGroup.WRITE, 1L, now + TimeUnit.SECONDS.toNanos(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("키와 라우트 그룹별로 독립된 예산")
+    void tryAcquire_independentBuckets() {
+        // given
+        long now = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            filter.tryAcquire(RouteGroup.WRITE, 1L, now);
+        }
+
+        // when & then
+        assertThat(filter.tryAcquire(RouteGroup.WRITE, 2L, now)).isZero();
+        assertThat(filter.tryAcquire(RouteGroup.READ, 1L, now)).isZero();
+    }
+
+    @Test
+    @DisplayName("제한 초과 시 429와 Retry-After 반환")
+    void doFilter_rejected() throws Exception {
+        // given
+        for (int i = 0; i < 2; i++) {
+            filter.doFilter(statisticsRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(statisticsRequest(), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(filter.getAllowedCount(RouteGroup.STATISTICS)).isEqualTo(2);
+        assertThat(filter.getRejectedCount(RouteGroup.STATISTICS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("충전이 끝난 버킷은 정리")
+    void evictIdleBuckets() {
+        // given
+        filter.tryAcquire(RouteGroup.READ, 1L, System.nanoTime() - TimeUnit.SECONDS.toNanos(10));
+
+        // when
+        filter.evictIdleBuckets();
+
+        // then
+        assertThat(filter.getBucketCount(RouteGroup.READ)).isZero();
+    }
+
+    private MockHttpServletRequest statisticsRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/statistics/monthly");
+        request.setAttribute("jwtMemberId", 1L);
+        return request;
+    }
+}
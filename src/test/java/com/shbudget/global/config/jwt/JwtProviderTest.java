@@ -0,0 +1,70 @@
+package com.shbudget.global.config.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtProviderTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long!!!!";
+
+    private final JwtProvider jwtProvider = new JwtProvider(SECRET, 3600000L, 604800000L, 100);
+
+    @Test
+    @DisplayName("토큰 검증 성공 - memberId와 만료 시각 반환")
+    void verify_success() {
+        // given
+        String token = jwtProvider.createAccessToken(1L, "family");
+
+        // when
+        Optional<VerifiedToken> result = jwtProvider.verify(token);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().memberId()).isEqualTo(1L);
+        assertThat(result.get().familyId()).isEqualTo("family");
+        assertThat(result.get().tokenId()).isNotNull();
+        assertThat(result.get().isRefreshToken()).isFalse();
+        assertThat(result.get().expiresAt()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 검증 실패")
+    void verify_invalidSignature() {
+        // given
+        JwtProvider other = new JwtProvider("other-secret-key-must-be-at-least-256-bits-long!!!", 3600000L, 604800000L, 100);
+        String token = other.createAccessToken(1L, "family");
+
+        // when & then
+        assertThat(jwtProvider.verify(token)).isEmpty();
+        assertThat(jwtProvider.verifyCached(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰은 같은 결과 반환")
+    void verifyCached_hit() {
+        // given
+        String token = jwtProvider.createAccessToken(1L, "family");
+        VerifiedToken first = jwtProvider.verifyCached(token).orElseThrow();
+
+        // when
+        VerifiedToken second = jwtProvider.verifyCached(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 검증 실패")
+    void verify_expired() {
+        // given
+        JwtProvider shortLived = new JwtProvider(SECRET, -1000L, -1000L, 100);
+        String token = shortLived.createAccessToken(1L, "family");
+
+        // when & then
+        assertThat(jwtProvider.verifyCached(token)).isEmpty();
+    }
+}
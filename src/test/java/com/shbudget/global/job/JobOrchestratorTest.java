@@ -0,0 +1,192 @@
+package com.shbudget.global.job;
+
+import com.shbudget.global.exception.CustomException;
+import com.shbudget.global.exception.ErrorCode;
+import com.shbudget.global.lock.LeaseLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JobOrchestratorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Mock
+    private JobRunRepository jobRunRepository;
+
+    @Mock
+    private LeaseLockManager leaseLockManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> executed = new ArrayList<>();
+    private JobOrchestrator orchestrator;
+
+    @AfterEach
+    void tearDown() {
+        if (orchestrator != null) {
+            orchestrator.shutdown();
+        }
+    }
+
+    private JobOrchestrator orchestrator(ScheduledJob... jobs) {
+        orchestrator = new JobOrchestrator(List.of(jobs), jobRunRepository, leaseLockManager, CLOCK,
+                meterRegistry, false, 1, "Asia/Seoul", 300, 60);
+        return orchestrator;
+    }
+
+    private ScheduledJob job(String name, List<String> dependsOn, boolean fails) {
+        return new ScheduledJob() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public List<String> getDependsOn() {
+                return dependsOn;
+            }
+
+            @Override
+            public int run(LocalDateTime now) {
+                executed.add(name);
+                if (fails) {
+                    throw new IllegalStateException("boom");
+                }
+                return 3;
+            }
+        };
+    }
+
+    private void givenLockAcquired() throws Throwable {
+        given(leaseLockManager.getOwner()).willReturn("instance-1");
+        given(jobRunRepository.save(any(JobRun.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(leaseLockManager.runLocked(anyString(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<LeaseLockManager.LockedTask>getArgument(3).run());
+    }
+
+    @Test
+    @DisplayName("선행 작업을 먼저 실행하고 각각 실행 기록을 남긴다")
+    void run_dependenciesFirst() throws Throwable {
+        // given
+        givenLockAcquired();
+        orchestrator(
+                job("remind", List.of("execute"), false),
+                job("execute", List.of("initialize"), false),
+                job("initialize", List.of(), false)
+        );
+
+        // when
+        List<JobRun> runs = orchestrator.run("remind", JobTrigger.MANUAL);
+
+        // then
+        assertThat(executed).containsExactly("initialize", "execute", "remind");
+        assertThat(runs).extracting(JobRun::getJobName).containsExactly("initialize", "execute", "remind");
+        assertThat(runs).extracting(JobRun::getTrigger)
+                .containsExactly(JobTrigger.DEPENDENCY, JobTrigger.DEPENDENCY, JobTrigger.MANUAL);
+        assertThat(runs).allSatisfy(run -> {
+            assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+            assertThat(run.getItemCount()).isEqualTo(3);
+            assertThat(run.getInstanceId()).isEqualTo("instance-1");
+            assertThat(run.getFinishedAt()).isNotNull();
+        });
+        assertThat(meterRegistry.get("job.runs").tags("job", "remind", "status", "succeeded").timer().count())
+                .isEqualTo(1);
+        // 수동 실행은 최소 보유 시간 없이 락을 잡는다
+        verify(leaseLockManager).runLocked(eq("remind"), eq(Duration.ofSeconds(300)), eq(Duration.ZERO), any());
+    }
+
+    @Test
+    @DisplayName("선행 작업이 실패하면 후행 작업은 실행하지 않고 SKIPPED로 기록")
+    void run_dependencyFailed() throws Throwable {
+        // given
+        givenLockAcquired();
+        orchestrator(
+                job("remind", List.of("execute"), false),
+                job("execute", List.of(), true)
+        );
+
+        // when
+        List<JobRun> runs = orchestrator.run("remind", JobTrigger.SCHEDULED);
+
+        // then
+        assertThat(executed).containsExactly("execute");
+        assertThat(runs).hasSize(2);
+        assertThat(runs.get(0).getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(runs.get(0).getMessage()).contains("boom");
+        assertThat(runs.get(1).getStatus()).isEqualTo(JobRunStatus.SKIPPED);
+        assertThat(runs.get(1).getMessage()).contains("execute");
+        verify(leaseLockManager, never()).runLocked(eq("remind"), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("cron 실행에서 락을 얻지 못하면 다른 인스턴스가 실행 중이므로 기록 없이 중단")
+    void run_lockNotAcquired() throws Throwable {
+        // given
+        given(leaseLockManager.runLocked(eq("execute"), any(), eq(Duration.ofSeconds(60)), any())).willReturn(null);
+        orchestrator(
+                job("remind", List.of("execute"), false),
+                job("execute", List.of(), false)
+        );
+
+        // when
+        List<JobRun> runs = orchestrator.run("remind", JobTrigger.SCHEDULED);
+
+        // then
+        assertThat(runs).isEmpty();
+        assertThat(executed).isEmpty();
+        verify(jobRunRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("의존 관계에 순환이 있으면 기동 시 실패")
+    void constructor_cycle() {
+        assertThatThrownBy(() -> orchestrator(
+                job("a", List.of("b"), false),
+                job("b", List.of("a"), false)
+        ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cycle");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 선행 작업이 있으면 기동 시 실패")
+    void constructor_unknownDependency() {
+        assertThatThrownBy(() -> orchestrator(job("a", List.of("missing"), false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missing");
+    }
+
+    @Test
+    @DisplayName("없는 작업 실행 요청은 JOB_NOT_FOUND")
+    void trigger_unknownJob() {
+        // given
+        orchestrator(job("a", List.of(), false));
+
+        // when & then
+        assertThatThrownBy(() -> orchestrator.trigger("missing"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.JOB_NOT_FOUND);
+    }
+}
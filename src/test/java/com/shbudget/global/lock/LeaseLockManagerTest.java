@@ -0,0 +1,116 @@
+package com.shbudget.global.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LeaseLockManagerTest {
+
+    @Mock
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LeaseLockManager leaseLockManager;
+
+    @BeforeEach
+    void setUp() {
+        leaseLockManager = new LeaseLockManager(schedulerLockRepository, transactionManager, Clock.systemDefaultZone());
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaseLockManager.shutdown();
+    }
+
+    @Test
+    @DisplayName("lease를 얻으면 실행하고 최소 보유 시간까지 잡아둔 채 반납")
+    void runLocked_acquired() throws Throwable {
+        // given
+        String owner = leaseLockManager.getOwner();
+        given(schedulerLockRepository.tryAcquire(eq("job"), eq(owner), any(), any())).willReturn(1);
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        Object result = leaseLockManager.runLocked("job", Duration.ofMinutes(5), Duration.ofSeconds(30), () -> "done");
+
+        // then
+        assertThat(result).isEqualTo("done");
+        verify(schedulerLockRepository).release(eq("job"), eq(owner),
+                argThat(until -> !until.isBefore(before.plusSeconds(30))));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보유 중이면 실행하지 않음")
+    void runLocked_heldByOther() throws Throwable {
+        // given
+        given(schedulerLockRepository.tryAcquire(eq("job"), anyString(), any(), any())).willReturn(0);
+        given(schedulerLockRepository.existsById("job")).willReturn(true);
+        boolean[] executed = new boolean[1];
+
+        // when
+        Object result = leaseLockManager.runLocked("job", Duration.ofMinutes(5), Duration.ofSeconds(30), () -> {
+            executed[0] = true;
+            return null;
+        });
+
+        // then
+        assertThat(result).isNull();
+        assertThat(executed[0]).isFalse();
+        verify(schedulerLockRepository, never()).release(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("처음 실행되는 작업이면 lease 행을 만들고 실행")
+    void runLocked_firstRun() throws Throwable {
+        // given
+        given(schedulerLockRepository.tryAcquire(eq("job"), anyString(), any(), any())).willReturn(0);
+        given(schedulerLockRepository.existsById("job")).willReturn(false);
+
+        // when
+        Object result = leaseLockManager.runLocked("job", Duration.ofMinutes(5), Duration.ZERO, () -> "done");
+
+        // then
+        assertThat(result).isEqualTo("done");
+        verify(schedulerLockRepository).saveAndFlush(any(SchedulerLock.class));
+    }
+
+    @Test
+    @DisplayName("실행이 길어지면 lease를 연장")
+    void runLocked_renewed() throws Throwable {
+        // given
+        String owner = leaseLockManager.getOwner();
+        given(schedulerLockRepository.tryAcquire(eq("job"), eq(owner), any(), any())).willReturn(1);
+        given(schedulerLockRepository.extend(eq("job"), eq(owner), any(), any())).willReturn(1);
+
+        // when
+        leaseLockManager.runLocked("job", Duration.ofMillis(60), Duration.ZERO, () -> {
+            Thread.sleep(150);
+            return null;
+        });
+
+        // then
+        verify(schedulerLockRepository, atLeastOnce()).extend(eq("job"), eq(owner), any(), any());
+    }
+}
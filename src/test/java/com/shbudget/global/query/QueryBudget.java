@@ -0,0 +1,19 @@
+package com.shbudget.global.query;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트가 실행할 수 있는 최대 SQL 문장 수 (QueryBudgetExtension에서 검증)
+ *
+ * 테스트 데이터를 준비한 뒤 QueryCounter.current().reset()을 호출하면 그 이후만 센다.
+ * 메서드에 붙인 값이 클래스에 붙인 값보다 우선한다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
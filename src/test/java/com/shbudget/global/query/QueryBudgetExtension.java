@@ -0,0 +1,63 @@
+package com.shbudget.global.query;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트마다 SQL 문장 수를 세고 @QueryBudget을 넘으면 실패시키는 확장
+ *
+ * 테스트 스레드에서 실행된 문장만 센다. (MockMvc 요청은 같은 스레드라 포함됨)
+ * QueryCounter를 테스트 메서드 파라미터로 받을 수 있다.
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final int REPEAT_THRESHOLD = 2;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        QueryCounter counter = QueryCounter.open();
+        if (counter == null) {
+            throw new IllegalStateException("QueryCounter is already open on this thread");
+        }
+        context.getStore(NAMESPACE).put(QueryCounter.class, counter);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryCounter counter = context.getStore(NAMESPACE).remove(QueryCounter.class, QueryCounter.class);
+        if (counter == null) {
+            return;
+        }
+        counter.close();
+
+        Optional<QueryBudget> budget = context.getTestMethod()
+                .map(method -> method.getAnnotation(QueryBudget.class))
+                .or(() -> context.getTestClass().map(type -> type.getAnnotation(QueryBudget.class)));
+        if (budget.isPresent() && counter.getCount() > budget.get().value()) {
+            Map<String, Integer> repeated = counter.getRepeatedShapes(REPEAT_THRESHOLD);
+            String details = repeated.entrySet().stream()
+                    .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                    .collect(Collectors.joining("\n"));
+            throw new AssertionError("Expected at most " + budget.get().value() + " statements but was "
+                    + counter.getCount() + (details.isEmpty() ? "" : "\nRepeated statements:\n" + details));
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(QueryCounter.class, QueryCounter.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.shbudget.global.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(QueryBudgetExtension.class)
+@QueryBudget(2)
+class QueryBudgetExtensionTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    @DisplayName("준비 단계 문장은 reset으로 제외하고 예산 안에서 실행")
+    void withinBudget(QueryCounter counter) {
+        // given
+        inspector.inspect("insert into books values (?)");
+        inspector.inspect("insert into books values (?)");
+        inspector.inspect("insert into books values (?)");
+        counter.reset();
+
+        // when
+        inspector.inspect("select * from books where id=?");
+        inspector.inspect("select * from assets where book_id=?");
+
+        // then
+        assertThat(counter.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @QueryBudget(5)
+    @DisplayName("메서드에 붙인 예산이 클래스 예산보다 우선")
+    void methodBudgetOverridesClass(QueryCounter counter) {
+        // when
+        for (int i = 0; i < 5; i++) {
+            inspector.inspect("select * from assets where id=?");
+        }
+
+        // then
+        assertThat(counter.getCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 afterEach가 실패하고 반복된 문장 모양을 보여준다")
+    void overBudget_failsWithRepeatedShapes() {
+        // given
+        // 이 테스트 스레드에는 바깥 확장의 집계가 이미 열려 있으므로 별도 스레드에서 확장을 실행한다
+        ExtensionContext context = mock(ExtensionContext.class);
+        ExtensionContext.Store store = mock(ExtensionContext.Store.class);
+        given(context.getStore(any())).willReturn(store);
+        given(context.getTestMethod()).willReturn(Optional.empty());
+        given(context.getTestClass()).willReturn(Optional.<Class<?>>of(QueryBudgetExtensionTest.class));
+        QueryBudgetExtension extension = new QueryBudgetExtension();
+
+        // when
+        Throwable thrown = CompletableFuture.supplyAsync(() -> {
+            extension.beforeEach(context);
+            ArgumentCaptor<Object> counter = ArgumentCaptor.forClass(Object.class);
+            verify(store).put(eq(QueryCounter.class), counter.capture());
+            given(store.remove(QueryCounter.class, QueryCounter.class)).willReturn((QueryCounter) counter.getValue());
+
+            inspector.inspect("select * from assets where id=1");
+            inspector.inspect("select * from assets where id=2");
+            inspector.inspect("select * from categories where id=?");
+            try {
+                extension.afterEach(context);
+                return null;
+            } catch (Throwable e) {
+                return e;
+            }
+        }).join();
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Expected at most 2 statements but was 3"
+                        + "\nRepeated statements:\n"
+                        + "  2x select * from assets where id=?");
+    }
+}
@@ -0,0 +1,84 @@
+package com.shbudget.global.query;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCounterTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null) {
+            counter.close();
+        }
+    }
+
+    @Test
+    @DisplayName("열린 집계가 있을 때만 세고, 같은 모양의 문장을 묶는다")
+    void record_groupsByShape() {
+        // given
+        inspector.inspect("select * from assets where id=?");   // 집계 전
+        QueryCounter counter = QueryCounter.open();
+
+        // when
+        inspector.inspect("select a.name from assets a where a.id=?");
+        inspector.inspect("select a.name from assets a where a.id=?");
+        inspector.inspect("select a.name  from assets a\n where a.id=?");
+        inspector.inspect("select * from transactions where book_id=? order by date desc");
+
+        // then
+        assertThat(counter.getCount()).isEqualTo(4);
+        assertThat(counter.getRepeatedShapes(3))
+                .containsExactly(Map.entry("select a.name from assets a where a.id=?", 3));
+    }
+
+    @Test
+    @DisplayName("IN 목록 길이와 리터럴 값이 달라도 같은 모양으로 본다")
+    void shape_normalizesInListsAndLiterals() {
+        assertThat(QueryCounter.shape("select * from members where id in (?,?,?)"))
+                .isEqualTo(QueryCounter.shape("select * from members where id IN ( ? )"));
+        assertThat(QueryCounter.shape("select * from books where name='a''b' limit 20"))
+                .isEqualTo("select * from books where name=? limit ?");
+    }
+
+    @Test
+    @DisplayName("이미 열린 집계가 있으면 새로 열지 않고 바깥 집계가 계속 센다")
+    void open_nested() {
+        // given
+        QueryCounter outer = QueryCounter.open();
+
+        // when
+        QueryCounter inner = QueryCounter.open();
+        inspector.inspect("select 1");
+
+        // then
+        assertThat(inner).isNull();
+        assertThat(outer.getCount()).isEqualTo(1);
+        assertThat(QueryCounter.current()).isSameAs(outer);
+    }
+
+    @Test
+    @DisplayName("reset 이후 문장만 세고, close 후에는 세지 않는다")
+    void resetAndClose() {
+        // given
+        QueryCounter counter = QueryCounter.open();
+        inspector.inspect("insert into books values (?)");
+
+        // when
+        counter.reset();
+        inspector.inspect("select * from books");
+        counter.close();
+        inspector.inspect("select * from books");
+
+        // then
+        assertThat(counter.getCount()).isEqualTo(1);
+        assertThat(QueryCounter.current()).isNull();
+    }
+}
@@ -0,0 +1,313 @@
+package com.shbudget.load;
+
+import com.shbudget.domain.recurring.entity.RecurrenceRule;
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부부 가계부 부하 테스트 데이터 적재 (JDBC batch로 직접 INSERT)
+ *
+ * 가계부마다 회원 2명(소유자/멤버, 비밀번호는 모두 PASSWORD), 자산 3개(생활비 통장, 신용카드, 비상금), 카테고리 12개,
+ * 반복 거래 5건(월세, 통신비, 보험, 급여 2건)을 만들고 [start, end] 기간의 거래를 날짜순으로 생성한다.
+ * - 변동 지출: 하루 평균 평일 2.6건, 주말 3.6건 (포아송), 카테고리 가중치와 카테고리별 중앙값의 로그 정규 금액
+ * - 고정 지출/급여: 반복 거래 규칙의 발생일마다 1건, 매월 26일 생활비 통장 → 비상금 이체
+ * - 등록자: 소유자 55%, 멤버 45%
+ * 자산 잔액은 기간 중 음수가 되지 않도록 시작 잔액을 잡은 뒤 거래를 반영한 최종 값으로 맞춘다.
+ * 거래 id는 DB가 생성하므로 적재 후 애플리케이션이 거래를 추가해도 충돌하지 않는다.
+ * 시드가 고정이므로 같은 파라미터면 같은 데이터가 만들어진다.
+ */
+public class CoupleDatasetGenerator {
+
+    public static final int ASSETS_PER_BOOK = 3;
+    public static final int CASH_ASSET = 0;
+    public static final int CARD_ASSET = 1;
+    public static final int SAVINGS_ASSET = 2;
+    public static final String PASSWORD = "load-test-1234!";
+
+    private static final int BATCH_SIZE = 5000;
+    private static final long BALANCE_CUSHION = 50_000_000L;
+    private static final long MONTHLY_SAVING = 500_000L;
+    private static final int SAVING_DAY = 26;
+
+    private static final String[] ASSET_NAMES = {"생활비 통장", "신용카드", "비상금"};
+
+    // 이름, 색상, 아이콘, 변동 지출 가중치, 금액 중앙값
+    private static final Object[][] CATEGORIES = {
+            {"식비", "#FF7043", "restaurant", 30, 12_000L},
+            {"카페/간식", "#8D6E63", "coffee", 20, 5_500L},
+            {"교통", "#42A5F5", "bus", 15, 3_000L},
+            {"생활용품", "#66BB6A", "shopping_basket", 10, 25_000L},
+            {"쇼핑", "#AB47BC", "shopping_bag", 8, 45_000L},
+            {"문화/여가", "#FFCA28", "movie", 6, 30_000L},
+            {"의료", "#EF5350", "hospital", 3, 20_000L},
+            {"경조사", "#78909C", "gift", 2, 100_000L},
+            {"기타", "#BDBDBD", "etc", 6, 15_000L},
+            {"주거", "#5C6BC0", "home", 0, 0L},
+            {"통신/보험", "#26A69A", "phone", 0, 0L},
+            {"급여", "#29B6F6", "payments", 0, 0L}
+    };
+    public static final int CATEGORIES_PER_BOOK = CATEGORIES.length;
+    private static final int HOUSING_CATEGORY = 9;
+    private static final int BILLS_CATEGORY = 10;
+    private static final int SALARY_CATEGORY = 11;
+    private static final int VARIABLE_WEIGHT_SUM = 100;
+
+    private static final String[][] MEMOS = {
+            {"점심", "저녁 장보기", "배달", "외식"},
+            {"커피", "빵", "편의점"},
+            {"지하철", "버스", "택시", "주유"},
+            {"세제", "휴지", "마트"},
+            {"옷", "온라인 쇼핑"},
+            {"영화", "공연", "여행"},
+            {"병원", "약국"},
+            {"축의금", "부조금"},
+            {"기타"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+    private final List<BatchWriter> writers = new ArrayList<>();
+
+    public CoupleDatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 데이터를 적재하고 생성한 거래 수를 반환
+     * (encodedPassword: 모든 회원에게 넣을 PASSWORD의 해시, 로그인 여정용)
+     */
+    public long generate(int books, LocalDate start, LocalDate end, String encodedPassword) {
+        LocalDateTime createdAt = start.minusDays(1).atStartOfDay();
+
+        BatchWriter members = new BatchWriter("INSERT INTO members (id, email, password, nickname, " +
+                "profile_image_url, created_at, updated_at) VALUES (?, ?, ?, ?, NULL, ?, ?)");
+        BatchWriter bookRows = new BatchWriter("INSERT INTO books (id, name, invite_code, owner_id, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)");
+        BatchWriter bookMembers = new BatchWriter("INSERT INTO book_members (id, book_id, member_id, role, " +
+                "joined_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter assets = new BatchWriter("INSERT INTO assets (id, book_id, name, balance, owner_member_id, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter categories = new BatchWriter("INSERT INTO categories (id, book_id, name, color, icon, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter recurrings = new BatchWriter("INSERT INTO recurring_transactions (id, book_id, type, amount, " +
+                "day_of_month, recurrence_rule, start_date, next_run_at, memo, asset_id, category_id, from_asset_id, " +
+                "to_asset_id, created_by, active, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NULL, NULL, ?, TRUE, ?, ?)");
+        BatchWriter transactions = new BatchWriter("INSERT INTO transactions (book_id, type, amount, asset_id, " +
+                "category_id, from_asset_id, to_asset_id, date, memo, created_by, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+        long transactionCount = 0;
+        for (long bookId = 1; bookId <= books; bookId++) {
+            long owner = ownerOf(bookId);
+            long partner = owner + 1;
+
+            members.add(owner, emailOf(owner), encodedPassword, "회원" + owner, createdAt, createdAt);
+            members.add(partner, emailOf(partner), encodedPassword, "회원" + partner, createdAt, createdAt);
+            bookRows.add(bookId, "우리집 가계부", inviteCode(bookId), owner, createdAt, createdAt);
+            bookMembers.add(owner, bookId, owner, "OWNER", createdAt, createdAt, createdAt);
+            bookMembers.add(partner, bookId, partner, "MEMBER", createdAt, createdAt, createdAt);
+            for (int i = 0; i < CATEGORIES_PER_BOOK; i++) {
+                categories.add(categoryIdOf(bookId, i), bookId, CATEGORIES[i][0], CATEGORIES[i][1], CATEGORIES[i][2],
+                        createdAt, createdAt);
+            }
+
+            List<FixedItem> fixedItems = fixedItems(owner, partner);
+            for (int i = 0; i < fixedItems.size(); i++) {
+                FixedItem item = fixedItems.get(i);
+                LocalDate nextOccurrence = item.rule().firstOnOrAfter(start, end.plusDays(1));
+                recurrings.add((bookId - 1) * fixedItems.size() + i + 1, bookId, item.type(), item.amount(),
+                        item.dayOfMonth(), item.rule().toString(), start,
+                        RecurringTransaction.runAtOf(item.dayOfMonth(), nextOccurrence), item.memo(),
+                        assetIdOf(bookId, CASH_ASSET), categoryIdOf(bookId, item.category()), item.createdBy(),
+                        createdAt, createdAt);
+            }
+
+            LocalDate[] nextFixed = new LocalDate[fixedItems.size()];
+            for (int i = 0; i < fixedItems.size(); i++) {
+                nextFixed[i] = fixedItems.get(i).rule().firstOnOrAfter(start, start);
+            }
+
+            // 날짜순으로 생성하며 자산별 잔액 변화와 최저점을 추적
+            // (거래가 자산보다 먼저 INSERT되지 않도록 가계부 단위로 모아 둔다)
+            List<Object[]> bookTransactions = new ArrayList<>();
+            long[] balance = new long[ASSETS_PER_BOOK];
+            long[] lowest = new long[ASSETS_PER_BOOK];
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                for (int i = 0; i < fixedItems.size(); i++) {
+                    FixedItem item = fixedItems.get(i);
+                    if (day.equals(nextFixed[i])) {
+                        nextFixed[i] = item.rule().nextAfter(start, day);
+                        long amount = item.type().equals("INCOME") ? item.amount() : -item.amount();
+                        balance[CASH_ASSET] += amount;
+                        bookTransactions.add(new Object[]{bookId, item.type(), item.amount(),
+                                assetIdOf(bookId, CASH_ASSET), categoryIdOf(bookId, item.category()), null, null,
+                                day, item.memo(),
+                                item.createdBy(), day.atTime(9, 0), day.atTime(9, 0)});
+                    }
+                }
+                if (day.getDayOfMonth() == SAVING_DAY) {
+                    balance[CASH_ASSET] -= MONTHLY_SAVING;
+                    balance[SAVINGS_ASSET] += MONTHLY_SAVING;
+                    bookTransactions.add(new Object[]{bookId, "TRANSFER", MONTHLY_SAVING, null, null,
+                            assetIdOf(bookId, CASH_ASSET), assetIdOf(bookId, SAVINGS_ASSET), day, "비상금 적립",
+                            owner, day.atTime(10, 0), day.atTime(10, 0)});
+                }
+
+                boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+                int count = poisson(weekend ? 3.6 : 2.6);
+                for (int n = 0; n < count; n++) {
+                    int category = pickVariableCategory();
+                    int asset = random.nextInt(100) < 65 ? CASH_ASSET : CARD_ASSET;
+                    long amount = amount((Long) CATEGORIES[category][4]);
+                    balance[asset] -= amount;
+                    LocalDateTime at = day.atTime(LocalTime.of(8 + random.nextInt(14), random.nextInt(60)));
+                    bookTransactions.add(new Object[]{bookId, "EXPENSE", amount, assetIdOf(bookId, asset),
+                            categoryIdOf(bookId, category), null, null, day, memo(category),
+                            random.nextInt(100) < 55 ? owner : partner, at, at});
+                }
+                for (int i = 0; i < ASSETS_PER_BOOK; i++) {
+                    lowest[i] = Math.min(lowest[i], balance[i]);
+                }
+            }
+
+            for (int i = 0; i < ASSETS_PER_BOOK; i++) {
+                Long ownerMemberId = i == CARD_ASSET ? owner : null;
+                assets.add(assetIdOf(bookId, i), bookId, ASSET_NAMES[i], BALANCE_CUSHION - lowest[i] + balance[i],
+                        ownerMemberId, createdAt, createdAt);
+            }
+            bookTransactions.forEach(transactions::add);
+            transactionCount += bookTransactions.size();
+        }
+
+        flushAll();
+        return transactionCount;
+    }
+
+    public static long ownerOf(long bookId) {
+        return bookId * 2 - 1;
+    }
+
+    public static String emailOf(long memberId) {
+        return "load" + memberId + "@shbudget.com";
+    }
+
+    public static long assetIdOf(long bookId, int index) {
+        return (bookId - 1) * ASSETS_PER_BOOK + index + 1;
+    }
+
+    public static long categoryIdOf(long bookId, int index) {
+        return (bookId - 1) * CATEGORIES_PER_BOOK + index + 1;
+    }
+
+    /**
+     * 변동 지출 카테고리 수 (인덱스 0부터, 워크로드의 지출 추가에서 사용)
+     */
+    public static int variableCategoryCount() {
+        return HOUSING_CATEGORY;
+    }
+
+    // === Private Helper Methods ===
+
+    private record FixedItem(String type, long amount, Integer dayOfMonth, RecurrenceRule rule, String memo,
+                             int category, long createdBy) {
+    }
+
+    private List<FixedItem> fixedItems(long owner, long partner) {
+        int ownerPayday = random.nextInt(100) < 70 ? 25 : 10;
+        return List.of(
+                new FixedItem("EXPENSE", 600_000L + random.nextInt(10) * 100_000L, 1, RecurrenceRule.monthly(1),
+                        "월세", HOUSING_CATEGORY, owner),
+                new FixedItem("EXPENSE", 90_000L + random.nextInt(6) * 10_000L, 15, RecurrenceRule.monthly(15),
+                        "통신비", BILLS_CATEGORY, partner),
+                new FixedItem("EXPENSE", 150_000L + random.nextInt(10) * 10_000L, 20, RecurrenceRule.monthly(20),
+                        "보험", BILLS_CATEGORY, owner),
+                new FixedItem("INCOME", 2_800_000L + random.nextInt(20) * 100_000L, ownerPayday,
+                        RecurrenceRule.monthly(ownerPayday), "급여", SALARY_CATEGORY, owner),
+                new FixedItem("INCOME", 2_500_000L + random.nextInt(20) * 100_000L, 25,
+                        RecurrenceRule.monthly(25), "급여", SALARY_CATEGORY, partner)
+        );
+    }
+
+    private int pickVariableCategory() {
+        int pick = random.nextInt(VARIABLE_WEIGHT_SUM);
+        for (int i = 0; i < HOUSING_CATEGORY; i++) {
+            pick -= (Integer) CATEGORIES[i][3];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return HOUSING_CATEGORY - 1;
+    }
+
+    // 중앙값 기준 로그 정규 분포, 100원 단위
+    private long amount(long median) {
+        long amount = Math.round(median * Math.exp(0.6 * random.nextGaussian()) / 100) * 100;
+        return Math.max(amount, 100);
+    }
+
+    private String memo(int category) {
+        if (random.nextInt(100) < 30) {
+            return null;
+        }
+        String[] memos = MEMOS[category];
+        return memos[random.nextInt(memos.length)];
+    }
+
+    private int poisson(double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    // 생성 순서(= 참조 순서)대로 반영해 거래가 자산/회원보다 먼저 들어가지 않도록 한다
+    private void flushAll() {
+        writers.forEach(BatchWriter::flush);
+    }
+
+    private static String inviteCode(long bookId) {
+        String code = Long.toString(bookId, 36).toUpperCase();
+        return "0".repeat(Math.max(6 - code.length(), 0)) + code;
+    }
+
+    /**
+     * BATCH_SIZE 단위로 INSERT (하나가 차면 전체를 반영)
+     */
+    private class BatchWriter {
+
+        private final String sql;
+        private final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        BatchWriter(String sql) {
+            this.sql = sql;
+            writers.add(this);
+        }
+
+        void add(Object... row) {
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                flushAll();
+            }
+        }
+
+        void flush() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+}
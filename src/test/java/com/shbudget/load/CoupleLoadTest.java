@@ -0,0 +1,140 @@
+package com.shbudget.load;
+
+import com.shbudget.global.config.jwt.JwtProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부부 가계부 부하 테스트 (./gradlew load)
+ *
+ * 부부 가계부 데이터를 적재한 뒤 임베디드 서버(임의 포트)에 주요 사용 시나리오를 반복 호출하고
+ * 요청별/여정별 p50/p95/p99와 처리량을 출력한다. 외부 서비스는 사용하지 않는다. (푸시 구독을 만들지 않음)
+ * 기본값(가계부 1,500개 x 3년)은 약 500만 건의 거래를 만든다.
+ *
+ * 규모 조정: -Dload.books=200 -Dload.years=1 -Dload.users=32 -Dload.duration-seconds=60
+ * MySQL 대상: -Dspring.datasource.url=jdbc:mysql://...&rewriteBatchedStatements=true -Dspring.datasource.username=...
+ *            -Dspring.datasource.password=... -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect
+ * 적재된 DB 재사용: -Dload.seed=false -Dspring.jpa.hibernate.ddl-auto=none (같은 books/years/end-date로 적재한 DB)
+ * 별도로 띄운 인스턴스 측정: -Dload.base-url=http://host:8080 (같은 DB, 같은 jwt.secret이어야 함)
+ * 로그인 폭주 중 API 응답 시간: -Dload.login-users=0 과 -Dload.login-users=64 의 "API 전체" p99를 비교
+ *            (-Dload.max-api-p99-ms=... 를 주면 API 전체 p99가 그 값을 넘을 때 실패)
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load")
+class CoupleLoadTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${load.base-url:}")
+    private String baseUrl;
+
+    @Value("${load.seed}")
+    private boolean seed;
+
+    @Value("${load.books}")
+    private int books;
+
+    @Value("${load.years}")
+    private int years;
+
+    @Value("${load.end-date}")
+    private LocalDate endDate;
+
+    @Value("${load.users}")
+    private int users;
+
+    @Value("${load.login-users}")
+    private int loginUsers;
+
+    @Value("${load.max-api-p99-ms:0}")
+    private double maxApiP99Millis;
+
+    @Value("${load.warmup-seconds}")
+    private long warmupSeconds;
+
+    @Value("${load.duration-seconds}")
+    private long durationSeconds;
+
+    @Value("${load.think-time-ms}")
+    private long thinkTimeMillis;
+
+    @Test
+    @DisplayName("주요 사용 시나리오의 응답 시간 분포와 처리량을 측정한다")
+    void runCoupleWorkload() throws InterruptedException {
+        // given
+        LocalDate startDate = endDate.minusYears(years).plusDays(1);
+        if (seed) {
+            long seedStartedAt = System.nanoTime();
+            long transactions = new CoupleDatasetGenerator(jdbcTemplate)
+                    .generate(books, startDate, endDate, passwordEncoder.encode(CoupleDatasetGenerator.PASSWORD));
+            log.info("[부하] 적재 완료 - 가계부: {}개, 기간: {} ~ {}, 거래: {}건, 소요: {}ms",
+                    books, startDate, endDate, transactions, (System.nanoTime() - seedStartedAt) / 1_000_000);
+        }
+        String target = baseUrl.isBlank() ? "http://localhost:" + port : baseUrl;
+        CoupleWorkload workload = new CoupleWorkload(target, jwtProvider, books, startDate, endDate);
+
+        // when
+        log.info("[부하] 시작 - 대상: {}, 사용자: {}명, 로그인 사용자: {}명, 워밍업: {}s, 측정: {}s, 대기: {}ms",
+                target, users, loginUsers, warmupSeconds, durationSeconds, thinkTimeMillis);
+        CoupleWorkload.Result result = workload.run(users, loginUsers, Duration.ofSeconds(warmupSeconds),
+                Duration.ofSeconds(durationSeconds), Duration.ofMillis(thinkTimeMillis));
+
+        // then
+        LatencyRecorder requests = result.requests();
+        log.info("[부하] 결과 - 요청: {}건, 오류: {}건, 측정: {}ms, 처리량: {} req/s",
+                requests.getTotalCount(), requests.getTotalErrors(), result.elapsedNanos() / 1_000_000,
+                String.format("%.1f", requests.getTotalCount() * 1_000_000_000.0 / result.elapsedNanos()));
+        report("요청", requests, result.elapsedNanos());
+        report("여정", result.journeys(), result.elapsedNanos());
+        if (loginUsers > 0) {
+            report("로그인", result.logins(), result.elapsedNanos());
+        }
+        LatencyRecorder.Summary api = requests.summarizeAll("API 전체", result.elapsedNanos());
+        log.info("[부하] API 전체 - p50: {}ms, p95: {}ms, p99: {}ms (로그인 사용자: {}명)",
+                String.format("%.2f", api.p50Millis()), String.format("%.2f", api.p95Millis()),
+                String.format("%.2f", api.p99Millis()), loginUsers);
+
+        assertThat(requests.getTotalCount()).isPositive();
+        assertThat(requests.getTotalErrors()).isZero();
+        if (maxApiP99Millis > 0) {
+            assertThat(api.p99Millis()).isLessThanOrEqualTo(maxApiP99Millis);
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private void report(String title, LatencyRecorder recorder, long elapsedNanos) {
+        log.info(String.format("[부하] %s %-38s %9s %7s %9s %9s %9s %9s %9s",
+                title, "name", "count", "errors", "rps", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (LatencyRecorder.Summary summary : recorder.summarize(elapsedNanos)) {
+            log.info(String.format("[부하] %s %-38s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f",
+                    title, summary.name(), summary.count(), summary.errors(), summary.throughput(),
+                    summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.shbudget.load;
+
+import com.shbudget.global.config.jwt.JwtProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부부 가계부 사용 시나리오 부하 발생기 (closed loop)
+ *
+ * 가상 사용자마다 가상 스레드 하나가 임의의 가계부/회원을 골라 아래 여정을 가중치대로 반복한다.
+ * - OPEN_APP(40): 내 가계부 목록 → 이번 달 요약 → 이번 달 거래 목록
+ * - LIST_MONTH(25): 지난 달 중 하나의 거래 목록
+ * - ADD_EXPENSE(20): 카테고리 목록 → 자산 목록 → 지출 등록
+ * - VIEW_STATS(15): 카테고리별 통계 → 멤버별 기여도
+ * 요청별, 여정별 응답 시간을 기록하며 워밍업 구간은 기록하지 않는다.
+ * 토큰은 대상 서버와 같은 jwt.secret의 JwtProvider로 회원마다 한 번 발급한다.
+ *
+ * 로그인 폭주: loginUsers명이 쉬지 않고 임의 회원으로 로그인(BCrypt)을 반복한다.
+ * 로그인 요청은 별도로 기록하므로, loginUsers 0과 N의 API 전체 p99를 비교하면
+ * 로그인 폭주가 일반 API 응답 시간에 주는 영향을 확인할 수 있다.
+ * (해싱 대기열 초과로 거절된 로그인(429)은 로그인 오류로만 집계)
+ */
+@Slf4j
+public class CoupleWorkload {
+
+    private static final int MAX_LOGGED_ERRORS = 10;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String LOGIN = "LOGIN";
+
+    public enum Journey {
+        OPEN_APP(40), LIST_MONTH(25), ADD_EXPENSE(20), VIEW_STATS(15);
+
+        private final int weight;
+
+        Journey(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record Result(LatencyRecorder requests, LatencyRecorder journeys, LatencyRecorder logins,
+                         long elapsedNanos) {
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final JwtProvider jwtProvider;
+    private final int books;
+    private final YearMonth firstMonth;
+    private final LocalDate today;
+    private final ConcurrentHashMap<Long, String> tokens = new ConcurrentHashMap<>();
+    private final AtomicInteger loggedErrors = new AtomicInteger();
+    private volatile LatencyRecorder requests;
+    private volatile LatencyRecorder journeys;
+    private volatile LatencyRecorder logins;
+
+    public CoupleWorkload(String baseUrl, JwtProvider jwtProvider, int books, LocalDate firstDay, LocalDate today) {
+        this.baseUrl = baseUrl;
+        this.jwtProvider = jwtProvider;
+        this.books = books;
+        this.firstMonth = YearMonth.from(firstDay);
+        this.today = today;
+    }
+
+    /**
+     * users명이 warmup 후 duration 동안 여정을 반복 (thinkTime: 여정 사이 대기)
+     * loginUsers명은 같은 기간 동안 로그인만 반복
+     */
+    public Result run(int users, int loginUsers, Duration warmup, Duration duration, Duration thinkTime)
+            throws InterruptedException {
+        LatencyRecorder measuredRequests = new LatencyRecorder();
+        LatencyRecorder measuredJourneys = new LatencyRecorder();
+        LatencyRecorder measuredLogins = new LatencyRecorder();
+        long endsAt = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+        long measureStartedAt;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                Random random = new Random(user);
+                executor.submit(() -> runUser(random, endsAt, thinkTime));
+            }
+            for (int user = 0; user < loginUsers; user++) {
+                Random random = new Random(-user - 1);
+                executor.submit(() -> runLoginUser(random, endsAt));
+            }
+            Thread.sleep(warmup);
+            logins = measuredLogins;
+            journeys = measuredJourneys;
+            requests = measuredRequests;
+            measureStartedAt = System.nanoTime();
+        }
+        return new Result(measuredRequests, measuredJourneys, measuredLogins, System.nanoTime() - measureStartedAt);
+    }
+
+    // === Private Helper Methods ===
+
+    private void runUser(Random random, long endsAt, Duration thinkTime) {
+        while (System.nanoTime() < endsAt) {
+            long bookId = random.nextInt(books) + 1;
+            long memberId = CoupleDatasetGenerator.ownerOf(bookId) + random.nextInt(2);
+            Journey journey = pickJourney(random);
+
+            long startedAt = System.nanoTime();
+            boolean success = switch (journey) {
+                case OPEN_APP -> openApp(memberId, bookId);
+                case LIST_MONTH -> listMonth(memberId, bookId, random);
+                case ADD_EXPENSE -> addExpense(memberId, bookId, random);
+                case VIEW_STATS -> viewStats(memberId, bookId, random);
+            };
+            record(journeys, journey.name(), System.nanoTime() - startedAt, success);
+
+            if (!thinkTime.isZero()) {
+                try {
+                    Thread.sleep(thinkTime);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runLoginUser(Random random, long endsAt) {
+        while (System.nanoTime() < endsAt && !Thread.currentThread().isInterrupted()) {
+            long memberId = CoupleDatasetGenerator.ownerOf(random.nextInt(books) + 1) + random.nextInt(2);
+            long startedAt = System.nanoTime();
+            boolean success = login(memberId);
+            record(logins, LOGIN, System.nanoTime() - startedAt, success);
+        }
+    }
+
+    private boolean login(long memberId) {
+        String body = "{\"email\":\"" + CoupleDatasetGenerator.emailOf(memberId)
+                + "\",\"password\":\"" + CoupleDatasetGenerator.PASSWORD + "\"}";
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        return send(logins, memberId, "POST /api/auth/login", request);
+    }
+
+    private boolean openApp(long memberId, long bookId) {
+        YearMonth month = YearMonth.from(today);
+        return get(memberId, "/api/books/my/all", "")
+                && get(memberId, "/api/statistics/monthly-summary",
+                "?bookId=" + bookId + "&year=" + month.getYear() + "&month=" + month.getMonthValue())
+                && get(memberId, "/api/transactions", "?bookId=" + bookId + "&month=" + month);
+    }
+
+    private boolean listMonth(long memberId, long bookId, Random random) {
+        return get(memberId, "/api/transactions", "?bookId=" + bookId + "&month=" + pastMonth(random));
+    }
+
+    private boolean addExpense(long memberId, long bookId, Random random) {
+        long assetId = CoupleDatasetGenerator.assetIdOf(bookId,
+                random.nextInt(100) < 65 ? CoupleDatasetGenerator.CASH_ASSET : CoupleDatasetGenerator.CARD_ASSET);
+        long categoryId = CoupleDatasetGenerator.categoryIdOf(bookId,
+                random.nextInt(CoupleDatasetGenerator.variableCategoryCount()));
+        long amount = (random.nextInt(300) + 10) * 100L;
+        String body = "{\"bookId\":" + bookId + ",\"type\":\"EXPENSE\",\"assetId\":" + assetId
+                + ",\"categoryId\":" + categoryId + ",\"amount\":" + amount
+                + ",\"date\":\"" + today + "\",\"memo\":\"부하 테스트\"}";
+
+        return get(memberId, "/api/categories", "?bookId=" + bookId)
+                && get(memberId, "/api/assets", "?bookId=" + bookId)
+                && send(requests, memberId, "POST /api/transactions", request(memberId, "/api/transactions")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private boolean viewStats(long memberId, long bookId, Random random) {
+        YearMonth month = random.nextInt(100) < 70 ? YearMonth.from(today) : pastMonth(random);
+        String query = "?bookId=" + bookId + "&year=" + month.getYear() + "&month=" + month.getMonthValue();
+        return get(memberId, "/api/statistics/category", query)
+                && get(memberId, "/api/statistics/member-contribution", query);
+    }
+
+    private boolean get(long memberId, String path, String query) {
+        return send(requests, memberId, "GET " + path, request(memberId, path + query).GET());
+    }
+
+    private HttpRequest.Builder request(long memberId, String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token(memberId));
+    }
+
+    private boolean send(LatencyRecorder recorder, long memberId, String label, HttpRequest.Builder request) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            record(recorder, label, System.nanoTime() - startedAt, success);
+            if (!success) {
+                logError(label, memberId, "status " + response.statusCode() + ": " + response.body());
+            }
+            return success;
+        } catch (Exception e) {
+            record(recorder, label, System.nanoTime() - startedAt, false);
+            logError(label, memberId, e.toString());
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    // 워밍업 중에는 기록하지 않음 (recorder == null)
+    private static void record(LatencyRecorder recorder, String name, long elapsedNanos, boolean success) {
+        if (recorder != null) {
+            recorder.record(name, elapsedNanos, success);
+        }
+    }
+
+    private void logError(String label, long memberId, String detail) {
+        if (loggedErrors.incrementAndGet() <= MAX_LOGGED_ERRORS) {
+            log.warn("[부하] 요청 실패 - {}, memberId: {}, {}", label, memberId, detail);
+        }
+    }
+
+    private String token(long memberId) {
+        return tokens.computeIfAbsent(memberId,
+                id -> jwtProvider.createAccessToken(id, jwtProvider.newFamilyId()));
+    }
+
+    private YearMonth pastMonth(Random random) {
+        YearMonth current = YearMonth.from(today);
+        long months = firstMonth.until(current, ChronoUnit.MONTHS);
+        return months <= 0 ? current : current.minusMonths(random.nextLong(months) + 1);
+    }
+
+    private static Journey pickJourney(Random random) {
+        int pick = random.nextInt(100);
+        for (Journey journey : Journey.values()) {
+            pick -= journey.weight;
+            if (pick < 0) {
+                return journey;
+            }
+        }
+        return Journey.OPEN_APP;
+    }
+}
@@ -0,0 +1,114 @@
+package com.shbudget.load;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름(요청/여정)별 응답 시간 기록
+ *
+ * 표본을 모두 보관했다가 요약 시점에 정렬해 정확한 백분위를 계산한다.
+ * (부하 테스트 한 번의 표본 수는 수백만 건 이내라 메모리 부담이 크지 않음)
+ */
+public class LatencyRecorder {
+
+    private final ConcurrentHashMap<String, Samples> samples = new ConcurrentHashMap<>();
+
+    public void record(String name, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(name, key -> new Samples()).add(elapsedNanos, success);
+    }
+
+    /**
+     * 이름순 요약 (elapsedNanos: 측정 구간 길이, 처리량 계산용)
+     */
+    public List<Summary> summarize(long elapsedNanos) {
+        return samples.entrySet().stream()
+                .map(entry -> entry.getValue().summarize(entry.getKey(), elapsedNanos))
+                .sorted(Comparator.comparing(Summary::name))
+                .toList();
+    }
+
+    /**
+     * 모든 이름의 표본을 합친 요약 (예: 전체 API 요청의 p99)
+     */
+    public Summary summarizeAll(String name, long elapsedNanos) {
+        Samples merged = new Samples();
+        samples.values().forEach(merged::addAll);
+        return merged.summarize(name, elapsedNanos);
+    }
+
+    public long getTotalCount() {
+        return samples.values().stream().mapToLong(Samples::count).sum();
+    }
+
+    public long getTotalErrors() {
+        return samples.values().stream().mapToLong(Samples::errors).sum();
+    }
+
+    public record Summary(String name, long count, long errors, double throughput,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    // === Private Helper Methods ===
+
+    private static class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            long[] copied;
+            long otherErrors;
+            synchronized (other) {
+                copied = Arrays.copyOf(other.values, other.size);
+                otherErrors = other.errors;
+            }
+            synchronized (this) {
+                if (size + copied.length > values.length) {
+                    values = Arrays.copyOf(values, Math.max(values.length * 2, size + copied.length));
+                }
+                System.arraycopy(copied, 0, values, size, copied.length);
+                size += copied.length;
+                errors += otherErrors;
+            }
+        }
+
+        synchronized long count() {
+            return size;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized Summary summarize(String name, long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            double throughput = elapsedNanos > 0 ? size * 1_000_000_000.0 / elapsedNanos : 0.0;
+            return new Summary(name, size, errors, throughput,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    size == 0 ? 0.0 : sorted[size - 1] / 1_000_000.0);
+        }
+
+        // nearest-rank
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+        }
+    }
+}
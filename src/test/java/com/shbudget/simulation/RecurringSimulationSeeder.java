@@ -0,0 +1,131 @@
+package com.shbudget.simulation;
+
+import com.shbudget.domain.recurring.entity.RecurrenceRule;
+import com.shbudget.domain.recurring.entity.RecurringTransaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 시뮬레이션 데이터 적재 (JDBC batch로 직접 INSERT)
+ *
+ * 가계부마다 부부 회원 2명(소유자/멤버), 자산 1개, 회원마다 푸시 구독 1개를 만들고
+ * 반복 거래는 가계부에 고르게 나눠 규칙 분포대로 생성한다.
+ * - 매월 N일 60%, 매주 15%, 격주 10%, 3개월마다 5%, 말일 영업일 10%
+ * - 지출 85%, 수입 15%
+ * 시드가 고정이므로 같은 파라미터면 같은 데이터가 만들어진다.
+ */
+public class RecurringSimulationSeeder {
+
+    private static final int BATCH_SIZE = 5000;
+    private static final long INITIAL_BALANCE = 10_000_000_000_000L;
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    public RecurringSimulationSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 데이터를 적재하고 [start, end] 구간에 생성되어야 할 거래 수를 반환
+     */
+    public long seed(int books, int recurrings, LocalDate start, LocalDate end) {
+        LocalDateTime createdAt = start.minusDays(1).atStartOfDay();
+
+        insert("INSERT INTO members (id, email, password, nickname, profile_image_url, created_at, updated_at) " +
+                "VALUES (?, ?, NULL, ?, NULL, ?, ?)", books * 2, i -> {
+            long id = i + 1;
+            return new Object[]{id, "sim" + id + "@shbudget.com", "회원" + id, createdAt, createdAt};
+        });
+        insert("INSERT INTO books (id, name, invite_code, owner_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                books, i -> {
+                    long id = i + 1;
+                    return new Object[]{id, "가계부" + id, inviteCode(id), ownerOf(id), createdAt, createdAt};
+                });
+        insert("INSERT INTO book_members (id, book_id, member_id, role, joined_at, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", books * 2, i -> {
+            long bookId = i / 2 + 1;
+            boolean owner = i % 2 == 0;
+            return new Object[]{i + 1L, bookId, owner ? ownerOf(bookId) : ownerOf(bookId) + 1,
+                    owner ? "OWNER" : "MEMBER", createdAt, createdAt, createdAt};
+        });
+        insert("INSERT INTO assets (id, book_id, name, balance, owner_member_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, NULL, ?, ?)", books, i -> {
+            long id = i + 1;
+            return new Object[]{id, id, "생활비 통장", INITIAL_BALANCE, createdAt, createdAt};
+        });
+        insert("INSERT INTO push_subscriptions (id, member_id, endpoint, p256dh, auth, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", books * 2, i -> {
+            long id = i + 1;
+            return new Object[]{id, id, "https://push.simulation.local/" + id, "p256dh", "auth", createdAt, createdAt};
+        });
+
+        long[] expected = new long[1];
+        insert("INSERT INTO recurring_transactions (id, book_id, type, amount, day_of_month, recurrence_rule, " +
+                "start_date, next_run_at, memo, asset_id, category_id, from_asset_id, to_asset_id, created_by, active, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NULL, NULL, NULL, ?, TRUE, ?, ?)",
+                recurrings, i -> {
+                    long id = i + 1;
+                    long bookId = i % books + 1;
+                    Integer dayOfMonth = null;
+                    RecurrenceRule rule;
+                    int pick = random.nextInt(100);
+                    if (pick < 60) {
+                        dayOfMonth = random.nextInt(31) + 1;
+                        rule = RecurrenceRule.monthly(dayOfMonth);
+                    } else if (pick < 75) {
+                        rule = RecurrenceRule.weekly(DAYS[random.nextInt(7)]);
+                    } else if (pick < 85) {
+                        rule = RecurrenceRule.everyWeeks(2, DAYS[random.nextInt(7)]);
+                    } else if (pick < 90) {
+                        rule = RecurrenceRule.everyMonths(3, random.nextInt(28) + 1);
+                    } else {
+                        rule = RecurrenceRule.lastBusinessDay();
+                    }
+                    expected[0] += rule.occurrencesBetween(start, start, end).size();
+
+                    String type = random.nextInt(100) < 85 ? "EXPENSE" : "INCOME";
+                    long amount = (random.nextInt(500) + 5) * 1000L;
+                    LocalDateTime nextRunAt = RecurringTransaction.runAtOf(dayOfMonth, rule.firstOnOrAfter(start, start));
+                    return new Object[]{id, bookId, type, amount, dayOfMonth, rule.toString(), start, nextRunAt,
+                            "반복 " + id, bookId, ownerOf(bookId), createdAt, createdAt};
+                });
+        return expected[0];
+    }
+
+    // === Private Helper Methods ===
+
+    private interface RowMapper {
+        Object[] row(int index);
+    }
+
+    private void insert(String sql, int count, RowMapper mapper) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(mapper.row(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private static long ownerOf(long bookId) {
+        return bookId * 2 - 1;
+    }
+
+    private static String inviteCode(long bookId) {
+        String code = Long.toString(bookId, 36).toUpperCase();
+        return "0".repeat(Math.max(6 - code.length(), 0)) + code;
+    }
+}
@@ -0,0 +1,169 @@
+package com.shbudget.simulation;
+
+import com.shbudget.domain.pushsubscription.service.PushDispatcher;
+import com.shbudget.domain.recurring.scheduler.RecurringExecutionEngine;
+import com.shbudget.domain.recurring.scheduler.RecurringExecutionReport;
+import com.shbudget.domain.recurring.scheduler.RecurringTransactionScheduler;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반복 거래 엔진 시뮬레이션 (./gradlew simulation)
+ *
+ * 대량의 가계부/반복 거래를 적재한 뒤 가상 시계를 하루씩 옮기며
+ * 00:00 실행(엔진)과 21:00 실행 + 알림(스케줄러)을 지정한 개월 수만큼 재생한다.
+ * (매월 N일 항목은 매월 1일 21:00에, 반복 규칙 항목은 발생일 0시에 생성된다)
+ * 타이밍 휠은 실제 시간으로 돌기 때문에 디스패처는 끄고 엔진을 직접 호출한다.
+ * 푸시는 실제로 보내지 않고 발송 요청 수만 센다.
+ *
+ * 규모 조정: -Dsimulation.recurrings=100000 -Dsimulation.books=20000 -Dsimulation.months=3
+ * MySQL 대상: -Dspring.datasource.url=jdbc:mysql://... -Dspring.datasource.username=... -Dspring.datasource.password=...
+ *            -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect
+ */
+@Slf4j
+@Tag("simulation")
+@SpringBootTest
+@ActiveProfiles("simulation")
+class RecurringSimulationTest {
+
+    @Autowired
+    private SimulationClock clock;
+
+    @Autowired
+    private RecurringExecutionEngine recurringExecutionEngine;
+
+    @Autowired
+    private RecurringTransactionScheduler recurringTransactionScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AtomicLong pushCounter;
+
+    @Value("${simulation.books}")
+    private int books;
+
+    @Value("${simulation.recurrings}")
+    private int recurrings;
+
+    @Value("${simulation.months}")
+    private int months;
+
+    @Value("${simulation.start-date}")
+    private LocalDate startDate;
+
+    @Value("${push.coalesce.window-ms:5000}")
+    private long coalesceWindowMillis;
+
+    @Test
+    @DisplayName("지정한 기간 동안 모든 발생일의 거래가 한 번씩 생성된다")
+    void replayRecurringSchedule() throws InterruptedException {
+        // given
+        LocalDate endDate = startDate.plusMonths(months).minusDays(1);
+        long seedStartedAt = System.nanoTime();
+        long expected = new RecurringSimulationSeeder(jdbcTemplate).seed(books, recurrings, startDate, endDate);
+        log.info("[시뮬레이션] 적재 완료 - 가계부: {}개, 반복 거래: {}건, 예상 거래: {}건, 소요: {}ms",
+                books, recurrings, expected, (System.nanoTime() - seedStartedAt) / 1_000_000);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        long succeeded = 0;
+        long skipped = 0;
+        long failed = 0;
+        long executionMillis = 0;
+        long notifyMillis = 0;
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            clock.set(day.atTime(0, 0, 1));
+            RecurringExecutionReport report = recurringExecutionEngine.executeDue(LocalDateTime.now(clock));
+            succeeded += report.succeeded();
+            skipped += report.skipped();
+            failed += report.failed();
+            executionMillis += report.elapsedMillis();
+
+            // 알림 작업은 실행 작업(RecurringCatchUpJob) 다음에 돈다
+            clock.set(day.atTime(21, 0));
+            RecurringExecutionReport evening = recurringExecutionEngine.executeDue(LocalDateTime.now(clock));
+            succeeded += evening.succeeded();
+            skipped += evening.skipped();
+            failed += evening.failed();
+            executionMillis += evening.elapsedMillis();
+            long notifyStartedAt = System.nanoTime();
+            recurringTransactionScheduler.notifyUpcomingRecurringTransactions();
+            notifyMillis += (System.nanoTime() - notifyStartedAt) / 1_000_000;
+        }
+        long statements = statistics.getPrepareStatementCount();
+        // 공동 작업자 알림은 코얼레서 window가 지나야 발송된다
+        Thread.sleep(coalesceWindowMillis + 1000);
+
+        // then
+        long created = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions", Long.class);
+        log.info("[시뮬레이션] 결과 - 기간: {} ~ {}, 생성: {}건, 중복: {}건, 실패: {}건", startDate, endDate, succeeded, skipped, failed);
+        log.info("[시뮬레이션] 실행 - 소요: {}ms, 처리량: {}/s, 거래당 SQL: {}",
+                executionMillis,
+                String.format("%.1f", executionMillis == 0 ? 0.0 : succeeded * 1000.0 / executionMillis),
+                String.format("%.2f", succeeded == 0 ? 0.0 : (double) statements / succeeded));
+        log.info("[시뮬레이션] 알림 - 소요: {}ms, 푸시 발송 요청: {}건", notifyMillis, pushCounter.get());
+
+        assertThat(failed).isZero();
+        assertThat(succeeded).isEqualTo(expected);
+        assertThat(created).isEqualTo(expected);
+    }
+
+    @TestConfiguration
+    static class SimulationConfig {
+
+        @Bean
+        @Primary
+        SimulationClock simulationClock(@Value("${simulation.start-date}") LocalDate startDate) {
+            return new SimulationClock(startDate.atStartOfDay(), ZoneId.of("Asia/Seoul"));
+        }
+
+        @Bean
+        AtomicLong pushCounter() {
+            return new AtomicLong();
+        }
+
+        /**
+         * 실제 발송 대신 호출 수만 센다
+         */
+        @Bean
+        @Primary
+        PushDispatcher countingPushDispatcher(AtomicLong pushCounter) {
+            return Mockito.mock(PushDispatcher.class, Mockito.withSettings().stubOnly().defaultAnswer(invocation -> {
+                if (invocation.getMethod().getName().equals("dispatch")) {
+                    pushCounter.incrementAndGet();
+                }
+                return invocation.getMethod().getReturnType() == boolean.class
+                        ? Boolean.TRUE
+                        : Mockito.RETURNS_DEFAULTS.answer(invocation);
+            }));
+        }
+    }
+}
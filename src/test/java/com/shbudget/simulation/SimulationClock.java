@@ -0,0 +1,39 @@
+package com.shbudget.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 시뮬레이션용 가상 시계 (set으로 원하는 시각으로 이동)
+ */
+public class SimulationClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    public SimulationClock(LocalDateTime start, ZoneId zone) {
+        this.zone = zone;
+        this.instant = start.atZone(zone).toInstant();
+    }
+
+    public void set(LocalDateTime dateTime) {
+        this.instant = dateTime.atZone(zone).toInstant();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new SimulationClock(LocalDateTime.ofInstant(instant, zone), zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}